@@ -18,6 +18,7 @@ package org.jboss.weld.annotated.runtime;
 
 import static org.jboss.weld.util.reflection.Reflections.cast;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Collections;
@@ -28,6 +29,7 @@ import javax.enterprise.inject.spi.AnnotatedMethod;
 
 import org.jboss.weld.util.annotated.ForwardingAnnotatedMethod;
 import org.jboss.weld.util.collections.WeldCollections;
+import org.jboss.weld.util.reflection.MethodInvokers;
 
 /**
  * An implementation of {@link AnnotatedMethod} used at runtime for invoking Java methods.
@@ -69,21 +71,39 @@ public class InvokableAnnotatedMethod<T> extends ForwardingAnnotatedMethod<T> {
      * @return A reference to the instance
      */
     public <X> X invokeOnInstance(Object instance, Object... parameters) throws IllegalArgumentException, SecurityException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+        MethodHandle invoker = getInvoker(instance.getClass());
+        try {
+            return cast((Object) invoker.invokeExact(instance, parameters));
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Returns the spread invoker of the method declared by or inherited by the given class, see
+     * {@link MethodInvokers#getSpreadInvoker(Method)}. Contrary to {@link #invokeOnInstance(Object, Object...)}, an exception thrown by the method is not
+     * wrapped.
+     *
+     * @param instanceClass the class of the instance the method is invoked on
+     * @return the invoker of type <code>(Object, Object[])Object</code>
+     * @throws NoSuchMethodException
+     */
+    public MethodHandle getInvoker(Class<?> instanceClass) throws NoSuchMethodException {
         final Map<Class<?>, Method> methods = this.methods;
-        Method method = methods.get(instance.getClass());
+        Method method = methods.get(instanceClass);
         if (method == null) {
             // the same method may be written to the map twice, but that is ok
             // lookupMethod is very slow
             Method delegate = annotatedMethod.getJavaMember();
-            method = SecurityActions.lookupMethod(instance.getClass(), delegate.getName(), delegate.getParameterTypes());
+            method = SecurityActions.lookupMethod(instanceClass, delegate.getName(), delegate.getParameterTypes());
             SecurityActions.ensureAccessible(method);
             synchronized (this) {
                 final Map<Class<?>, Method> newMethods = new HashMap<Class<?>, Method>(methods);
-                newMethods.put(instance.getClass(), method);
+                newMethods.put(instanceClass, method);
                 this.methods = WeldCollections.immutableMapView(newMethods);
             }
         }
-        return cast(method.invoke(instance, parameters));
+        return MethodInvokers.getSpreadInvoker(method);
     }
 
     @Override
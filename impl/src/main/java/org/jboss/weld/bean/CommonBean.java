@@ -19,6 +19,7 @@ package org.jboss.weld.bean;
 import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.BeanAttributes;
 
+import org.jboss.weld.contexts.beanstore.BeanIndexer;
 import org.jboss.weld.serialization.spi.BeanIdentifier;
 import org.jboss.weld.util.bean.ForwardingBeanAttributes;
 import org.jboss.weld.util.reflection.Reflections;
@@ -36,6 +37,8 @@ public abstract class CommonBean<T> extends ForwardingBeanAttributes<T> implemen
 
     private final BeanIdentifier identifier;
 
+    private transient volatile BeanIndexer.Index beanStoreIndex;
+
     protected CommonBean(BeanAttributes<T> attributes, BeanIdentifier identifier) {
         this.attributes = attributes;
         this.identifier = identifier;
@@ -97,6 +100,18 @@ public abstract class CommonBean<T> extends ForwardingBeanAttributes<T> implemen
         return identifier;
     }
 
+    /**
+     *
+     * @return the index assigned by a {@link BeanIndexer} or <code>null</code> if no index was assigned yet
+     */
+    public BeanIndexer.Index getBeanStoreIndex() {
+        return beanStoreIndex;
+    }
+
+    public void setBeanStoreIndex(BeanIndexer.Index beanStoreIndex) {
+        this.beanStoreIndex = beanStoreIndex;
+    }
+
     @Override
     public String toString() {
         return getId();
@@ -17,7 +17,9 @@
 package org.jboss.weld.bean;
 
 import java.lang.annotation.Annotation;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.context.ConversationScoped;
@@ -30,6 +32,9 @@ import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.BeanAttributes;
 import javax.inject.Singleton;
 
+import org.jboss.weld.bean.proxy.InstanceCachingClientProxy;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.contexts.cache.RequestScopedCache;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.util.collections.ImmutableSet;
@@ -45,7 +50,8 @@ import org.jboss.weld.util.reflection.Reflections;
  * In addition, specialized implementations are provided.
  *
  * For {@link ApplicationScoped} beans a special strategy is used which caches application-scoped bean instances in a volatile field. This implementation respects
- * the possibility of an instance being destroyed via {@link AlterableContext} and the cached instance is flushed in such case.
+ * the possibility of an instance being destroyed via {@link AlterableContext} and the cached instance is flushed in such case. The client proxies of such beans
+ * may also hold the instance in a field of their own, see {@link InstanceCachingClientProxy}. These fields are flushed together with the cached instance.
  *
  * For {@link SessionScoped}, {@link ConversationScoped} and {@link RequestScoped} beans a special strategy is used which caches contextual bean instances in
  * a {@link ThreadLocal}. This implementation respects the possibility of an instance being destroyed via {@link AlterableContext} and the cached instance is
@@ -64,7 +70,8 @@ public abstract class ContextualInstanceStrategy<T> {
 
     public static <T> ContextualInstanceStrategy<T> create(BeanAttributes<T> bean, BeanManagerImpl manager) {
         if (ApplicationScoped.class == bean.getScope() || Singleton.class == bean.getScope()) {
-            return new ApplicationScopedContextualInstanceStrategy<T>();
+            return new ApplicationScopedContextualInstanceStrategy<T>(
+                    manager.getServices().get(WeldConfiguration.class).getBooleanProperty(ConfigurationKey.PROXY_INSTANCE_CACHE));
         } else if (CachingContextualInstanceStrategy.CACHEABLE_SCOPES.contains(bean.getScope())) {
             return new CachingContextualInstanceStrategy<T>();
         }
@@ -80,6 +87,25 @@ public abstract class ContextualInstanceStrategy<T> {
 
     abstract void destroy(Bean<T> bean);
 
+    /**
+     *
+     * @return <code>true</code> if a client proxy may cache the contextual instance, i.e. if the proxy is notified once the instance is destroyed
+     * @see #addInstanceCachingClientProxy(InstanceCachingClientProxy)
+     */
+    public boolean isClientProxyInstanceCacheSupported() {
+        return false;
+    }
+
+    /**
+     * Registers a client proxy whose cached instance is cleared once the contextual instance is destroyed.
+     *
+     * @param proxy
+     * @throws UnsupportedOperationException if {@link #isClientProxyInstanceCacheSupported()} returns <code>false</code>
+     */
+    public void addInstanceCachingClientProxy(InstanceCachingClientProxy proxy) {
+        throw new UnsupportedOperationException();
+    }
+
     private static class DefaultContextualInstanceStrategy<T> extends ContextualInstanceStrategy<T> {
 
         static final ContextualInstanceStrategy<Object> INSTANCE = new DefaultContextualInstanceStrategy<Object>();
@@ -112,6 +138,12 @@ public abstract class ContextualInstanceStrategy<T> {
 
         private volatile T value;
 
+        private final List<InstanceCachingClientProxy> proxies;
+
+        ApplicationScopedContextualInstanceStrategy(boolean clientProxyInstanceCacheSupported) {
+            this.proxies = clientProxyInstanceCacheSupported ? new CopyOnWriteArrayList<InstanceCachingClientProxy>() : null;
+        }
+
         @Override
         T getIfExists(Bean<T> bean, BeanManagerImpl manager) {
             T instance = value;
@@ -146,6 +178,24 @@ public abstract class ContextualInstanceStrategy<T> {
         @Override
         void destroy(Bean<T> bean) {
             value = null;
+            if (proxies != null) {
+                for (InstanceCachingClientProxy proxy : proxies) {
+                    proxy.weld_clearCachedInstance();
+                }
+            }
+        }
+
+        @Override
+        public boolean isClientProxyInstanceCacheSupported() {
+            return proxies != null;
+        }
+
+        @Override
+        public void addInstanceCachingClientProxy(InstanceCachingClientProxy proxy) {
+            if (proxies == null) {
+                super.addInstanceCachingClientProxy(proxy);
+            }
+            proxies.add(proxy);
         }
     }
 
@@ -54,11 +54,15 @@ class DecoratedMethods {
     }
 
     public InvokableAnnotatedMethod<?> getDecoratedMethod(Method method) {
-        if (!cache.containsKey(method)) {
+        Object value = cache.get(method);
+        if (value == null) {
             // this is not atomic and we may end up doing method lookup more than once - which is fine
-            cache.putIfAbsent(method, findMatchingDecoratedMethod(method));
+            value = findMatchingDecoratedMethod(method);
+            Object previous = cache.putIfAbsent(method, value);
+            if (previous != null) {
+                value = previous;
+            }
         }
-        Object value = cache.get(method);
         if (value == NULL_MARKER) {
             return null;
         } else {
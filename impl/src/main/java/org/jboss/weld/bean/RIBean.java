@@ -39,6 +39,7 @@ public abstract class RIBean<T> extends CommonBean<T> implements PassivationCapa
     protected final BeanManagerImpl beanManager;
     private boolean initialized;
     private volatile Set<QualifierInstance> qualifiers;
+    private volatile long[] qualifierBits;
     private ContextualInstanceStrategy<T> contextualInstanceStrategy;
 
     protected RIBean(BeanAttributes<T> attributes, BeanIdentifier identifier, BeanManagerImpl beanManager) {
@@ -112,6 +113,13 @@ public abstract class RIBean<T> extends CommonBean<T> implements PassivationCapa
         return qualifiers;
     }
 
+    public long[] getQualifierBits() {
+        if (qualifierBits == null) {
+            qualifierBits = beanManager.getServices().get(MetaAnnotationStore.class).getQualifierBits(getQualifierInstances());
+        }
+        return qualifierBits;
+    }
+
     public ContextualInstanceStrategy<T> getContextualInstanceStrategy() {
         return contextualInstanceStrategy;
     }
@@ -22,6 +22,7 @@ import java.io.ObjectStreamException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.enterprise.context.spi.Contextual;
@@ -51,8 +52,10 @@ import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.manager.api.WeldInjectionTargetBuilder;
 import org.jboss.weld.manager.api.WeldInjectionTargetFactory;
 import org.jboss.weld.manager.api.WeldManager;
+import org.jboss.weld.resolution.ResolutionCacheStatisticsProvider;
 import org.jboss.weld.serialization.spi.BeanIdentifier;
 import org.jboss.weld.util.ForwardingBeanManager;
+import org.jboss.weld.util.cache.CacheStatistics;
 import org.jboss.weld.util.reflection.Reflections;
 
 /**
@@ -60,7 +63,7 @@ import org.jboss.weld.util.reflection.Reflections;
  *
  * @author Martin Kouba
  */
-public class BeanManagerProxy extends ForwardingBeanManager implements WeldManager {
+public class BeanManagerProxy extends ForwardingBeanManager implements WeldManager, ResolutionCacheStatisticsProvider {
 
     private static final String GET_BEANS_METHOD_NAME = "getBeans()";
 
@@ -80,6 +83,11 @@ public class BeanManagerProxy extends ForwardingBeanManager implements WeldManag
         return manager;
     }
 
+    @Override
+    public Map<String, CacheStatistics> getResolutionCacheStatistics() {
+        return delegate().getResolutionCacheStatistics();
+    }
+
     @Override
     public Object getReference(Bean<?> bean, Type beanType, CreationalContext<?> ctx) {
         checkContainerState("getReference()", ContainerState.VALIDATED);
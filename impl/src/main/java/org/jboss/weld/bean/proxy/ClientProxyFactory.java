@@ -33,6 +33,7 @@ import org.jboss.classfilewriter.ClassMethod;
 import org.jboss.classfilewriter.code.BranchEnd;
 import org.jboss.classfilewriter.code.CodeAttribute;
 import org.jboss.weld.Container;
+import org.jboss.weld.bean.RIBean;
 import org.jboss.weld.bean.proxy.util.SerializableClientProxy;
 import org.jboss.weld.exceptions.WeldException;
 import org.jboss.weld.proxy.WeldClientProxy;
@@ -53,6 +54,8 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
 
     private static final String CLIENT_PROXY_SUFFIX = "ClientProxy";
 
+    private static final String INSTANCE_CACHING_CLIENT_PROXY_SUFFIX = "InstanceCachingClientProxy";
+
     private static final String HASH_CODE_METHOD = "hashCode";
     private static final String EMPTY_PARENTHESES = "()";
 
@@ -67,6 +70,11 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
     private static final String BEAN_ID_FIELD = "BEAN_ID_FIELD";
     private static final String CONTEXT_ID_FIELD = "CONTEXT_ID_FIELD";
 
+    /**
+     * The contextual instance cached by an {@link InstanceCachingClientProxy}.
+     */
+    private static final String CACHED_INSTANCE_FIELD = "CACHED_INSTANCE_FIELD";
+
     private final BeanIdentifier beanId;
 
     private volatile Field beanIdField;
@@ -93,6 +101,9 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
             }
             beanIdField.set(instance, beanId);
             contextIdField.set(instance, getContextId());
+            if (instance instanceof InstanceCachingClientProxy) {
+                ((RIBean<?>) getBean()).getContextualInstanceStrategy().addInstanceCachingClientProxy((InstanceCachingClientProxy) instance);
+            }
             return instance;
         } catch (IllegalAccessException e) {
             throw new RuntimeException(e);
@@ -105,6 +116,9 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
     protected void addAdditionalInterfaces(Set<Class<?>> interfaces) {
         // add marker interface for client proxy, this also requires adding interface methods implementations
         interfaces.add(WeldClientProxy.class);
+        if (isInstanceCached()) {
+            interfaces.add(InstanceCachingClientProxy.class);
+        }
     }
 
     @Override
@@ -114,6 +128,10 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
 
         // add method from WeldClientProxy
         generateWeldClientProxyMethod(proxyClassType);
+
+        if (isInstanceCached()) {
+            generateClearCachedInstanceMethod(proxyClassType);
+        }
     }
 
     private void generateWeldClientProxyMethod(ClassFile proxyClassType) {
@@ -133,11 +151,24 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
         b.returnInstruction();
     }
 
+    private void generateClearCachedInstanceMethod(ClassFile proxyClassType) {
+        final ClassMethod method = proxyClassType.addMethod(AccessFlag.PUBLIC, InstanceCachingClientProxy.CLEAR_CACHED_INSTANCE_METHOD,
+                BytecodeUtils.VOID_CLASS_DESCRIPTOR);
+        final CodeAttribute b = method.getCodeAttribute();
+        b.aload(0);
+        b.aconstNull();
+        b.putfield(proxyClassType.getName(), CACHED_INSTANCE_FIELD, LJAVA_LANG_OBJECT);
+        b.returnInstruction();
+    }
+
     @Override
     protected void addFields(final ClassFile proxyClassType, List<DeferredBytecode> initialValueBytecode) {
         super.addFields(proxyClassType, initialValueBytecode);
         proxyClassType.addField(AccessFlag.VOLATILE | AccessFlag.PRIVATE, BEAN_ID_FIELD, BeanIdentifier.class);
         proxyClassType.addField(AccessFlag.VOLATILE | AccessFlag.PRIVATE, CONTEXT_ID_FIELD, String.class);
+        if (isInstanceCached()) {
+            proxyClassType.addField(AccessFlag.VOLATILE | AccessFlag.PRIVATE, CACHED_INSTANCE_FIELD, LJAVA_LANG_OBJECT);
+        }
     }
 
     @Override
@@ -171,17 +202,8 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
     @Override
     protected void createForwardingMethodBody(ClassMethod classMethod, final MethodInformation methodInfo, ClassMethod staticConstructor) {
         final Method method = methodInfo.getMethod();
-        // we can only use bytecode based invocation for some methods
-        // at the moment we restrict it solely to public methods with public
-        // return and parameter types
-        boolean bytecodeInvocationAllowed = Modifier.isPublic(method.getModifiers()) && Modifier.isPublic(method.getReturnType().getModifiers());
-        for (Class<?> paramType : method.getParameterTypes()) {
-            if (!Modifier.isPublic(paramType.getModifiers())) {
-                bytecodeInvocationAllowed = false;
-                break;
-            }
-        }
-        if (!bytecodeInvocationAllowed) {
+        // we can only use bytecode based invocation if the method and all the types it refers to are accessible from the proxy class
+        if (!isAccessibleFromProxy(method, classMethod.getClassFile().getName())) {
             createInterceptorBody(classMethod, methodInfo, staticConstructor);
             return;
         }
@@ -241,14 +263,75 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
         }.runStartIfNotEmpty();
     }
 
+    /**
+     * Methods of the bean type interfaces which are not implemented by the proxy superclass, e.g. if a bean only has interface types, are forwarded the same
+     * way as the methods of the superclass.
+     */
+    @Override
+    protected void createSpecialMethodBody(ClassMethod classMethod, MethodInformation methodInfo, ClassMethod staticConstructor) {
+        createForwardingMethodBody(classMethod, methodInfo, staticConstructor);
+    }
+
+    /**
+     * A public method of a public class is accessible from anywhere. Other methods are only accessible if the declaring class belongs to the same runtime
+     * package as the proxy class, i.e. the same package and class loader. The same applies to the return type and the parameter types.
+     */
+    private boolean isAccessibleFromProxy(Method method, String proxyClassName) {
+        if (!Modifier.isPublic(method.getModifiers()) && (Modifier.isPrivate(method.getModifiers()) || !isInProxyPackage(method.getDeclaringClass(), proxyClassName))) {
+            return false;
+        }
+        if (!isAccessibleFromProxy(method.getDeclaringClass(), proxyClassName) || !isAccessibleFromProxy(method.getReturnType(), proxyClassName)) {
+            return false;
+        }
+        for (Class<?> paramType : method.getParameterTypes()) {
+            if (!isAccessibleFromProxy(paramType, proxyClassName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isAccessibleFromProxy(Class<?> clazz, String proxyClassName) {
+        while (clazz.isArray()) {
+            clazz = clazz.getComponentType();
+        }
+        return clazz.isPrimitive() || Modifier.isPublic(clazz.getModifiers()) || isInProxyPackage(clazz, proxyClassName);
+    }
+
     private void loadBeanInstance(ClassFile file, MethodInformation methodInfo, CodeAttribute b) {
+        BranchEnd cached = null;
+        if (isInstanceCached()) {
+            // Object instance = this.CACHED_INSTANCE_FIELD;
+            // if (instance == null) { instance = this.CACHED_INSTANCE_FIELD = methodHandler.getInstance(); }
+            b.aload(0);
+            b.getfield(file.getName(), CACHED_INSTANCE_FIELD, LJAVA_LANG_OBJECT);
+            b.dup();
+            cached = b.ifnotnull();
+            b.pop();
+        }
         b.aload(0);
         getMethodHandlerField(file, b);
         // lets invoke the method
         b.invokevirtual(ProxyMethodHandler.class.getName(), "getInstance", EMPTY_PARENTHESES + LJAVA_LANG_OBJECT);
+        if (cached != null) {
+            b.dup();
+            b.aload(0);
+            b.swap();
+            b.putfield(file.getName(), CACHED_INSTANCE_FIELD, LJAVA_LANG_OBJECT);
+            b.branchEnd(cached);
+        }
         b.checkcast(methodInfo.getDeclaringClass());
     }
 
+    /**
+     * The client proxy of an {@link javax.enterprise.context.ApplicationScoped} bean caches the contextual instance if the
+     * {@link org.jboss.weld.bean.ContextualInstanceStrategy} of the bean notifies the proxy once the instance is destroyed.
+     */
+    private boolean isInstanceCached() {
+        Bean<?> bean = getBean();
+        return bean instanceof RIBean && ((RIBean<?>) bean).getContextualInstanceStrategy().isClientProxyInstanceCacheSupported();
+    }
+
     /**
      * Client proxies use the following hashCode:
      * <code>MyProxyName.class.hashCode()</code>
@@ -283,7 +366,8 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
 
     @Override
     protected String getProxyNameSuffix() {
-        return CLIENT_PROXY_SUFFIX;
+        // A bean of a different scope may share the base name, e.g. a producer with the same type closure
+        return isInstanceCached() ? INSTANCE_CACHING_CLIENT_PROXY_SUFFIX : CLIENT_PROXY_SUFFIX;
     }
 
     @Override
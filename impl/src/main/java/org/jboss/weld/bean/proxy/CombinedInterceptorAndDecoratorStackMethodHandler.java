@@ -6,7 +6,7 @@ import java.lang.reflect.Method;
 import org.jboss.weld.bean.proxy.InterceptionDecorationContext.Stack;
 import org.jboss.weld.exceptions.UnsupportedOperationException;
 import org.jboss.weld.interceptor.proxy.InterceptorMethodHandler;
-import org.jboss.weld.util.reflection.Reflections;
+import org.jboss.weld.util.reflection.MethodInvokers;
 
 /**
  * A method handler that wraps the invocation of interceptors and decorators.
@@ -85,8 +85,7 @@ public class CombinedInterceptorAndDecoratorStackMethodHandler implements StackA
                     }
                 } else {
                     if (outerDecorator != null) {
-                        SecurityActions.ensureAccessible(thisMethod);
-                        return Reflections.invokeAndUnwrap(outerDecorator, thisMethod, args);
+                        return (Object) MethodInvokers.getSpreadInvoker(thisMethod).invokeExact(outerDecorator, args);
                     }
                 }
             } finally {
@@ -95,8 +94,7 @@ public class CombinedInterceptorAndDecoratorStackMethodHandler implements StackA
                 }
             }
         }
-        SecurityActions.ensureAccessible(proceed);
-        return Reflections.invokeAndUnwrap(self, proceed, args);
+        return (Object) MethodInvokers.getSpreadInvoker(proceed).invokeExact(self, args);
     }
 
     public InterceptorMethodHandler getInterceptorMethodHandler() {
@@ -37,6 +37,7 @@ import org.jboss.weld.logging.ContextLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.serialization.spi.BeanIdentifier;
 import org.jboss.weld.serialization.spi.ContextualStore;
+import org.jboss.weld.util.WeldThreadState;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
@@ -61,9 +62,6 @@ public class ContextBeanInstance<T> extends AbstractBeanInstance implements Seri
     private final transient BeanManagerImpl manager;
     private final transient CurrentInjectionPoint currentInjectionPoint;
 
-    private static final ThreadLocal<WeldCreationalContext<?>> currentCreationalContext = new ThreadLocal<WeldCreationalContext<?>>();
-
-
     /**
      * Creates a new locator for instances of the given bean.
      *
@@ -88,25 +86,23 @@ public class ContextBeanInstance<T> extends AbstractBeanInstance implements Seri
         if (existingInstance != null) {
             return existingInstance;
         }
+        WeldThreadState state = WeldThreadState.get();
         WeldCreationalContext<T> creationalContext;
-        WeldCreationalContext<?> previousCreationalContext = currentCreationalContext.get();
+        WeldCreationalContext<?> previousCreationalContext = state.getCreationalContext();
         if (previousCreationalContext == null) {
             creationalContext = new CreationalContextImpl<T>(bean);
         } else {
             creationalContext = previousCreationalContext.getCreationalContext(bean);
         }
-        currentCreationalContext.set(creationalContext);
+        state.setCreationalContext(creationalContext);
         // Ensure that there is no injection point associated
         final ThreadLocalStackReference<InjectionPoint> stack = currentInjectionPoint.push(EmptyInjectionPoint.INSTANCE);
         try {
             return ContextualInstance.get(bean, manager, creationalContext);
         } finally {
             stack.pop();
-            if (previousCreationalContext == null) {
-                currentCreationalContext.remove();
-            } else {
-                currentCreationalContext.set(previousCreationalContext);
-            }
+            // Restoring null also discards the state if it is empty
+            state.setCreationalContext(previousCreationalContext);
         }
     }
 
@@ -19,9 +19,9 @@ package org.jboss.weld.bean.proxy;
 
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.EmptyStackException;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Stack;
 
 import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.inject.spi.Bean;
@@ -33,6 +33,7 @@ import org.jboss.weld.exceptions.DefinitionException;
 import org.jboss.weld.logging.BeanLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.serialization.spi.ContextualStore;
+import org.jboss.weld.util.WeldThreadState;
 import org.jboss.weld.util.reflection.Reflections;
 
 /**
@@ -40,13 +41,6 @@ import org.jboss.weld.util.reflection.Reflections;
  * @author Ales Justin
  */
 public class DecorationHelper<T> implements PrivilegedAction<T> {
-    private static ThreadLocal<Stack<DecorationHelper<?>>> helperStackHolder = new ThreadLocal<Stack<DecorationHelper<?>>>() {
-        @Override
-        protected Stack<DecorationHelper<?>> initialValue() {
-            return new Stack<DecorationHelper<?>>();
-        }
-    };
-
     private final Class<T> proxyClassForDecorator;
 
     private final TargetBeanInstance targetBeanInstance;
@@ -77,19 +71,24 @@ public class DecorationHelper<T> implements PrivilegedAction<T> {
     }
 
     public static void push(DecorationHelper<?> helper) {
-        helperStackHolder.get().push(helper);
+        WeldThreadState.get().pushDecorationHelper(helper);
     }
 
     public static DecorationHelper<?> peek() {
-        return helperStackHolder.get().peek();
+        WeldThreadState state = WeldThreadState.getIfExists();
+        DecorationHelper<?> helper = state != null ? state.peekDecorationHelper() : null;
+        if (helper == null) {
+            throw new EmptyStackException();
+        }
+        return helper;
     }
 
     public static void pop() {
-        final Stack<DecorationHelper<?>> stack = helperStackHolder.get();
-        stack.pop();
-        if (stack.isEmpty()) {
-            helperStackHolder.remove();
+        WeldThreadState state = WeldThreadState.getIfExists();
+        if (state == null) {
+            throw new EmptyStackException();
         }
+        state.popDecorationHelper();
     }
 
     public T getNextDelegate(InjectionPoint injectionPoint, CreationalContext<?> creationalContext) {
@@ -46,6 +46,7 @@ import org.jboss.weld.util.bytecode.BytecodeUtils;
 import org.jboss.weld.util.bytecode.MethodInformation;
 import org.jboss.weld.util.bytecode.RuntimeMethodInformation;
 import org.jboss.weld.util.bytecode.StaticMethodInformation;
+import org.jboss.weld.util.reflection.Reflections;
 
 /**
  * This special proxy factory is mostly used for abstract decorators. When a
@@ -177,6 +178,19 @@ public class DecoratorProxyFactory<T> extends ProxyFactory<T> {
         return PROXY_SUFFIX;
     }
 
+    @Override
+    protected String getCacheKeyData() {
+        // The methods of the delegate type are invoked on the delegate field directly
+        return super.getCacheKeyData() + ":" + delegateField + ":" + delegateInjectionPoint.getType();
+    }
+
+    @Override
+    protected Set<Class<?>> getCacheKeyClasses() {
+        Set<Class<?>> classes = super.getCacheKeyClasses();
+        classes.add(Reflections.getRawType(delegateInjectionPoint.getType()));
+        return classes;
+    }
+
     @Override
     protected boolean isUsingProxyInstantiator() {
         return false;
@@ -16,7 +16,6 @@
  */
 package org.jboss.weld.bean.proxy;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
 import javax.enterprise.inject.spi.Decorator;
@@ -27,7 +26,7 @@ import org.jboss.weld.bean.WeldDecorator;
 import org.jboss.weld.interceptor.util.proxy.TargetInstanceProxyMethodHandler;
 import org.jboss.weld.logging.BeanLogger;
 import org.jboss.weld.serialization.spi.helpers.SerializableContextualInstance;
-import org.jboss.weld.util.reflection.Reflections;
+import org.jboss.weld.util.reflection.MethodInvokers;
 
 /**
  * Method handler for decorated beans
@@ -71,17 +70,13 @@ public class DecoratorProxyMethodHandler extends TargetInstanceProxyMethodHandle
     }
 
     private Object doInvoke(WeldDecorator<?> weldDecorator, Object decoratorInstance, Method method, Object[] args) throws Throwable {
+        // Both the decorator method and the next delegate are invoked through cached method handles
         if (!method.isAnnotationPresent(Inject.class)) {
             InvokableAnnotatedMethod<?> decoratorMethod = weldDecorator.getDecoratorMethod(method);
             if (decoratorMethod != null) {
-                try {
-                    return decoratorMethod.invokeOnInstance(decoratorInstance, args);
-                } catch (InvocationTargetException e) {
-                    throw e.getCause();
-                }
+                return (Object) decoratorMethod.getInvoker(decoratorInstance.getClass()).invokeExact(decoratorInstance, args);
             }
         }
-        SecurityActions.ensureAccessible(method);
-        return Reflections.invokeAndUnwrap(getTargetInstance(), method, args);
+        return (Object) MethodInvokers.getSpreadInvoker(method).invokeExact(getTargetInstance(), args);
     }
 }
@@ -0,0 +1,38 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bean.proxy;
+
+/**
+ * Implemented by the client proxies of {@link javax.enterprise.context.ApplicationScoped} beans which hold the contextual instance in a volatile field of
+ * their own. The field is filled when a method of the proxy is first invoked and cleared by the {@link org.jboss.weld.bean.ContextualInstanceStrategy} once
+ * the contextual instance is destroyed.
+ *
+ * @see ClientProxyFactory
+ */
+public interface InstanceCachingClientProxy {
+
+    /**
+     * The prefix prevents a clash with a method of the bean type.
+     */
+    String CLEAR_CACHED_INSTANCE_METHOD = "weld_clearCachedInstance";
+
+    /**
+     * Clears the cached contextual instance so that the next invocation obtains the instance from the context again.
+     */
+    void weld_clearCachedInstance();
+
+}
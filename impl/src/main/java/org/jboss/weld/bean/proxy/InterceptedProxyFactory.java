@@ -75,6 +75,11 @@ public class InterceptedProxyFactory<T> extends ProxyFactory<T> {
         return PROXY_SUFFIX + suffix;
     }
 
+    @Override
+    protected String getCacheKeyData() {
+        return super.getCacheKeyData() + toCacheKeyData(enhancedMethodSignatures) + toCacheKeyData(interceptedMethodSignatures);
+    }
+
     @Override
     protected void addMethodsFromClass(ClassFile proxyClassType, ClassMethod staticConstructor) {
         try {
@@ -130,6 +130,20 @@ public class InterceptedSubclassFactory<T> extends ProxyFactory<T> {
         return PROXY_SUFFIX;
     }
 
+    @Override
+    protected String getCacheKeyData() {
+        return super.getCacheKeyData() + toCacheKeyData(enhancedMethodSignatures) + toCacheKeyData(interceptedMethodSignatures);
+    }
+
+    @Override
+    protected Set<Class<?>> getCacheKeyClasses() {
+        Set<Class<?>> classes = super.getCacheKeyClasses();
+        if (interfacesToInspect != null) {
+            classes.addAll(interfacesToInspect);
+        }
+        return classes;
+    }
+
     @Override
     protected void addMethods(ClassFile proxyClassType, ClassMethod staticConstructor) {
         // Add all class methods for interception
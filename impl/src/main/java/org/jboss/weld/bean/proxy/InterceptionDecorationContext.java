@@ -23,6 +23,7 @@ import java.util.EmptyStackException;
 
 import org.jboss.weld.contexts.cache.RequestScopedCache;
 import org.jboss.weld.contexts.cache.RequestScopedItem;
+import org.jboss.weld.util.WeldThreadState;
 
 /**
  * A class that holds the interception (and decoration) contexts which are currently in progress.
@@ -38,16 +39,14 @@ import org.jboss.weld.contexts.cache.RequestScopedItem;
  * @author Marius Bogoevici
  */
 public class InterceptionDecorationContext {
-    private static ThreadLocal<Stack> interceptionContexts = new ThreadLocal<Stack>();
-
     public static class Stack implements RequestScopedItem {
         private boolean removeWhenEmpty;
         private final Deque<CombinedInterceptorAndDecoratorStackMethodHandler> elements;
-        private final ThreadLocal<Stack> interceptionContexts;
+        private final WeldThreadState state;
         private boolean valid;
 
-        private Stack(ThreadLocal<Stack> interceptionContexts) {
-            this.interceptionContexts = interceptionContexts;
+        private Stack(WeldThreadState state) {
+            this.state = state;
             this.elements = new ArrayDeque<CombinedInterceptorAndDecoratorStackMethodHandler>();
             /*
              * Setting / removing of a thread-local is much more expensive compared to get. Therefore,
@@ -56,7 +55,7 @@ public class InterceptionDecorationContext {
              * If it is not, the performance characteristics are similar to explicitly removing the thread-local
              * once the stack gets empty.
              */
-            this.removeWhenEmpty = !RequestScopedCache.addItemIfActive(this);
+            this.removeWhenEmpty = !RequestScopedCache.addItemIfActive(state, this);
             this.valid = true;
         }
 
@@ -116,7 +115,9 @@ public class InterceptionDecorationContext {
 
         private void removeIfEmpty() {
             if (removeWhenEmpty && elements.isEmpty()) {
-                interceptionContexts.remove();
+                if (state.getInterceptionContexts() == this) {
+                    state.setInterceptionContexts(null);
+                }
                 valid = false;
             }
         }
@@ -141,7 +142,7 @@ public class InterceptionDecorationContext {
      * @throws EmptyStackException
      */
     public static CombinedInterceptorAndDecoratorStackMethodHandler peek() {
-        return peek(interceptionContexts.get());
+        return peek(getStackIfExists());
     }
 
     /**
@@ -149,7 +150,7 @@ public class InterceptionDecorationContext {
      * @return the current top of the stack or returns null if the stack is empty
      */
     public static CombinedInterceptorAndDecoratorStackMethodHandler peekIfNotEmpty() {
-        Stack stack = interceptionContexts.get();
+        Stack stack = getStackIfExists();
         if (stack == null) {
             return null;
         }
@@ -160,12 +161,12 @@ public class InterceptionDecorationContext {
      * Indicates whether the stack is empty.
      */
     public static boolean empty() {
-        return empty(interceptionContexts.get());
+        return empty(getStackIfExists());
     }
 
 
     public static void endInterceptorContext() {
-        pop(interceptionContexts.get());
+        pop(getStackIfExists());
     }
 
     /**
@@ -208,14 +209,20 @@ public class InterceptionDecorationContext {
      * @return
      */
     public static Stack getStack() {
-        Stack stack = interceptionContexts.get();
+        WeldThreadState state = WeldThreadState.get();
+        Stack stack = state.getInterceptionContexts();
         if (stack == null) {
-            stack = new Stack(interceptionContexts);
-            interceptionContexts.set(stack);
+            stack = new Stack(state);
+            state.setInterceptionContexts(stack);
         }
         return stack;
     }
 
+    private static Stack getStackIfExists() {
+        WeldThreadState state = WeldThreadState.getIfExists();
+        return state != null ? state.getInterceptionContexts() : null;
+    }
+
     private static CombinedInterceptorAndDecoratorStackMethodHandler pop(Stack stack) {
         if (stack == null) {
             throw new EmptyStackException();
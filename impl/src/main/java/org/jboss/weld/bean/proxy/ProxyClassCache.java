@@ -0,0 +1,288 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bean.proxy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.logging.BeanLogger;
+import org.jboss.weld.util.reflection.Formats;
+
+/**
+ * A persistent cache of generated proxy classes. The bytecode of a proxy class is stored in a file whose name consists of the proxy class name and a key. The
+ * key is a hash of:
+ * <ul>
+ * <li>the Weld version and the Java specification version,</li>
+ * <li>the proxy class name,</li>
+ * <li>the data provided by the {@link ProxyFactory}, e.g. the set of intercepted methods and the relevant configuration,</li>
+ * <li>the bytecode of all the classes the proxy class is generated from, including their superclasses and interfaces.</li>
+ * </ul>
+ * As a result, a cached class is only loaded if none of its inputs changed. Otherwise, the proxy class is generated and the new version is stored. Outdated
+ * files are never read again and the cache directory may be deleted at any time.
+ *
+ * <p>
+ * The key does not say anything about the content of a file. Therefore, the bytecode is followed by its checksum. A file whose checksum does not match, e.g.
+ * a truncated one, is deleted and the proxy class is generated again. The same applies to a file whose bytecode cannot be defined, see
+ * {@link #discard(String, String, Throwable)}.
+ * </p>
+ *
+ * <p>
+ * The cache may be populated ahead of time, e.g. by a build-time test which boots the deployment with the cache enabled. Alternatively, proxy classes present
+ * in the deployment itself are always preferred, see {@link ProxyFactory#getProxyClass()}.
+ * </p>
+ *
+ * @see org.jboss.weld.config.ConfigurationKey#PROXY_CACHE
+ */
+public class ProxyClassCache implements Service {
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private static final int BYTE_MASK = 0xff;
+
+    private static final int RADIX = 16;
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private final Path directory;
+
+    private final String version;
+
+    private final AtomicInteger loaded;
+
+    private final AtomicInteger stored;
+
+    private final AtomicInteger discarded;
+
+    public ProxyClassCache(Path directory) {
+        this.directory = directory;
+        this.version = Formats.version(null) + ":" + System.getProperty("java.specification.version");
+        this.loaded = new AtomicInteger();
+        this.stored = new AtomicInteger();
+        this.discarded = new AtomicInteger();
+    }
+
+    /**
+     * Computes the key of a proxy class.
+     *
+     * @param proxyClassName
+     * @param data the data which affect the generated bytecode, other than the given classes
+     * @param classes the classes the proxy class is generated from, their superclasses and interfaces are included automatically
+     * @param proxyClassLoader the class loader the proxy class is defined in
+     * @return the key or <code>null</code> if the bytecode of any of the classes is not available
+     */
+    String computeKey(String proxyClassName, String data, Set<Class<?>> classes, ClassLoader proxyClassLoader) {
+        MessageDigest digest = newDigest();
+        if (digest == null) {
+            return null;
+        }
+        update(digest, version);
+        update(digest, proxyClassName);
+        update(digest, data);
+        Set<Class<?>> hierarchy = new LinkedHashSet<>();
+        for (Class<?> clazz : classes) {
+            collectHierarchy(clazz, hierarchy);
+        }
+        for (Class<?> clazz : hierarchy) {
+            update(digest, clazz.getName());
+            ClassLoader classLoader = clazz.getClassLoader();
+            if (classLoader == null) {
+                // JDK classes are covered by the Java version
+                continue;
+            }
+            // The accessibility of package-private members depends on the class loader
+            update(digest, String.valueOf(classLoader == proxyClassLoader));
+            try (InputStream in = classLoader.getResourceAsStream(clazz.getName().replace('.', '/') + CLASS_FILE_SUFFIX)) {
+                if (in == null) {
+                    return null;
+                }
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            } catch (IOException e) {
+                return null;
+            }
+        }
+        StringBuilder key = new StringBuilder();
+        for (byte b : digest.digest()) {
+            String hex = Integer.toString(b & BYTE_MASK, RADIX);
+            if (hex.length() == 1) {
+                key.append('0');
+            }
+            key.append(hex);
+        }
+        return key.toString();
+    }
+
+    /**
+     *
+     * @param proxyClassName
+     * @param key
+     * @return the cached bytecode or <code>null</code> if there is no valid class cached under the given key
+     */
+    byte[] load(String proxyClassName, String key) {
+        Path file = getFile(proxyClassName, key);
+        if (!Files.isReadable(file)) {
+            return null;
+        }
+        try {
+            byte[] content = Files.readAllBytes(file);
+            MessageDigest digest = newDigest();
+            int length = content.length - (digest != null ? digest.getDigestLength() : 0);
+            if (digest == null || length <= 0) {
+                discard(proxyClassName, key, null);
+                return null;
+            }
+            digest.update(content, 0, length);
+            if (!MessageDigest.isEqual(digest.digest(), Arrays.copyOfRange(content, length, content.length))) {
+                discard(proxyClassName, key, null);
+                return null;
+            }
+            loaded.incrementAndGet();
+            return Arrays.copyOf(content, length);
+        } catch (IOException e) {
+            BeanLogger.LOG.unableToReadCachedProxyClass(proxyClassName, file, e);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the bytecode under the given key, followed by its checksum. The file is replaced atomically if supported by the file system so that a concurrent
+     * reader never sees a partially written class. Otherwise, a reader detects the partially written class by means of the checksum.
+     *
+     * @param proxyClassName
+     * @param key
+     * @param bytecode
+     */
+    void store(String proxyClassName, String key, byte[] bytecode) {
+        MessageDigest digest = newDigest();
+        if (digest == null) {
+            return;
+        }
+        Path file = getFile(proxyClassName, key);
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, proxyClassName, ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                out.write(bytecode);
+                out.write(digest.digest(bytecode));
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            stored.incrementAndGet();
+        } catch (IOException e) {
+            BeanLogger.LOG.unableToCacheProxyClass(proxyClassName, file, e);
+        }
+    }
+
+    /**
+     * Deletes the class cached under the given key, e.g. if its bytecode cannot be defined. The proxy class is generated and stored again afterwards.
+     *
+     * @param proxyClassName
+     * @param key
+     * @param cause the reason why the cached class is not valid, may be <code>null</code>
+     */
+    void discard(String proxyClassName, String key, Throwable cause) {
+        Path file = getFile(proxyClassName, key);
+        BeanLogger.LOG.discardingCachedProxyClass(proxyClassName, file, cause);
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            BeanLogger.LOG.catchingDebug(e);
+        }
+        discarded.incrementAndGet();
+    }
+
+    /**
+     *
+     * @return the number of proxy classes loaded from the cache
+     */
+    public int getLoadedCount() {
+        return loaded.get();
+    }
+
+    /**
+     *
+     * @return the number of proxy classes stored in the cache
+     */
+    public int getStoredCount() {
+        return stored.get();
+    }
+
+    /**
+     *
+     * @return the number of cached proxy classes which were not valid and therefore deleted
+     */
+    public int getDiscardedCount() {
+        return discarded.get();
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public void cleanup() {
+    }
+
+    private Path getFile(String proxyClassName, String key) {
+        return directory.resolve(proxyClassName + "-" + key + CLASS_FILE_SUFFIX);
+    }
+
+    private static void collectHierarchy(Class<?> clazz, Set<Class<?>> hierarchy) {
+        if (clazz == null || clazz.isPrimitive() || !hierarchy.add(clazz)) {
+            return;
+        }
+        collectHierarchy(clazz.getSuperclass(), hierarchy);
+        for (Class<?> iface : clazz.getInterfaces()) {
+            collectHierarchy(iface, hierarchy);
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        // Separator
+        digest.update((byte) 0);
+    }
+
+}
@@ -52,7 +52,9 @@ import org.jboss.classfilewriter.code.CodeAttribute;
 import org.jboss.classfilewriter.util.Boxing;
 import org.jboss.classfilewriter.util.DescriptorUtils;
 import org.jboss.weld.Container;
+import org.jboss.weld.annotated.enhanced.MethodSignature;
 import org.jboss.weld.bean.builtin.AbstractBuiltInBean;
+import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.exceptions.DefinitionException;
 import org.jboss.weld.exceptions.WeldException;
@@ -427,6 +429,34 @@ public class ProxyFactory<T> implements PrivilegedAction<T> {
         // Remove special interfaces from main set (deserialization scenario)
         additionalInterfaces.removeAll(specialInterfaces);
 
+        ProxyClassCache cache = Container.instance(contextId).services().get(ProxyClassCache.class);
+        String cacheKey = null;
+        if (cache != null) {
+            String cacheKeyData = getCacheKeyData();
+            if (cacheKeyData != null) {
+                cacheKey = cache.computeKey(proxyClassName, cacheKeyData, getCacheKeyClasses(), classLoader);
+            }
+            if (cacheKey != null) {
+                byte[] bytecode = cache.load(proxyClassName, cacheKey);
+                if (bytecode != null) {
+                    try {
+                        Class<T> proxyClass = defineProxyClass(proxyClassName, bytecode);
+                        BeanLogger.LOG.loadedCachedProxyClass(proxyClassName);
+                        return proxyClass;
+                    } catch (LinkageError e) {
+                        // E.g. a corrupted file, the class is not defined and may be generated
+                        cache.discard(proxyClassName, cacheKey, e);
+                    } catch (RuntimeException e) {
+                        if (!(e.getCause() instanceof LinkageError)) {
+                            throw e;
+                        }
+                        // ClassLoader.defineClass() invoked reflectively
+                        cache.discard(proxyClassName, cacheKey, e.getCause());
+                    }
+                }
+            }
+        }
+
         ClassFile proxyClassType = null;
         final int accessFlags = AccessFlag.of(AccessFlag.PUBLIC, AccessFlag.SUPER, AccessFlag.SYNTHETIC);
         if (getBeanType().isInterface()) {
@@ -455,9 +485,26 @@ public class ProxyFactory<T> implements PrivilegedAction<T> {
             proxyClassType.addInterface(specialInterface.getName());
         }
 
+        byte[] bytecode = proxyClassType.toBytecode();
         // Dump proxy type bytecode if necessary
-        dumpToFile(proxyClassName, proxyClassType.toBytecode());
+        dumpToFile(proxyClassName, bytecode);
+        if (cacheKey != null) {
+            cache.store(proxyClassName, cacheKey, bytecode);
+        }
+
+        Class<T> proxyClass = defineProxyClass(proxyClassName, bytecode);
+        BeanLogger.LOG.createdProxyClass(proxyClass, Arrays.toString(proxyClass.getInterfaces()));
+        return proxyClass;
+    }
 
+    private Class<T> defineProxyClass(String proxyClassName, byte[] bytecode) {
+        if (System.getSecurityManager() == null && proxiedBeanType.getPackage() != null && isInProxyPackage(proxiedBeanType, proxyClassName)) {
+            // The proxy class is defined in the runtime package of the bean type, no reflective access to ClassLoader.defineClass() is needed
+            Class<?> proxyClass = ClassFileUtils.toClass(bytecode, proxiedBeanType);
+            if (proxyClass != null) {
+                return cast(proxyClass);
+            }
+        }
         ProtectionDomain domain = AccessController.doPrivileged(new GetProtectionDomainAction(proxiedBeanType));
 
         if (proxiedBeanType.getPackage() == null || proxiedBeanType.equals(Object.class)) {
@@ -466,9 +513,59 @@ public class ProxyFactory<T> implements PrivilegedAction<T> {
             ProtectionDomainCache cache = Container.instance(contextId).services().get(ProtectionDomainCache.class);
             domain = cache.getProtectionDomainForProxy(domain);
         }
-        Class<T> proxyClass = cast(ClassFileUtils.toClass(proxyClassType, classLoader, domain));
-        BeanLogger.LOG.createdProxyClass(proxyClass, Arrays.toString(proxyClass.getInterfaces()));
-        return proxyClass;
+        return cast(ClassFileUtils.toClass(proxyClassName, bytecode, classLoader, domain));
+    }
+
+    /**
+     *
+     * @param clazz
+     * @param proxyClassName
+     * @return <code>true</code> if the given class is in the runtime package of the proxy class, <code>false</code> otherwise
+     */
+    protected boolean isInProxyPackage(Class<?> clazz, String proxyClassName) {
+        return clazz.getClassLoader() == classLoader && getPackageName(clazz.getName()).equals(getPackageName(proxyClassName));
+    }
+
+    private static String getPackageName(String className) {
+        int idx = className.lastIndexOf('.');
+        return idx == -1 ? "" : className.substring(0, idx);
+    }
+
+    /**
+     * Returns the data which, apart from the {@link #getCacheKeyClasses() classes} the proxy is generated from, affect the generated bytecode. Subclasses which
+     * generate the bytecode based on additional state must include the state. The data is a part of the {@link ProxyClassCache} key.
+     *
+     * @return the data or <code>null</code> if the proxy class must not be cached
+     */
+    protected String getCacheKeyData() {
+        return getClass().getName() + ":" + useConstructedFlag() + ":" + configuration.getStringProperty(ConfigurationKey.PROXY_IGNORE_FINAL_METHODS);
+    }
+
+    /**
+     *
+     * @return the classes the proxy class is generated from, their superclasses and interfaces need not be included
+     * @see ProxyClassCache
+     */
+    protected Set<Class<?>> getCacheKeyClasses() {
+        Set<Class<?>> classes = new LinkedHashSet<Class<?>>();
+        classes.add(beanType);
+        classes.add(proxiedBeanType);
+        classes.addAll(additionalInterfaces);
+        return classes;
+    }
+
+    /**
+     *
+     * @param signatures
+     * @return a string representation of the given method signatures which does not depend on the iteration order
+     */
+    protected static String toCacheKeyData(Set<MethodSignature> signatures) {
+        List<String> values = new ArrayList<String>(signatures.size());
+        for (MethodSignature signature : signatures) {
+            values.add(signature.toString());
+        }
+        Collections.sort(values);
+        return values.toString();
     }
 
     private ClassFile newClassFile(String name, int accessFlags, String superclass, String... interfaces) {
@@ -888,6 +985,14 @@ public class ProxyFactory<T> implements PrivilegedAction<T> {
         return Container.instance(contextId).services().get(ProxyServices.class).getClassLoader(superClass);
     }
 
+    /**
+     *
+     * @return the class loader the proxy class is defined in
+     */
+    protected ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
     protected void getMethodHandlerField(ClassFile file, CodeAttribute b) {
         b.getfield(file.getName(), METHOD_HANDLER_FIELD_NAME, DescriptorUtils.makeDescriptor(getMethodHandlerType()));
     }
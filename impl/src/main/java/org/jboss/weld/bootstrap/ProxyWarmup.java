@@ -0,0 +1,131 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.inject.spi.Bean;
+
+import org.jboss.weld.bean.RIBean;
+import org.jboss.weld.bean.proxy.ClientProxyProvider;
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.executor.IterativeWorkerTaskFactory;
+import org.jboss.weld.logging.BootstrapLogger;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.manager.api.ExecutorServices;
+
+/**
+ * Creates the client proxies of all the beans which require one at the end of bootstrap so that no proxy class is generated when the first requests are
+ * served. The intercepted subclasses and the decorator proxies of managed beans are already generated when the beans are deployed.
+ *
+ * <p>
+ * The proxies are created in parallel if {@link ExecutorServices} are available. A failure is ignored - e.g. a bean with an unproxyable bean type may still be
+ * looked up by a proxyable type at runtime.
+ * </p>
+ *
+ * @see org.jboss.weld.config.ConfigurationKey#PROXY_WARMUP
+ */
+public class ProxyWarmup implements Service {
+
+    private final ExecutorServices executor;
+
+    private final Set<Class<?>> proxyClasses;
+
+    private volatile long time;
+
+    /**
+     *
+     * @param executor may be null
+     */
+    ProxyWarmup(ExecutorServices executor) {
+        this.executor = executor;
+        this.proxyClasses = ConcurrentHashMap.newKeySet();
+    }
+
+    void warmUp(Iterable<BeanManagerImpl> managers) {
+        long start = System.nanoTime();
+        Set<Bean<?>> beans = new LinkedHashSet<>();
+        ClientProxyProvider clientProxyProvider = null;
+        for (BeanManagerImpl manager : managers) {
+            // The provider is shared by all the bean managers of a deployment
+            clientProxyProvider = manager.getClientProxyProvider();
+            for (Bean<?> bean : manager.getBeans()) {
+                if (isProxyRequired(bean, manager)) {
+                    beans.add(bean);
+                }
+            }
+        }
+        if (clientProxyProvider != null) {
+            final ClientProxyProvider provider = clientProxyProvider;
+            if (executor != null) {
+                executor.invokeAllAndCheckForExceptions(new IterativeWorkerTaskFactory<Bean<?>>(beans) {
+                    protected void doWork(Bean<?> bean) {
+                        createClientProxy(provider, bean);
+                    }
+                });
+            } else {
+                for (Bean<?> bean : beans) {
+                    createClientProxy(provider, bean);
+                }
+            }
+        }
+        time = System.nanoTime() - start;
+        BootstrapLogger.LOG.proxyWarmupCompleted(proxyClasses.size(), getTime(TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     *
+     * @return the number of client proxy classes created or looked up during the warm-up
+     */
+    public int getProxyClassCount() {
+        return proxyClasses.size();
+    }
+
+    /**
+     *
+     * @param unit
+     * @return the time spent in the warm-up
+     */
+    public long getTime(TimeUnit unit) {
+        return unit.convert(time, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void cleanup() {
+        proxyClasses.clear();
+    }
+
+    private void createClientProxy(ClientProxyProvider provider, Bean<?> bean) {
+        try {
+            proxyClasses.add(provider.getClientProxy(bean).getClass());
+        } catch (RuntimeException e) {
+            BootstrapLogger.LOG.unableToWarmUpProxy(bean, e);
+        }
+    }
+
+    private static boolean isProxyRequired(Bean<?> bean, BeanManagerImpl manager) {
+        // The same condition as in BeanManagerImpl
+        if (bean instanceof RIBean<?>) {
+            return ((RIBean<?>) bean).isProxyRequired();
+        }
+        return manager.isNormalScope(bean.getScope());
+    }
+
+}
@@ -0,0 +1,153 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.event.Event;
+import javax.enterprise.inject.Instance;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.InjectionPoint;
+import javax.enterprise.inject.spi.ObserverMethod;
+import javax.inject.Provider;
+
+import org.jboss.weld.event.ObserverMethodImpl;
+import org.jboss.weld.events.WeldEvent;
+import org.jboss.weld.executor.IterativeWorkerTaskFactory;
+import org.jboss.weld.inject.WeldInstance;
+import org.jboss.weld.logging.BootstrapLogger;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.manager.api.ExecutorServices;
+import org.jboss.weld.resolution.Resolvable;
+import org.jboss.weld.resolution.ResolvableBuilder;
+import org.jboss.weld.resolution.TypeSafeBeanResolver;
+import org.jboss.weld.util.Observers;
+import org.jboss.weld.util.Types;
+import org.jboss.weld.util.reflection.Reflections;
+
+/**
+ * Pre-resolves the dynamic lookups which are known after the deployment is validated, i.e. the beans for every {@link Instance} injection point and the
+ * observer methods for every {@link Event} injection point and every observed event type. The resolver caches are filled during bootstrap so that the first
+ * requests do not need to perform the resolution.
+ *
+ * <p>
+ * The resolutions are performed in parallel if {@link ExecutorServices} are available. A resolution failure is ignored - the same resolution is performed
+ * again at runtime.
+ * </p>
+ *
+ * @see org.jboss.weld.config.ConfigurationKey#RESOLUTION_WARMUP
+ */
+class ResolutionWarmup {
+
+    private final ExecutorServices executor;
+
+    /**
+     *
+     * @param executor may be null
+     */
+    ResolutionWarmup(ExecutorServices executor) {
+        this.executor = executor;
+    }
+
+    void warmUp(Iterable<BeanManagerImpl> managers) {
+        long start = System.nanoTime();
+        // Identical lookups are only resolved once
+        Map<Object, Runnable> tasks = new LinkedHashMap<>();
+        for (BeanManagerImpl manager : managers) {
+            for (Bean<?> bean : manager.getBeans()) {
+                addInjectionPoints(tasks, manager, bean.getInjectionPoints());
+            }
+            for (ObserverMethod<?> observer : manager.getObservers()) {
+                if (observer instanceof ObserverMethodImpl<?, ?>) {
+                    addInjectionPoints(tasks, manager, ((ObserverMethodImpl<?, ?>) observer).getInjectionPoints());
+                }
+                if (!Observers.isContainerLifecycleObserverMethod(observer)) {
+                    addEvent(tasks, manager, observer.getObservedType(), observer.getObservedQualifiers());
+                }
+            }
+        }
+        if (executor != null) {
+            executor.invokeAllAndCheckForExceptions(new IterativeWorkerTaskFactory<Map.Entry<Object, Runnable>>(tasks.entrySet()) {
+                protected void doWork(Map.Entry<Object, Runnable> task) {
+                    run(task);
+                }
+            });
+        } else {
+            for (Map.Entry<Object, Runnable> task : tasks.entrySet()) {
+                run(task);
+            }
+        }
+        BootstrapLogger.LOG.resolutionWarmupCompleted(tasks.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void run(Map.Entry<Object, Runnable> task) {
+        try {
+            task.getValue().run();
+        } catch (RuntimeException e) {
+            BootstrapLogger.LOG.unableToWarmUpResolution(task.getKey(), e);
+        }
+    }
+
+    private void addInjectionPoints(Map<Object, Runnable> tasks, BeanManagerImpl manager, Collection<? extends InjectionPoint> injectionPoints) {
+        for (InjectionPoint injectionPoint : injectionPoints) {
+            if (!(injectionPoint.getType() instanceof ParameterizedType)) {
+                continue;
+            }
+            Class<?> rawType = Reflections.getRawType(injectionPoint.getType());
+            Type type = ((ParameterizedType) injectionPoint.getType()).getActualTypeArguments()[0];
+            if (Types.containsTypeVariable(type)) {
+                continue;
+            }
+            Set<Annotation> qualifiers = injectionPoint.getQualifiers();
+            if (Instance.class.equals(rawType) || WeldInstance.class.equals(rawType) || Provider.class.equals(rawType)) {
+                addInstance(tasks, manager, injectionPoint, type, qualifiers);
+            } else if (Event.class.equals(rawType) || WeldEvent.class.equals(rawType)) {
+                addEvent(tasks, manager, type, qualifiers);
+            }
+        }
+    }
+
+    private void addInstance(Map<Object, Runnable> tasks, BeanManagerImpl manager, InjectionPoint injectionPoint, Type type, Set<Annotation> qualifiers) {
+        // The same conditions as in InstanceImpl
+        if ((qualifiers.isEmpty() && Object.class.equals(type)) || !Reflections.isCacheable(qualifiers)) {
+            return;
+        }
+        tasks.putIfAbsent(Arrays.asList(manager, type, qualifiers), () -> {
+            Resolvable resolvable = new ResolvableBuilder(type, manager).addQualifiers(qualifiers).setDeclaringBean(injectionPoint.getBean()).create();
+            TypeSafeBeanResolver beanResolver = manager.getBeanResolver();
+            beanResolver.resolve(beanResolver.resolve(resolvable, true));
+        });
+    }
+
+    private void addEvent(Map<Object, Runnable> tasks, BeanManagerImpl manager, Type type, Set<Annotation> qualifiers) {
+        if (Types.containsTypeVariable(type)) {
+            return;
+        }
+        // Observer methods are resolved globally
+        tasks.putIfAbsent(Arrays.asList(Event.class, type, qualifiers),
+                () -> manager.getGlobalStrictObserverNotifier().resolveObserverMethods(type, qualifiers));
+    }
+
+}
@@ -31,6 +31,7 @@ import org.jboss.weld.context.ApplicationContext;
 import org.jboss.weld.context.SingletonContext;
 import org.jboss.weld.event.ContextEvent;
 import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.resolution.ResolutionSnapshotService;
 
 /**
  * @author Pete Muir
@@ -55,6 +56,11 @@ public class WeldRuntime {
 
     public void shutdown() {
         try {
+            ResolutionSnapshotService resolutionSnapshot = deploymentManager.getServices().get(ResolutionSnapshotService.class);
+            if (resolutionSnapshot != null) {
+                // Store the resolved results before the contexts are destroyed
+                resolutionSnapshot.write();
+            }
             // The container must destroy all contexts.
             // For non-web modules, fire @BeforeDestroyed event
             fireEventForNonWebModules(Object.class, ContextEvent.APPLICATION_BEFORE_DESTROYED, BeforeDestroyed.Literal.APPLICATION);
@@ -19,6 +19,7 @@ package org.jboss.weld.bootstrap;
 import static org.jboss.weld.config.ConfigurationKey.ROLLING_UPGRADES_ID_DELIMITER;
 
 import java.lang.annotation.Annotation;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -54,6 +55,7 @@ import org.jboss.weld.bean.builtin.BeanManagerBean;
 import org.jboss.weld.bean.builtin.BeanManagerImplBean;
 import org.jboss.weld.bean.builtin.ContextBean;
 import org.jboss.weld.bean.proxy.ProtectionDomainCache;
+import org.jboss.weld.bean.proxy.ProxyClassCache;
 import org.jboss.weld.bean.proxy.ProxyInstantiator;
 import org.jboss.weld.bean.proxy.util.SimpleProxyServices;
 import org.jboss.weld.bootstrap.api.Environment;
@@ -95,6 +97,8 @@ import org.jboss.weld.contexts.unbound.RequestContextImpl;
 import org.jboss.weld.contexts.unbound.SingletonContextImpl;
 import org.jboss.weld.event.ContextEvent;
 import org.jboss.weld.event.CurrentEventMetadata;
+import org.jboss.weld.event.AsyncEventLimiter;
+import org.jboss.weld.event.AsyncEventPartitions;
 import org.jboss.weld.event.DefaultObserverNotifierFactory;
 import org.jboss.weld.event.GlobalObserverNotifierService;
 import org.jboss.weld.executor.ExecutorServicesFactory;
@@ -110,6 +114,8 @@ import org.jboss.weld.metadata.TypeStore;
 import org.jboss.weld.metadata.cache.MetaAnnotationStore;
 import org.jboss.weld.module.ObserverNotifierFactory;
 import org.jboss.weld.module.WeldModules;
+import org.jboss.weld.resolution.ResolutionCacheStatisticsRegistry;
+import org.jboss.weld.resolution.ResolutionSnapshotService;
 import org.jboss.weld.resources.ClassTransformer;
 import org.jboss.weld.resources.DefaultResourceLoader;
 import org.jboss.weld.resources.MemberTransformer;
@@ -289,12 +295,19 @@ public class WeldStartup {
         }
         services.add(MemberTransformer.class, new MemberTransformer(services.get(ClassTransformer.class)));
         services.add(MetaAnnotationStore.class, new MetaAnnotationStore(services.get(ClassTransformer.class)));
+        if (configuration.getBooleanProperty(ConfigurationKey.RESOLUTION_CACHE_STATISTICS_JMX_SUPPORT)) {
+            services.add(ResolutionCacheStatisticsRegistry.class, new ResolutionCacheStatisticsRegistry());
+        }
 
         BeanIdentifierIndex beanIdentifierIndex = null;
         if (configuration.getBooleanProperty(ConfigurationKey.BEAN_IDENTIFIER_INDEX_OPTIMIZATION)) {
             beanIdentifierIndex = new BeanIdentifierIndex();
             services.add(BeanIdentifierIndex.class, beanIdentifierIndex);
         }
+        String resolutionSnapshotFile = configuration.getStringProperty(ConfigurationKey.RESOLUTION_SNAPSHOT_FILE);
+        if (!resolutionSnapshotFile.isEmpty()) {
+            services.add(ResolutionSnapshotService.class, new ResolutionSnapshotService(Paths.get(resolutionSnapshotFile)));
+        }
 
         services.add(ContextualStore.class, new ContextualStoreImpl(contextId, beanIdentifierIndex));
         services.add(CurrentInjectionPoint.class, new CurrentInjectionPoint());
@@ -320,9 +333,18 @@ public class WeldStartup {
             services.add(HttpContextActivationFilter.class, AcceptingHttpContextActivationFilter.INSTANCE);
         }
         services.add(ProtectionDomainCache.class, new ProtectionDomainCache());
+        String proxyCacheDirectory = configuration.getStringProperty(ConfigurationKey.PROXY_CACHE);
+        if (!proxyCacheDirectory.isEmpty()) {
+            services.add(ProxyClassCache.class, new ProxyClassCache(Paths.get(proxyCacheDirectory)));
+        }
+        if (configuration.getBooleanProperty(ConfigurationKey.PROXY_WARMUP)) {
+            services.add(ProxyWarmup.class, new ProxyWarmup(services.get(ExecutorServices.class)));
+        }
 
         services.add(ProxyInstantiator.class, ProxyInstantiator.Factory.create(configuration));
 
+        services.add(AsyncEventLimiter.class, new AsyncEventLimiter(configuration));
+        services.add(AsyncEventPartitions.class, new AsyncEventPartitions(configuration));
         services.add(ObserverNotifierFactory.class, DefaultObserverNotifierFactory.INSTANCE);
 
         services.add(ResourceInjectionFactory.class, new ResourceInjectionFactory());
@@ -560,6 +582,38 @@ public class WeldStartup {
             deploymentManager.getServices().get(ClassTransformer.class).cleanupAfterBoot();
         }
 
+        final ResolutionSnapshotService resolutionSnapshot = deploymentManager.getServices().get(ResolutionSnapshotService.class);
+        if (resolutionSnapshot != null) {
+            List<BeanManagerImpl> managers = new ArrayList<>();
+            managers.add(deploymentManager);
+            for (BeanDeployment beanDeployment : getBeanDeployments()) {
+                managers.add(beanDeployment.getBeanManager());
+            }
+            resolutionSnapshot.restore(managers);
+        }
+        if (deploymentManager.getServices().get(WeldConfiguration.class).getBooleanProperty(ConfigurationKey.RESOLUTION_WARMUP)) {
+            List<BeanManagerImpl> managers = new ArrayList<>();
+            for (BeanDeployment beanDeployment : getBeanDeployments()) {
+                managers.add(beanDeployment.getBeanManager());
+            }
+            new ResolutionWarmup(deploymentManager.getServices().get(ExecutorServices.class)).warmUp(managers);
+        }
+        final ProxyWarmup proxyWarmup = deploymentManager.getServices().get(ProxyWarmup.class);
+        if (proxyWarmup != null) {
+            List<BeanManagerImpl> managers = new ArrayList<>();
+            for (BeanDeployment beanDeployment : getBeanDeployments()) {
+                managers.add(beanDeployment.getBeanManager());
+            }
+            proxyWarmup.warmUp(managers);
+        }
+        final ResolutionCacheStatisticsRegistry resolutionCacheStatistics = deploymentManager.getServices().get(ResolutionCacheStatisticsRegistry.class);
+        if (resolutionCacheStatistics != null) {
+            resolutionCacheStatistics.register(deploymentManager);
+            for (BeanDeployment beanDeployment : getBeanDeployments()) {
+                resolutionCacheStatistics.register(beanDeployment.getBeanManager());
+            }
+        }
+
         getContainer().setState(ContainerState.INITIALIZED);
 
         if (modules != null) {
@@ -59,6 +59,27 @@ public enum ConfigurationKey {
     @Description("Weld is capable of resolving observer methods for container lifecycle events in advance while bean deployer threads are blocked waiting for I/O operations. This option specifies the number of threads used for preloading. If set to 0, preloading is disabled.")
     PRELOADER_THREAD_POOL_SIZE("org.jboss.weld.bootstrap.preloaderThreadPoolSize", Math.max(1, Runtime.getRuntime().availableProcessors() - 1)),
 
+    /**
+     * If set to <code>true</code>, the beans for every {@link javax.enterprise.inject.Instance} injection point and the observer methods for every
+     * {@link javax.enterprise.event.Event} injection point and every observed event type are resolved at the end of bootstrap. If available,
+     * {@link org.jboss.weld.manager.api.ExecutorServices} are used to perform the resolution in parallel.
+     *
+     * By default, the warm-up is disabled.
+     */
+    @Description("If set to <code>true</code>, the beans for every <code>Instance</code> injection point and the observer methods for every <code>Event</code> injection point and every observed event type are resolved at the end of bootstrap.")
+    RESOLUTION_WARMUP("org.jboss.weld.bootstrap.resolutionWarmup", false),
+
+    /**
+     * If set to <code>true</code>, the client proxies of all the beans which require a client proxy are created at the end of bootstrap. If available,
+     * {@link org.jboss.weld.manager.api.ExecutorServices} are used to create the proxies in parallel.
+     *
+     * By default, the warm-up is disabled.
+     *
+     * @see org.jboss.weld.bootstrap.ProxyWarmup
+     */
+    @Description("If set to <code>true</code>, the client proxies of all the beans which require a client proxy are created at the end of bootstrap.")
+    PROXY_WARMUP("org.jboss.weld.bootstrap.proxyWarmup", false),
+
     /**
      * Allows an integrator to enable the non-portable mode. Non-portable mode is suggested by the specification to overcome problems with legacy applications
      * not using CDI SPI properly.
@@ -103,12 +124,61 @@ public enum ConfigurationKey {
     @Description("Weld caches already resolved injection points in order to resolve them faster in the future. There exists a separate type safe resolver for beans, decorators, disposers, interceptors and observers. Each of them stores resolved injection points in its cache, which maximum size is bounded by a common default value.")
     RESOLUTION_CACHE_SIZE("org.jboss.weld.resolution.cacheSize", 0x10000L),
 
+    /**
+     * Determines which entries are discarded once the maximum size of a type safe resolver cache is exceeded. Possible values are:
+     * <ul>
+     * <li><code>SEGMENTED_LRU</code> - only the least valuable entries are evicted, the entries which are used repeatedly remain cached (default)</li>
+     * <li><code>CLEAR</code> - the whole cache is cleared</li>
+     * </ul>
+     *
+     * @see #RESOLUTION_CACHE_SIZE
+     * @see org.jboss.weld.util.cache.EvictionPolicy
+     */
+    @Description("Determines which entries are discarded once the maximum size of a type safe resolver cache is exceeded. Possible values are: <ul><li><code>SEGMENTED_LRU</code> - only the least valuable entries are evicted, the entries which are used repeatedly remain cached</li><li><code>CLEAR</code> - the whole cache is cleared</li></ul>")
+    RESOLUTION_CACHE_EVICTION("org.jboss.weld.resolution.cacheEviction", "SEGMENTED_LRU"),
+
+    /**
+     * If set to <code>true</code> the resolution cache statistics of each bean manager are registered as an MBean.
+     *
+     * @see org.jboss.weld.resolution.ResolutionCacheStatisticsMXBean
+     */
+    @Description("If set to <code>true</code> the resolution cache statistics of each bean manager are registered as an MBean.")
+    RESOLUTION_CACHE_STATISTICS_JMX_SUPPORT("org.jboss.weld.resolution.cacheStatistics.jmxSupport", false),
+
+    /**
+     * The path of a resolution snapshot file. If set, the resolved beans, names and observer methods are written to the file at shutdown and restored during
+     * the next bootstrap if the deployment did not change. The bean identifier index optimization must be enabled. The snapshot is disabled by default.
+     *
+     * @see #BEAN_IDENTIFIER_INDEX_OPTIMIZATION
+     * @see org.jboss.weld.resolution.ResolutionSnapshotService
+     */
+    @Description("The path of a resolution snapshot file. If set, the resolved beans, names and observer methods are written to the file at shutdown and restored during the next bootstrap if the deployment did not change. The bean identifier index optimization must be enabled.")
+    RESOLUTION_SNAPSHOT_FILE("org.jboss.weld.resolution.snapshotFile", ""),
+
     /**
      * For debug purposes, it's possible to dump the generated bytecode of proxies and subclasses.
      */
     @Description("For debugging purposes, it’s possible to dump the generated bytecode of client proxies and enhanced subclasses to the filesystem. The value represents the file path where the files should be stored.")
     PROXY_DUMP("org.jboss.weld.proxy.dump", ""),
 
+    /**
+     * The directory of a persistent proxy class cache. If set, the generated bytecode of client proxies, intercepted subclasses and decorator proxies is
+     * stored in the directory and loaded instead of being generated again, as long as the classes the proxy is generated from did not change.
+     *
+     * @see org.jboss.weld.bean.proxy.ProxyClassCache
+     */
+    @Description("The directory of a persistent proxy class cache. If set, the generated bytecode of client proxies, intercepted subclasses and decorator proxies is stored in the directory and reused by subsequent bootstraps as long as the classes the proxy is generated from did not change.")
+    PROXY_CACHE("org.jboss.weld.proxy.cache", ""),
+
+    /**
+     * If set to <code>true</code>, the client proxies of {@link javax.enterprise.context.ApplicationScoped} beans hold the contextual instance in a field of
+     * their own so that an invocation does not need to look up the instance. The field is cleared once the instance is destroyed.
+     *
+     * @see org.jboss.weld.bean.proxy.InstanceCachingClientProxy
+     */
+    @Description("If set to <code>true</code>, the client proxies of application-scoped beans hold the contextual instance in a field of their own so that an invocation does not need to look up the instance. The field is cleared once the instance is destroyed.")
+    PROXY_INSTANCE_CACHE("org.jboss.weld.proxy.instanceCache", true),
+
     /**
      * Weld supports a non-standard workaround to be able to create client proxies for Java types that cannot be proxied by the container, using non-portable
      * JVM APIs.
@@ -143,6 +213,41 @@ public enum ConfigurationKey {
     @Description("For certain combinations of scopes, the container is permitted to optimize an injectable reference lookup. The optimization is disabled by default.")
     INJECTABLE_REFERENCE_OPTIMIZATION("org.jboss.weld.injection.injectableReferenceOptimization", false),
 
+    /**
+     * The maximum number of event objects delivered by a single task when a collection of events is fired asynchronously. The request context is activated
+     * once per task.
+     *
+     * @see org.jboss.weld.event.EventImpl#fireAllAsync(java.util.Collection, javax.enterprise.event.NotificationOptions)
+     */
+    @Description("The maximum number of event objects delivered by a single task when a collection of events is fired asynchronously. The request context is activated once per task.")
+    ASYNC_EVENT_BATCH_CHUNK_SIZE("org.jboss.weld.event.async.batchChunkSize", 256),
+
+    /**
+     * The maximum number of asynchronous observer notifications in flight, i.e. submitted to the executor and not completed yet. The default value of
+     * <code>0</code> means no limit.
+     *
+     * @see org.jboss.weld.event.AsyncEventLimiter
+     */
+    @Description("The maximum number of asynchronous observer notifications submitted to the executor and not completed yet. The default value of <code>0</code> means no limit.")
+    ASYNC_EVENT_MAX_IN_FLIGHT("org.jboss.weld.event.async.maxInFlight", 0),
+
+    /**
+     * The action taken when the limit of asynchronous observer notifications in flight is reached - <code>block</code>, <code>reject</code> or
+     * <code>caller-runs</code>. An asynchronous event fired by an asynchronous observer method is never blocked, it is rejected instead.
+     *
+     * @see org.jboss.weld.event.AsyncEventLimiter.OverflowPolicy
+     */
+    @Description("The action taken when the limit of asynchronous observer notifications in flight is reached - <code>block</code> the thread firing the event, <code>reject</code> the event or notify the observers in the thread firing the event (<code>caller-runs</code>).")
+    ASYNC_EVENT_OVERFLOW_POLICY("org.jboss.weld.event.async.overflowPolicy", "block"),
+
+    /**
+     * The number of serial lanes used for key-partitioned asynchronous event delivery. By default, the number of available processors is used.
+     *
+     * @see org.jboss.weld.event.AsyncEventPartitions
+     */
+    @Description("The number of serial lanes used for key-partitioned asynchronous event delivery. By default, the number of available processors is used.")
+    ASYNC_EVENT_PARTITION_LANES("org.jboss.weld.event.async.partitionLanes", Runtime.getRuntime().availableProcessors()),
+
     /**
      * A regular expression. If a non-empty string and the base type for an AnnotatedType or a declaring type for an AnnotatedMember matches this pattern the
      * type is excluded from monitoring, i.e. the invocation monitor interceptor is not associated.
@@ -22,20 +22,58 @@
  */
 package org.jboss.weld.contexts;
 
+import javax.enterprise.context.ContextNotActiveException;
+import javax.enterprise.context.spi.Contextual;
+import javax.enterprise.context.spi.CreationalContext;
+
+import org.jboss.weld.bean.CommonBean;
+import org.jboss.weld.bean.WrappedContextual;
+import org.jboss.weld.context.api.ContextualInstance;
 import org.jboss.weld.contexts.beanstore.BeanStore;
-import org.jboss.weld.contexts.beanstore.ConcurrentHashMapBeanStore;
+import org.jboss.weld.contexts.beanstore.IndexedBeanStore;
+import org.jboss.weld.serialization.spi.ContextualStore;
 
 public abstract class AbstractSharedContext extends AbstractContext {
 
     // The beans
-    private final BeanStore beanStore;
+    private final IndexedBeanStore beanStore;
 
     /**
      * Constructor
      */
     protected AbstractSharedContext(String contextId) {
         super(contextId, true);
-        this.beanStore = new ConcurrentHashMapBeanStore();
+        this.beanStore = new IndexedBeanStore();
+    }
+
+    /**
+     * The contextual instances of {@link CommonBean}s are looked up by the index assigned by the {@link IndexedBeanStore}, i.e. no bean identifier is
+     * computed.
+     */
+    @Override
+    public <T> T get(Contextual<T> contextual, CreationalContext<T> creationalContext) {
+        Contextual<?> bean = contextual instanceof WrappedContextual<?> ? ((WrappedContextual<?>) contextual).delegate() : contextual;
+        if (!(bean instanceof CommonBean<?>)) {
+            return super.get(contextual, creationalContext);
+        }
+        if (!isActive()) {
+            throw new ContextNotActiveException();
+        }
+        checkContextInitialized();
+        int index = beanStore.getIndex((CommonBean<?>) bean);
+        ContextualInstance<T> beanInstance = beanStore.get(index);
+        if (beanInstance != null) {
+            return beanInstance.getInstance();
+        } else if (creationalContext != null) {
+            beanInstance = beanStore.getOrCreate(index, () -> {
+                T instance = contextual.create(creationalContext);
+                return instance != null ? new SerializableContextualInstanceImpl<Contextual<T>, T>(contextual, instance, creationalContext,
+                        getServiceRegistry().get(ContextualStore.class)) : null;
+            });
+            return beanInstance != null ? beanInstance.getInstance() : null;
+        } else {
+            return null;
+        }
     }
 
     /**
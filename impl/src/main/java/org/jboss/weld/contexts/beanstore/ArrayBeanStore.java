@@ -0,0 +1,171 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts.beanstore;
+
+import static org.jboss.weld.util.reflection.Reflections.cast;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+
+/**
+ * A bean store which is not thread-safe and which stores the contextual instances of indexed beans in a plain array addressed by the index assigned by a
+ * {@link BeanIndexer}. The array is initially sized to the number of beans indexed so far. Contextual instances of other contextuals are stored in a
+ * {@link HashMapBeanStore} which is only created if needed.
+ *
+ * <p>
+ * A store may be recycled, i.e. used again after it was {@link #clear() cleared}.
+ * </p>
+ *
+ * @see org.jboss.weld.contexts.unbound.RequestContextImpl
+ */
+public class ArrayBeanStore implements BeanStore {
+
+    private static final int MIN_CAPACITY = 8;
+
+    private final BeanIndexer indexer;
+
+    private Object[] instances;
+
+    // The highest index used since the last clear
+    private int maxIndex;
+
+    private HashMapBeanStore fallback;
+
+    public ArrayBeanStore(BeanIndexer indexer) {
+        this.indexer = indexer;
+        this.instances = new Object[Math.max(indexer.size(), MIN_CAPACITY)];
+        this.maxIndex = -1;
+    }
+
+    /**
+     *
+     * @param index
+     * @return the contextual instance stored under the given index or <code>null</code> if there is no such instance
+     */
+    public <T> ContextualInstance<T> get(int index) {
+        return index < instances.length ? cast(instances[index]) : null;
+    }
+
+    /**
+     *
+     * @param index
+     * @param contextualInstance
+     */
+    public <T> void put(int index, ContextualInstance<T> contextualInstance) {
+        if (index >= instances.length) {
+            instances = Arrays.copyOf(instances, Math.max(instances.length * 2, indexer.size()));
+        }
+        instances[index] = contextualInstance;
+        if (index > maxIndex) {
+            maxIndex = index;
+        }
+    }
+
+    @Override
+    public <T> ContextualInstance<T> get(BeanIdentifier id) {
+        Integer index = indexer.getIndex(id);
+        if (index != null) {
+            return get(index);
+        }
+        return fallback != null ? fallback.get(id) : null;
+    }
+
+    @Override
+    public boolean contains(BeanIdentifier id) {
+        return get(id) != null;
+    }
+
+    @Override
+    public void clear() {
+        if (maxIndex >= 0) {
+            Arrays.fill(instances, 0, maxIndex + 1, null);
+            maxIndex = -1;
+        }
+        if (fallback != null) {
+            fallback.clear();
+        }
+    }
+
+    @Override
+    public Iterator<BeanIdentifier> iterator() {
+        if (maxIndex < 0 && fallback == null) {
+            return Collections.emptyIterator();
+        }
+        List<BeanIdentifier> ids = new ArrayList<>();
+        if (maxIndex >= 0) {
+            for (Map.Entry<BeanIdentifier, Integer> entry : indexer.getIndexes()) {
+                if (get(entry.getValue()) != null) {
+                    ids.add(entry.getKey());
+                }
+            }
+        }
+        if (fallback != null) {
+            for (BeanIdentifier id : fallback) {
+                ids.add(id);
+            }
+        }
+        return ids.iterator();
+    }
+
+    @Override
+    public <T> void put(BeanIdentifier id, ContextualInstance<T> contextualInstance) {
+        Integer index = indexer.getIndex(id);
+        if (index != null) {
+            put(index, contextualInstance);
+        } else {
+            if (fallback == null) {
+                fallback = new HashMapBeanStore();
+            }
+            fallback.put(id, contextualInstance);
+        }
+    }
+
+    @Override
+    public LockedBean lock(BeanIdentifier id) {
+        return null;
+    }
+
+    @Override
+    public <T> ContextualInstance<T> remove(BeanIdentifier id) {
+        Integer index = indexer.getIndex(id);
+        if (index != null) {
+            ContextualInstance<T> instance = get(index);
+            if (instance != null) {
+                instances[index] = null;
+            }
+            return instance;
+        }
+        return fallback != null ? fallback.remove(id) : null;
+    }
+
+    @Override
+    public String toString() {
+        int count = 0;
+        for (Iterator<BeanIdentifier> iterator = iterator(); iterator.hasNext(); iterator.next()) {
+            count++;
+        }
+        return "holding " + count + " instances";
+    }
+
+}
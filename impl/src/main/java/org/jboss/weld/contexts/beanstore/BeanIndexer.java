@@ -0,0 +1,117 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts.beanstore;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.weld.bean.CommonBean;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+
+/**
+ * Assigns a dense index to every {@link CommonBean} the first time the index is requested. The index is cached on the bean so that subsequent lookups do not
+ * need to compute or hash the bean identifier. An indexer is usually associated with a context and the index is used to address the contextual instance in
+ * an array-backed bean store.
+ *
+ * <p>
+ * A bean may only cache the index of a single indexer. If the same bean is used with several indexers the index is looked up by the bean identifier, without
+ * any locking. Only the assignment of a new index is synchronized.
+ * </p>
+ *
+ * @see IndexedBeanStore
+ * @see ArrayBeanStore
+ */
+public class BeanIndexer {
+
+    private final Map<BeanIdentifier, Integer> indexes;
+
+    private volatile int size;
+
+    public BeanIndexer() {
+        this.indexes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     *
+     * @param bean
+     * @return the index of the given bean
+     */
+    public int getIndex(CommonBean<?> bean) {
+        Index index = bean.getBeanStoreIndex();
+        if (index != null && index.indexer == this) {
+            return index.value;
+        }
+        // The bean caches the index of another indexer or no index was assigned yet
+        Integer existing = indexes.get(bean.getIdentifier());
+        if (existing != null) {
+            return existing;
+        }
+        return assignIndex(bean);
+    }
+
+    /**
+     *
+     * @param id
+     * @return the index of the bean with the given identifier or <code>null</code> if no index was assigned
+     */
+    public Integer getIndex(BeanIdentifier id) {
+        return indexes.get(id);
+    }
+
+    /**
+     *
+     * @return the number of assigned indexes
+     */
+    public int size() {
+        return size;
+    }
+
+    Iterable<Map.Entry<BeanIdentifier, Integer>> getIndexes() {
+        return indexes.entrySet();
+    }
+
+    private synchronized int assignIndex(CommonBean<?> bean) {
+        Integer existing = indexes.get(bean.getIdentifier());
+        if (existing != null) {
+            return existing;
+        }
+        int index = size;
+        indexes.put(bean.getIdentifier(), index);
+        size = index + 1;
+        if (bean.getBeanStoreIndex() == null) {
+            bean.setBeanStoreIndex(new Index(this, index));
+        }
+        return index;
+    }
+
+    /**
+     * The index of a bean assigned by a specific indexer.
+     */
+    public static final class Index {
+
+        private final BeanIndexer indexer;
+
+        private final int value;
+
+        private Index(BeanIndexer indexer, int value) {
+            this.indexer = indexer;
+            this.value = value;
+        }
+
+    }
+
+}
@@ -0,0 +1,277 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.contexts.beanstore;
+
+import static org.jboss.weld.util.reflection.Reflections.cast;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.jboss.weld.bean.CommonBean;
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+
+/**
+ * A bean store for shared contexts. Every {@link CommonBean} is assigned a dense index by a {@link BeanIndexer} the first time its contextual instance is
+ * looked up and the instance is then stored in an {@link AtomicReferenceArray} slot. The index is cached on the bean so that a lookup is a single array read -
+ * no bean identifier is computed or hashed. The {@link BeanStore} methods address the contextual instances of indexed beans by the bean identifier.
+ *
+ * <p>
+ * A contextual instance is created at most once - the creating thread installs a creation marker in the slot using CAS and other threads wait until the
+ * creation is finished. Contextuals which are not {@link CommonBean}s are stored in a {@link ConcurrentHashMapBeanStore}.
+ * </p>
+ *
+ * <p>
+ * Slots are allocated in segments which are never copied, i.e. an update of a slot is never lost when the store grows.
+ * </p>
+ *
+ * @see org.jboss.weld.contexts.AbstractSharedContext
+ */
+public class IndexedBeanStore implements BeanStore {
+
+    private static final int SEGMENT_SHIFT = 6;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private final ConcurrentHashMapBeanStore fallback;
+
+    private final BeanIndexer indexer;
+
+    private volatile AtomicReferenceArray<Object>[] segments;
+
+    public IndexedBeanStore() {
+        this.fallback = new ConcurrentHashMapBeanStore();
+        this.indexer = new BeanIndexer();
+        this.segments = newSegments(0, 1);
+    }
+
+    /**
+     *
+     * @param bean
+     * @return the index of the given bean
+     */
+    public int getIndex(CommonBean<?> bean) {
+        int index = indexer.getIndex(bean);
+        if ((index >>> SEGMENT_SHIFT) >= segments.length) {
+            ensureCapacity(index);
+        }
+        return index;
+    }
+
+    /**
+     *
+     * @param index
+     * @return the contextual instance stored under the given index or <code>null</code> if there is no such instance
+     */
+    public <T> ContextualInstance<T> get(int index) {
+        Object value = getSegment(index).get(index & SEGMENT_MASK);
+        return value instanceof ContextualInstance<?> ? cast(value) : null;
+    }
+
+    /**
+     * Returns the contextual instance stored under the given index or creates a new one. The factory is called at most once per index unless a creation fails
+     * or the same thread requests the instance again during creation. In the latter case the factory is called again and the result is not stored.
+     *
+     * @param index
+     * @param factory creates a new contextual instance, may return <code>null</code>
+     * @return the contextual instance or <code>null</code> if the factory returned <code>null</code>
+     */
+    public <T> ContextualInstance<T> getOrCreate(int index, Supplier<ContextualInstance<T>> factory) {
+        AtomicReferenceArray<Object> segment = getSegment(index);
+        int offset = index & SEGMENT_MASK;
+        for (;;) {
+            Object value = segment.get(offset);
+            if (value instanceof ContextualInstance<?>) {
+                return cast(value);
+            }
+            if (value == null) {
+                Creation creation = new Creation();
+                if (segment.compareAndSet(offset, null, creation)) {
+                    ContextualInstance<T> instance = null;
+                    try {
+                        instance = factory.get();
+                        return instance;
+                    } finally {
+                        segment.set(offset, instance);
+                        creation.finish();
+                    }
+                }
+                continue;
+            }
+            Creation creation = (Creation) value;
+            if (creation.isOwner()) {
+                // Reentrant creation
+                return factory.get();
+            }
+            creation.await();
+        }
+    }
+
+    @Override
+    public <T> ContextualInstance<T> get(BeanIdentifier id) {
+        Integer index = indexer.getIndex(id);
+        if (index == null) {
+            return fallback.get(id);
+        }
+        Object value = getSegmentFor(index).get(index & SEGMENT_MASK);
+        return value instanceof ContextualInstance<?> ? cast(value) : null;
+    }
+
+    @Override
+    public boolean contains(BeanIdentifier id) {
+        return get(id) != null;
+    }
+
+    @Override
+    public void clear() {
+        for (AtomicReferenceArray<Object> segment : segments) {
+            for (int i = 0; i < SEGMENT_SIZE; i++) {
+                Object value = segment.get(i);
+                if (value instanceof ContextualInstance<?>) {
+                    segment.compareAndSet(i, value, null);
+                }
+            }
+        }
+        fallback.clear();
+    }
+
+    @Override
+    public Iterator<BeanIdentifier> iterator() {
+        List<BeanIdentifier> ids = new ArrayList<>();
+        for (Map.Entry<BeanIdentifier, Integer> entry : indexer.getIndexes()) {
+            if (get(entry.getKey()) != null) {
+                ids.add(entry.getKey());
+            }
+        }
+        for (BeanIdentifier id : fallback) {
+            ids.add(id);
+        }
+        return ids.iterator();
+    }
+
+    @Override
+    public <T> void put(BeanIdentifier id, ContextualInstance<T> contextualInstance) {
+        Integer index = indexer.getIndex(id);
+        if (index != null) {
+            getSegmentFor(index).set(index & SEGMENT_MASK, contextualInstance);
+        } else {
+            fallback.put(id, contextualInstance);
+        }
+    }
+
+    @Override
+    public LockedBean lock(BeanIdentifier id) {
+        return fallback.lock(id);
+    }
+
+    @Override
+    public <T> ContextualInstance<T> remove(BeanIdentifier id) {
+        Integer index = indexer.getIndex(id);
+        if (index == null) {
+            return fallback.remove(id);
+        }
+        AtomicReferenceArray<Object> segment = getSegmentFor(index);
+        int offset = index & SEGMENT_MASK;
+        for (;;) {
+            Object value = segment.get(offset);
+            if (!(value instanceof ContextualInstance<?>)) {
+                return null;
+            }
+            if (segment.compareAndSet(offset, value, null)) {
+                return cast(value);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        int count = 0;
+        for (Iterator<BeanIdentifier> iterator = iterator(); iterator.hasNext(); iterator.next()) {
+            count++;
+        }
+        return "holding " + count + " instances";
+    }
+
+    private AtomicReferenceArray<Object> getSegment(int index) {
+        return segments[index >>> SEGMENT_SHIFT];
+    }
+
+    private AtomicReferenceArray<Object> getSegmentFor(int index) {
+        // The index might have been assigned by another thread which did not ensure the capacity yet
+        if ((index >>> SEGMENT_SHIFT) >= segments.length) {
+            ensureCapacity(index);
+        }
+        return getSegment(index);
+    }
+
+    private synchronized void ensureCapacity(int index) {
+        int length = segments.length;
+        if ((index >>> SEGMENT_SHIFT) >= length) {
+            int newLength = length * 2;
+            while ((index >>> SEGMENT_SHIFT) >= newLength) {
+                newLength *= 2;
+            }
+            segments = newSegments(length, newLength);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private AtomicReferenceArray<Object>[] newSegments(int length, int newLength) {
+        AtomicReferenceArray<Object>[] newSegments = length > 0 ? Arrays.copyOf(segments, newLength) : new AtomicReferenceArray[newLength];
+        for (int i = length; i < newLength; i++) {
+            newSegments[i] = new AtomicReferenceArray<>(SEGMENT_SIZE);
+        }
+        return newSegments;
+    }
+
+    /**
+     * A marker of a contextual instance being created.
+     */
+    private static final class Creation {
+
+        private final Thread owner;
+
+        private final ReentrantLock lock;
+
+        private Creation() {
+            this.owner = Thread.currentThread();
+            this.lock = new ReentrantLock();
+            this.lock.lock();
+        }
+
+        private boolean isOwner() {
+            return owner == Thread.currentThread();
+        }
+
+        private void finish() {
+            lock.unlock();
+        }
+
+        private void await() {
+            lock.lock();
+            lock.unlock();
+        }
+
+    }
+
+}
@@ -18,8 +18,8 @@
 package org.jboss.weld.contexts.beanstore;
 
 import java.io.Serializable;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.jboss.weld.serialization.spi.BeanIdentifier;
@@ -27,6 +27,11 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 /**
  * Helper class for bean store creation locking.
  *
+ * <p>
+ * The reference counted locks are maintained by {@link ConcurrentMap#compute(Object, java.util.function.BiFunction)} so that the creations of different beans
+ * never contend with each other.
+ * </p>
+ *
  * @author Stuart Douglas
  * @author Marko Luksa
  */
@@ -35,26 +40,35 @@ public class LockStore implements Serializable {
     private static final long serialVersionUID = -698649566870070414L;
 
     @SuppressFBWarnings("SE_TRANSIENT_FIELD_NOT_RESTORED")
-    private transient volatile Map<BeanIdentifier, ReferenceCountedLock> locks = new HashMap<BeanIdentifier, ReferenceCountedLock>();
+    private transient volatile ConcurrentMap<BeanIdentifier, ReferenceCountedLock> locks = new ConcurrentHashMap<BeanIdentifier, ReferenceCountedLock>();
 
     public LockedBean lock(BeanIdentifier id) {
-        ReferenceCountedLock refLock;
-        synchronized (this) {
-            if(locks == null) {
-                locks = new HashMap<BeanIdentifier, ReferenceCountedLock>();
-            }
-            refLock = locks.get(id);
-            if (refLock != null) {
-                refLock.count++;
-            } else {
-                refLock = new ReferenceCountedLock(id);
-                locks.put(id, refLock);
+        ReferenceCountedLock refLock = getLocks().compute(id, (key, value) -> {
+            if (value == null) {
+                return new ReferenceCountedLock(key);
             }
-        }
+            // The count is only modified within a remapping function
+            value.count++;
+            return value;
+        });
         refLock.lock.lock();
         return refLock;
     }
 
+    private ConcurrentMap<BeanIdentifier, ReferenceCountedLock> getLocks() {
+        ConcurrentMap<BeanIdentifier, ReferenceCountedLock> locks = this.locks;
+        if (locks == null) {
+            synchronized (this) {
+                locks = this.locks;
+                if (locks == null) {
+                    // The store was deserialized
+                    this.locks = locks = new ConcurrentHashMap<BeanIdentifier, ReferenceCountedLock>();
+                }
+            }
+        }
+        return locks;
+    }
+
     private class ReferenceCountedLock implements LockedBean {
         private final BeanIdentifier key;
         int count = 1;
@@ -65,13 +79,8 @@ public class LockStore implements Serializable {
         }
 
         public void unlock() {
-            synchronized (LockStore.this) {
-                lock.unlock();
-                --count;
-                if (count == 0) {
-                    locks.remove(key);
-                }
-            }
+            lock.unlock();
+            getLocks().computeIfPresent(key, (id, value) -> --value.count == 0 ? null : value);
         }
     }
 
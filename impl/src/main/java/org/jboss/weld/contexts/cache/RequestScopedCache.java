@@ -19,6 +19,8 @@ package org.jboss.weld.contexts.cache;
 import java.util.LinkedList;
 import java.util.List;
 
+import org.jboss.weld.util.WeldThreadState;
+
 /**
  * Caches beans over the life of a request, to allow for efficient bean lookups from proxies.
  * Besides, can hold any ThreadLocals to be removed at the end of the request.
@@ -27,13 +29,20 @@ import java.util.List;
  */
 public class RequestScopedCache {
 
-    private static final ThreadLocal<List<RequestScopedItem>> CACHE = new ThreadLocal<List<RequestScopedItem>>();
-
     private RequestScopedCache() {
     }
 
     public static boolean isActive() {
-        return CACHE.get() != null;
+        return getItems(WeldThreadState.getIfExists()) != null;
+    }
+
+    /**
+     *
+     * @param state the state of the current thread, may be <code>null</code>
+     * @return the items of the active cache or <code>null</code> if the cache is not active
+     */
+    private static List<RequestScopedItem> getItems(WeldThreadState state) {
+        return state != null ? state.getRequestScopedItems() : null;
     }
 
     private static void checkCacheForAdding(final List<RequestScopedItem> cache) {
@@ -43,13 +52,24 @@ public class RequestScopedCache {
     }
 
     public static void addItem(final RequestScopedItem item) {
-        final List<RequestScopedItem> cache = CACHE.get();
+        final List<RequestScopedItem> cache = getItems(WeldThreadState.getIfExists());
         checkCacheForAdding(cache);
         cache.add(item);
     }
 
     public static boolean addItemIfActive(final RequestScopedItem item) {
-        final List<RequestScopedItem> cache = CACHE.get();
+        return addItemIfActive(WeldThreadState.getIfExists(), item);
+    }
+
+    /**
+     * Adds the given item if the cache is active.
+     *
+     * @param state the state of the current thread, may be <code>null</code>
+     * @param item
+     * @return <code>true</code> if the item was added, <code>false</code> otherwise
+     */
+    public static boolean addItemIfActive(final WeldThreadState state, final RequestScopedItem item) {
+        final List<RequestScopedItem> cache = getItems(state);
         if (cache != null) {
             cache.add(item);
             return true;
@@ -58,7 +78,7 @@ public class RequestScopedCache {
     }
 
     public static boolean addItemIfActive(final ThreadLocal<?> item) {
-        final List<RequestScopedItem> cache = CACHE.get();
+        final List<RequestScopedItem> cache = getItems(WeldThreadState.getIfExists());
         if (cache != null) {
             cache.add(new RequestScopedItem() {
                 public void invalidate() {
@@ -73,7 +93,7 @@ public class RequestScopedCache {
     public static void beginRequest() {
         // if the previous request was not ended properly for some reason, make sure it is ended now
         endRequest();
-        CACHE.set(new LinkedList<RequestScopedItem>());
+        WeldThreadState.get().setRequestScopedItems(new LinkedList<RequestScopedItem>());
     }
 
     /**
@@ -81,9 +101,10 @@ public class RequestScopedCache {
      * in which case the cache will be unavailable for the rest of the request.
      */
     public static void endRequest() {
-        final List<RequestScopedItem> result = CACHE.get();
+        final WeldThreadState state = WeldThreadState.getIfExists();
+        final List<RequestScopedItem> result = getItems(state);
         if (result != null) {
-            CACHE.remove();
+            state.setRequestScopedItems(null);
             for (final RequestScopedItem item : result) {
                 item.invalidate();
             }
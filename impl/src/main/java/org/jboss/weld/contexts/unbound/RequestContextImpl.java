@@ -1,17 +1,41 @@
 package org.jboss.weld.contexts.unbound;
 
-import org.jboss.weld.contexts.AbstractUnboundContext;
-import org.jboss.weld.context.RequestContext;
-import org.jboss.weld.contexts.beanstore.HashMapBeanStore;
+import java.lang.annotation.Annotation;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+import javax.enterprise.context.ContextNotActiveException;
 import javax.enterprise.context.RequestScoped;
+import javax.enterprise.context.spi.Contextual;
+import javax.enterprise.context.spi.CreationalContext;
 
-import java.lang.annotation.Annotation;
+import org.jboss.weld.bean.CommonBean;
+import org.jboss.weld.bean.WrappedContextual;
+import org.jboss.weld.context.RequestContext;
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.contexts.AbstractUnboundContext;
+import org.jboss.weld.contexts.SerializableContextualInstanceImpl;
+import org.jboss.weld.contexts.beanstore.ArrayBeanStore;
+import org.jboss.weld.contexts.beanstore.BeanIndexer;
+import org.jboss.weld.contexts.beanstore.BeanStore;
+import org.jboss.weld.serialization.spi.ContextualStore;
 
+/**
+ * The contextual instances of {@link CommonBean}s are stored in an {@link ArrayBeanStore} addressed by the index assigned by a {@link BeanIndexer}. The bean
+ * stores are recycled - a bean store is cleared and returned to a small pool when the context is deactivated. A thread starts looking for a free bean store at
+ * a position derived from the thread id and so usually gets the bean store it used last.
+ */
 public class RequestContextImpl extends AbstractUnboundContext implements RequestContext {
 
+    private static final int POOL_SIZE = Integer.highestOneBit(Math.max(Runtime.getRuntime().availableProcessors(), 1)) * 2;
+
+    private final BeanIndexer indexer;
+
+    private final AtomicReferenceArray<ArrayBeanStore> pool;
+
     public RequestContextImpl(String contextId) {
         super(contextId, false);
+        this.indexer = new BeanIndexer();
+        this.pool = new AtomicReferenceArray<>(POOL_SIZE);
     }
 
     public Class<? extends Annotation> getScope() {
@@ -20,16 +44,78 @@ public class RequestContextImpl extends AbstractUnboundContext implements Reques
 
     public void activate() {
         // Attach bean store (this context is unbound, so this can simply be thread-scoped
-        setBeanStore(new HashMapBeanStore());
+        setBeanStore(acquireBeanStore());
         super.activate();
     }
 
     @Override
     public void deactivate() {
+        BeanStore beanStore = getBeanStore();
         super.deactivate();
         // Detach the bean store
         setBeanStore(null);
         cleanup();
+        if (beanStore instanceof ArrayBeanStore) {
+            releaseBeanStore((ArrayBeanStore) beanStore);
+        }
+    }
+
+    @Override
+    public <T> T get(Contextual<T> contextual, CreationalContext<T> creationalContext) {
+        Contextual<?> bean = contextual instanceof WrappedContextual<?> ? ((WrappedContextual<?>) contextual).delegate() : contextual;
+        if (!(bean instanceof CommonBean<?>)) {
+            return super.get(contextual, creationalContext);
+        }
+        if (!isActive()) {
+            throw new ContextNotActiveException();
+        }
+        checkContextInitialized();
+        BeanStore beanStore = getBeanStore();
+        if (!(beanStore instanceof ArrayBeanStore)) {
+            return super.get(contextual, creationalContext);
+        }
+        ArrayBeanStore arrayBeanStore = (ArrayBeanStore) beanStore;
+        int index = indexer.getIndex((CommonBean<?>) bean);
+        ContextualInstance<T> beanInstance = arrayBeanStore.get(index);
+        if (beanInstance != null) {
+            return beanInstance.getInstance();
+        } else if (creationalContext != null) {
+            T instance = contextual.create(creationalContext);
+            if (instance != null) {
+                arrayBeanStore.put(index, new SerializableContextualInstanceImpl<Contextual<T>, T>(contextual, instance, creationalContext,
+                        getServiceRegistry().get(ContextualStore.class)));
+            }
+            return instance;
+        } else {
+            return null;
+        }
+    }
+
+    private ArrayBeanStore acquireBeanStore() {
+        int start = getPoolPosition();
+        for (int i = 0; i < POOL_SIZE; i++) {
+            int position = (start + i) & (POOL_SIZE - 1);
+            ArrayBeanStore beanStore = pool.get(position);
+            if (beanStore != null && pool.compareAndSet(position, beanStore, null)) {
+                return beanStore;
+            }
+        }
+        return new ArrayBeanStore(indexer);
+    }
+
+    private void releaseBeanStore(ArrayBeanStore beanStore) {
+        beanStore.clear();
+        int start = getPoolPosition();
+        for (int i = 0; i < POOL_SIZE; i++) {
+            int position = (start + i) & (POOL_SIZE - 1);
+            if (pool.get(position) == null && pool.compareAndSet(position, null, beanStore)) {
+                return;
+            }
+        }
+    }
+
+    private static int getPoolPosition() {
+        return (int) Thread.currentThread().getId() & (POOL_SIZE - 1);
     }
 
 }
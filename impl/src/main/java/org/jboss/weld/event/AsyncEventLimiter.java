@@ -0,0 +1,264 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.event;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.logging.EventLogger;
+
+/**
+ * Limits the number of asynchronous observer notifications in flight, i.e. the tasks submitted to the executor which did not complete yet. Without a limit, a
+ * burst of asynchronous events is queued by the executor without any bound.
+ *
+ * <p>
+ * If the limit is reached the {@link OverflowPolicy} decides what happens to the next notification. The policy may be set for a single event using the
+ * {@link #OVERFLOW_POLICY} notification option, e.g. <code>event.fireAsync(payload, NotificationOptions.of(AsyncEventLimiter.OVERFLOW_POLICY, "reject"))</code>.
+ * </p>
+ *
+ * @see ConfigurationKey#ASYNC_EVENT_MAX_IN_FLIGHT
+ * @see ConfigurationKey#ASYNC_EVENT_OVERFLOW_POLICY
+ */
+public class AsyncEventLimiter implements Service {
+
+    /**
+     * The notification option which overrides the {@link OverflowPolicy} for a single asynchronous event. Either an {@link OverflowPolicy} or its name is
+     * accepted.
+     */
+    public static final String OVERFLOW_POLICY = "weld.async.notification.overflowPolicy";
+
+    /**
+     * The action taken when the limit of notifications in flight is reached.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * The thread firing the event waits until a notification in flight completes. An asynchronous observer method firing an asynchronous event never
+         * waits - the notifications it would wait for may be queued behind it in the same executor. The event is rejected instead.
+         */
+        BLOCK,
+        /**
+         * The returned {@link java.util.concurrent.CompletionStage} fails with {@link java.util.concurrent.RejectedExecutionException} and no observer
+         * method is notified.
+         */
+        REJECT,
+        /**
+         * The observer methods are notified by the thread firing the event.
+         */
+        CALLER_RUNS;
+
+        /**
+         *
+         * @param value
+         * @return the policy for the given value or <code>null</code> if there is no such policy
+         */
+        public static OverflowPolicy of(Object value) {
+            if (value instanceof OverflowPolicy) {
+                return (OverflowPolicy) value;
+            }
+            try {
+                return valueOf(value.toString().toUpperCase().replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+
+    }
+
+    static final AsyncEventLimiter UNBOUNDED = new AsyncEventLimiter(0, OverflowPolicy.BLOCK);
+
+    private final int maxInFlight;
+
+    private final OverflowPolicy defaultPolicy;
+
+    // null if unbounded
+    private final Semaphore permits;
+
+    private final AtomicInteger inFlight;
+
+    private final LongAdder blocked;
+
+    private final LongAdder rejected;
+
+    private final LongAdder callerRuns;
+
+    // Marks the threads performing a notification submitted by this limiter
+    private final ThreadLocal<Boolean> notifying;
+
+    public AsyncEventLimiter(WeldConfiguration configuration) {
+        this(configuration.getIntegerProperty(ConfigurationKey.ASYNC_EVENT_MAX_IN_FLIGHT),
+                policyOf(configuration.getStringProperty(ConfigurationKey.ASYNC_EVENT_OVERFLOW_POLICY)));
+    }
+
+    AsyncEventLimiter(int maxInFlight, OverflowPolicy defaultPolicy) {
+        this.maxInFlight = Math.max(0, maxInFlight);
+        this.defaultPolicy = defaultPolicy;
+        this.permits = this.maxInFlight > 0 ? new Semaphore(this.maxInFlight) : null;
+        this.inFlight = new AtomicInteger();
+        this.blocked = new LongAdder();
+        this.rejected = new LongAdder();
+        this.callerRuns = new LongAdder();
+        this.notifying = new ThreadLocal<>();
+    }
+
+    /**
+     *
+     * @param value the value of the {@link #OVERFLOW_POLICY} notification option, may be null
+     * @return the overflow policy to use
+     * @throws IllegalArgumentException if the value does not represent an overflow policy
+     */
+    OverflowPolicy initPolicy(Object value) {
+        return value != null ? policyOf(value) : defaultPolicy;
+    }
+
+    /**
+     * Submits the given supplier to the given executor if the limit of notifications in flight is not reached. Otherwise, the given policy is applied.
+     *
+     * @param supplier
+     * @param executor
+     * @param policy
+     * @return the future completed with the result of the supplier
+     */
+    <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier, Executor executor, OverflowPolicy policy) {
+        if (permits != null && !permits.tryAcquire()) {
+            switch (policy) {
+                case REJECT:
+                    rejected.increment();
+                    return rejected();
+                case CALLER_RUNS:
+                    callerRuns.increment();
+                    return supply(supplier);
+                default:
+                    if (notifying.get() != null) {
+                        // Blocking an executor thread may deadlock - the permits are held by the notifications queued behind it
+                        rejected.increment();
+                        return rejected();
+                    }
+                    blocked.increment();
+                    try {
+                        permits.acquire();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        rejected.increment();
+                        return rejected();
+                    }
+            }
+        }
+        inFlight.incrementAndGet();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                notifying.set(Boolean.TRUE);
+                try {
+                    return supplier.get();
+                } finally {
+                    notifying.remove();
+                    release();
+                }
+            }, executor);
+        } catch (RuntimeException e) {
+            // The executor rejected the task
+            release();
+            throw e;
+        }
+    }
+
+    /**
+     *
+     * @return the limit of notifications in flight, <code>0</code> means unbounded
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     *
+     * @return the number of notifications submitted to the executor which did not complete yet
+     */
+    public int getInFlightCount() {
+        return inFlight.get();
+    }
+
+    /**
+     *
+     * @return the number of notifications which had to wait for a notification in flight to complete
+     */
+    public long getBlockedCount() {
+        return blocked.sum();
+    }
+
+    /**
+     *
+     * @return the number of rejected notifications
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     *
+     * @return the number of notifications performed by the thread firing the event
+     */
+    public long getCallerRunsCount() {
+        return callerRuns.sum();
+    }
+
+    @Override
+    public void cleanup() {
+    }
+
+    private void release() {
+        inFlight.decrementAndGet();
+        if (permits != null) {
+            permits.release();
+        }
+    }
+
+    private <T> CompletableFuture<T> rejected() {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(EventLogger.LOG.asyncEventDeliveryRejected(maxInFlight));
+        return future;
+    }
+
+    private static <T> CompletableFuture<T> supply(Supplier<T> supplier) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            future.complete(supplier.get());
+        } catch (CompletionException e) {
+            future.completeExceptionally(e);
+        } catch (Throwable e) {
+            future.completeExceptionally(new CompletionException(e));
+        }
+        return future;
+    }
+
+    private static OverflowPolicy policyOf(Object value) {
+        OverflowPolicy policy = OverflowPolicy.of(value);
+        if (policy == null) {
+            throw EventLogger.LOG.invalidOverflowPolicy(value);
+        }
+        return policy;
+    }
+
+}
@@ -0,0 +1,177 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.event;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.event.AsyncEventLimiter.OverflowPolicy;
+import org.jboss.weld.util.reflection.Reflections;
+
+/**
+ * Serial lanes for key-partitioned asynchronous event delivery. The asynchronous notifications of events with the same partition key go through the same lane
+ * and are delivered one after another in the order the events were fired. Lanes are selected by the hash code of the key, so the events with different keys
+ * are delivered in parallel unless their keys share a lane.
+ *
+ * <p>
+ * The partition key is set using the {@link #PARTITION_KEY} notification option, e.g.
+ * <code>event.fireAsync(order, NotificationOptions.of(AsyncEventPartitions.PARTITION_KEY, (Function&lt;Order, ?&gt;) Order::getCustomerId))</code>.
+ * </p>
+ *
+ * <p>
+ * A lane does not own a thread. Its tasks are drained by a single task submitted to the executor of the notification which found the lane idle. If the limit
+ * of notifications in flight is reached, the {@link OverflowPolicy#CALLER_RUNS} policy is treated as {@link OverflowPolicy#BLOCK} since the caller would not
+ * respect the order of the lane.
+ * </p>
+ *
+ * @see ConfigurationKey#ASYNC_EVENT_PARTITION_LANES
+ */
+public class AsyncEventPartitions implements Service {
+
+    /**
+     * The notification option which sets the partition key of an asynchronous event. If the value is a {@link Function}, the key is extracted from the event
+     * object. Otherwise, the value itself is the key. A <code>null</code> key means the event is not partitioned. The notification mode is ignored for
+     * partitioned events - the observer methods are always notified serially.
+     */
+    public static final String PARTITION_KEY = "weld.async.notification.partitionKey";
+
+    static final AsyncEventPartitions DEFAULT = new AsyncEventPartitions((Integer) ConfigurationKey.ASYNC_EVENT_PARTITION_LANES.getDefaultValue());
+
+    private final Lane[] lanes;
+
+    public AsyncEventPartitions(WeldConfiguration configuration) {
+        this(configuration.getIntegerProperty(ConfigurationKey.ASYNC_EVENT_PARTITION_LANES));
+    }
+
+    AsyncEventPartitions(int laneCount) {
+        this.lanes = new Lane[Math.max(1, laneCount)];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new Lane();
+        }
+    }
+
+    /**
+     *
+     * @param option the value of the {@link #PARTITION_KEY} notification option, may be null
+     * @param event the event object
+     * @return the partition key or <code>null</code> if the event is not partitioned
+     */
+    Object getKey(Object option, Object event) {
+        if (option instanceof Function) {
+            Function<Object, ?> extractor = Reflections.cast(option);
+            return extractor.apply(event);
+        }
+        return option;
+    }
+
+    /**
+     *
+     * @param key the partition key
+     * @return the index of the lane for the given key
+     */
+    int getLaneIndex(Object key) {
+        return Math.floorMod(key.hashCode(), lanes.length);
+    }
+
+    /**
+     *
+     * @param laneIndex
+     * @param executor the executor used to drain the lane if it is idle
+     * @return an executor which delivers the tasks through the given lane
+     */
+    Executor getLane(int laneIndex, Executor executor) {
+        final Lane lane = lanes[laneIndex];
+        return (task) -> lane.execute(task, executor);
+    }
+
+    /**
+     *
+     * @param policy
+     * @return the overflow policy to use for a notification delivered through a lane
+     */
+    static OverflowPolicy getLanePolicy(OverflowPolicy policy) {
+        return OverflowPolicy.CALLER_RUNS.equals(policy) ? OverflowPolicy.BLOCK : policy;
+    }
+
+    /**
+     *
+     * @return the number of lanes
+     */
+    public int getLaneCount() {
+        return lanes.length;
+    }
+
+    @Override
+    public void cleanup() {
+    }
+
+    private static final class Lane {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        // true if a task draining the lane is submitted or running
+        private boolean active;
+
+        synchronized void execute(Runnable task, Executor executor) {
+            tasks.add(task);
+            if (!active) {
+                active = true;
+                try {
+                    drainWith(executor);
+                } catch (RuntimeException e) {
+                    // The executor rejected the task
+                    active = false;
+                    tasks.remove(task);
+                    throw e;
+                }
+            }
+        }
+
+        private void drainWith(Executor executor) {
+            executor.execute(() -> drain(executor));
+        }
+
+        private void drain(Executor executor) {
+            Runnable task = next();
+            while (task != null) {
+                try {
+                    task.run();
+                } catch (RuntimeException | Error e) {
+                    // The lane remains active - the remaining tasks are drained by a new task
+                    drainWith(executor);
+                    throw e;
+                }
+                task = next();
+            }
+        }
+
+        private synchronized Runnable next() {
+            Runnable task = tasks.poll();
+            if (task == null) {
+                active = false;
+            }
+            return task;
+        }
+
+    }
+
+}
@@ -23,6 +23,10 @@ import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
@@ -35,6 +39,7 @@ import javax.enterprise.util.TypeLiteral;
 
 import org.jboss.weld.bean.builtin.AbstractFacade;
 import org.jboss.weld.bean.builtin.FacadeInjectionPoint;
+import org.jboss.weld.event.ObserverNotifier.BatchedEvent;
 import org.jboss.weld.events.WeldEvent;
 import org.jboss.weld.exceptions.InvalidObjectException;
 import org.jboss.weld.logging.EventLogger;
@@ -59,6 +64,8 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 public class EventImpl<T> extends AbstractFacade<T, WeldEvent<T>> implements WeldEvent<T>, Serializable {
 
     private static final String EVENT_ARGUMENT_NAME = "event";
+    private static final String EVENTS_ARGUMENT_NAME = "events";
+    private static final String OPTIONS_ARGUMENT_NAME = "options";
     private static final String SUBTYPE_ARGUMENT_NAME = "subtype";
     private static final long serialVersionUID = 656782657242515455L;
     private static final int DEFAULT_CACHE_CAPACITY = 4;
@@ -105,10 +112,64 @@ public class EventImpl<T> extends AbstractFacade<T, WeldEvent<T>> implements Wel
     @Override
     public <U extends T> CompletionStage<U> fireAsync(U event, NotificationOptions options) {
         Preconditions.checkArgumentNotNull(event, EVENT_ARGUMENT_NAME);
-        Preconditions.checkArgumentNotNull(options, "options");
+        Preconditions.checkArgumentNotNull(options, OPTIONS_ARGUMENT_NAME);
         return fireAsyncInternal(event, options);
     }
 
+    /**
+     * Fires the given event objects in the iteration order of the collection. The observer methods are only resolved once per runtime type of the event
+     * objects. All the event objects are checked before the first one is delivered.
+     *
+     * @param events the event objects to fire
+     * @see #fire(Object)
+     */
+    public void fireAll(Collection<? extends T> events) {
+        Preconditions.checkArgumentNotNull(events, EVENTS_ARGUMENT_NAME);
+        final ObserverNotifier notifier = getBeanManager().getGlobalLenientObserverNotifier();
+        for (BatchedEvent<T> event : resolveAll(events)) {
+            notifier.notify(event.getObservers(), event.getEvent(), event.getMetadata());
+        }
+    }
+
+    /**
+     * Fires the given event objects asynchronously.
+     *
+     * @param events the event objects to fire
+     * @return a completion stage which completes with the list of the given event objects once all of them are delivered
+     * @see #fireAllAsync(Collection, NotificationOptions)
+     */
+    public <U extends T> CompletionStage<List<U>> fireAllAsync(Collection<U> events) {
+        return fireAllAsync(events, EMPTY_NOTIFICATION_OPTIONS);
+    }
+
+    /**
+     * Fires the given event objects asynchronously. The observer methods are only resolved once per runtime type of the event objects. Instead of one task per
+     * event object, the event objects are delivered in chunks - see {@link org.jboss.weld.config.ConfigurationKey#ASYNC_EVENT_BATCH_CHUNK_SIZE}. The returned
+     * stage fails with a {@link java.util.concurrent.CompletionException} holding the exceptions thrown by all the observer methods, if any.
+     *
+     * @param events the event objects to fire
+     * @param options the notification options
+     * @return a completion stage which completes with the list of the given event objects once all of them are delivered
+     * @see #fireAsync(Object, NotificationOptions)
+     */
+    public <U extends T> CompletionStage<List<U>> fireAllAsync(Collection<U> events, NotificationOptions options) {
+        Preconditions.checkArgumentNotNull(events, EVENTS_ARGUMENT_NAME);
+        Preconditions.checkArgumentNotNull(options, OPTIONS_ARGUMENT_NAME);
+        final List<U> result = Collections.unmodifiableList(new ArrayList<>(events));
+        // we can do lenient here as the event type is checked within #getObservers()
+        return getBeanManager().getGlobalLenientObserverNotifier().notifyAllAsync(resolveAll(result), result, options);
+    }
+
+    private List<BatchedEvent<T>> resolveAll(Collection<? extends T> events) {
+        List<BatchedEvent<T>> resolved = new ArrayList<>(events.size());
+        for (T event : events) {
+            Preconditions.checkArgumentNotNull(event, EVENT_ARGUMENT_NAME);
+            CachedObservers observers = getObservers(event);
+            resolved.add(new BatchedEvent<>(observers.observers, event, observers.metadata));
+        }
+        return resolved;
+    }
+
     private <U extends T> CompletionStage<U> fireAsyncInternal(U event, NotificationOptions options) {
         CachedObservers observers = getObservers(event);
         // we can do lenient here as the event type is checked within #getObservers()
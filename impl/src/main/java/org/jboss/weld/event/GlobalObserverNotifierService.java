@@ -66,7 +66,11 @@ public class GlobalObserverNotifierService implements BootstrapService {
     }
 
     public void registerBeanManager(BeanManagerImpl manager) {
-        this.beanManagers.add(manager);
+        if (this.beanManagers.add(manager)) {
+            // the observer resolver index needs to be rebuilt
+            this.globalStrictObserverNotifier.clear();
+            this.globalLenientObserverNotifier.clear();
+        }
     }
 
     public ObserverNotifier getGlobalLenientObserverNotifier() {
@@ -22,8 +22,10 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -38,6 +40,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import javax.enterprise.context.RequestScoped;
 import javax.enterprise.event.NotificationOptions;
 import javax.enterprise.event.ObserverException;
 import javax.enterprise.inject.spi.EventMetadata;
@@ -45,8 +48,11 @@ import javax.enterprise.inject.spi.ObserverMethod;
 
 import org.jboss.weld.Container;
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.context.RequestContext;
 import org.jboss.weld.context.unbound.UnboundLiteral;
+import org.jboss.weld.event.AsyncEventLimiter.OverflowPolicy;
 import org.jboss.weld.events.WeldNotificationOptions;
 import org.jboss.weld.events.WeldNotificationOptions.NotificationMode;
 import org.jboss.weld.injection.ThreadLocalStack.ThreadLocalStackReference;
@@ -82,6 +88,9 @@ public class ObserverNotifier {
 
     private static final RuntimeException NO_EXCEPTION_MARKER = new RuntimeException();
 
+    private static final Integer UNPARTITIONED = -1;
+
+    private final String contextId;
     private final TypeSafeObserverResolver resolver;
     private final SharedObjectCache sharedObjectCache;
     private final boolean strict;
@@ -91,8 +100,12 @@ public class ObserverNotifier {
     private final ScheduledExecutorService timerExecutor;
     private final SecurityServices securityServices;
     private final LazyValueHolder<RequestContext> requestContextHolder;
+    private final int asyncBatchChunkSize;
+    private final AsyncEventLimiter asyncEventLimiter;
+    private final AsyncEventPartitions asyncEventPartitions;
 
     protected ObserverNotifier(String contextId, TypeSafeObserverResolver resolver, ServiceRegistry services, boolean strict) {
+        this.contextId = contextId;
         this.resolver = resolver;
         this.sharedObjectCache = services.get(SharedObjectCache.class);
         this.strict = strict;
@@ -111,6 +124,10 @@ public class ObserverNotifier {
         // LazyValueHolder is used because contexts are not ready yet at the point when ObserverNotifier is first initialized
         this.requestContextHolder = LazyValueHolder
                 .forSupplier(() -> Container.instance(contextId).deploymentManager().instance().select(RequestContext.class, UnboundLiteral.INSTANCE).get());
+        this.asyncBatchChunkSize = Math.max(1, services.get(WeldConfiguration.class).getIntegerProperty(ConfigurationKey.ASYNC_EVENT_BATCH_CHUNK_SIZE));
+        // no limit if the service is not installed
+        this.asyncEventLimiter = services.getOptional(AsyncEventLimiter.class).orElse(AsyncEventLimiter.UNBOUNDED);
+        this.asyncEventPartitions = services.getOptional(AsyncEventPartitions.class).orElse(AsyncEventPartitions.DEFAULT);
     }
 
     /**
@@ -202,6 +219,10 @@ public class ObserverNotifier {
                 .addQualifiers(qualifiers).addQualifierUnchecked(QualifierInstance.ANY).create();
     }
 
+    public TypeSafeObserverResolver getResolver() {
+        return resolver;
+    }
+
     /**
      * Clears cached observer method resolutions and event type checks.
      */
@@ -308,6 +329,9 @@ public class ObserverNotifier {
      *
      * If an executor is provided then observer methods are notified using this executor. Otherwise, Weld's task executor is used.
      *
+     * The number of notifications in flight may be limited - see {@link AsyncEventLimiter}. The notifications of events with the same partition key are
+     * delivered in order - see {@link AsyncEventPartitions}.
+     *
      * @param observers the given observer methods
      * @param event the given event object
      * @param metadata event metadata
@@ -331,18 +355,28 @@ public class ObserverNotifier {
         // We should always initialize and validate all notification options first
         final NotificationMode mode = initModeOption(options.get(WeldNotificationOptions.MODE));
         final Long timeout = initTimeoutOption(options.get(WeldNotificationOptions.TIMEOUT));
+        final OverflowPolicy overflowPolicy = asyncEventLimiter.initPolicy(options.get(AsyncEventLimiter.OVERFLOW_POLICY));
+        final Object partitionKey = asyncEventPartitions.getKey(options.get(AsyncEventPartitions.PARTITION_KEY), event);
         final Consumer<Runnable> securityContextActionConsumer = securityServices.getSecurityContextAssociator();
         final ObserverExceptionHandler exceptionHandler;
         CompletableFuture<U> completableFuture;
 
-        if (observers.size() > 1 && NotificationMode.PARALLEL.equals(mode)) {
+        if (partitionKey != null) {
+            // Partitioned events are notified serially through the lane of the partition key
+            exceptionHandler = new CollectingExceptionHandler();
+            completableFuture = asyncEventLimiter.supplyAsync(createSupplier(securityContextActionConsumer, event, metadata, exceptionHandler, true, () -> {
+                for (ObserverMethod<? super T> observer : observers) {
+                    notifyAsyncObserver(observer, event, metadata, exceptionHandler);
+                }
+            }), asyncEventPartitions.getLane(asyncEventPartitions.getLaneIndex(partitionKey), executor), AsyncEventPartitions.getLanePolicy(overflowPolicy));
+        } else if (observers.size() > 1 && NotificationMode.PARALLEL.equals(mode)) {
             // Attempt to notify async observers in parallel
             exceptionHandler = new CollectingExceptionHandler(new CopyOnWriteArrayList<>());
             List<CompletableFuture<T>> completableFutures = new ArrayList<>(observers.size());
             for (ObserverMethod<? super T> observer : observers) {
-                completableFutures.add(CompletableFuture.supplyAsync(createSupplier(securityContextActionConsumer, event, metadata, exceptionHandler, false, () -> {
+                completableFutures.add(asyncEventLimiter.supplyAsync(createSupplier(securityContextActionConsumer, event, metadata, exceptionHandler, false, () -> {
                     notifyAsyncObserver(observer, event, metadata, exceptionHandler);
-                }), executor));
+                }), executor, overflowPolicy));
             }
             completableFuture = CompletableFuture.allOf(completableFutures.toArray(new CompletableFuture[] {})).thenApply((ignoredVoid) -> {
                 handleExceptions(exceptionHandler);
@@ -351,11 +385,11 @@ public class ObserverNotifier {
         } else {
             // Async observers are notified serially in a single worker thread
             exceptionHandler = new CollectingExceptionHandler();
-            completableFuture = CompletableFuture.supplyAsync(createSupplier(securityContextActionConsumer, event, metadata, exceptionHandler, true, () -> {
+            completableFuture = asyncEventLimiter.supplyAsync(createSupplier(securityContextActionConsumer, event, metadata, exceptionHandler, true, () -> {
                 for (ObserverMethod<? super T> observer : observers) {
                     notifyAsyncObserver(observer, event, metadata, exceptionHandler);
                 }
-            }), executor);
+            }), executor, overflowPolicy);
         }
 
         // If NotificationOptionKeys.TIMEOUT is set, we will trigger the counter and use CompletableFuture.anyOf()
@@ -365,6 +399,115 @@ public class ObserverNotifier {
         return new AsyncEventDeliveryStage<>(completableFuture, executor);
     }
 
+    /**
+     * Delivers the given asynchronous event objects to the asynchronous observer methods resolved for each of them.
+     *
+     * The event objects are split into chunks of at most {@link ConfigurationKey#ASYNC_EVENT_BATCH_CHUNK_SIZE} events. Each chunk is delivered by a single task
+     * which activates the request context once and notifies the observer methods serially, event by event in the given order. The chunks themselves may be
+     * delivered concurrently. Event objects without asynchronous observer methods are skipped.
+     *
+     * If the {@link NotificationMode#PARALLEL} notification mode is requested, the event objects are not chunked - the same as for a single event object,
+     * each asynchronous observer method is notified in a separate task. The event objects with a partition key are always delivered serially through the
+     * lane of the partition key.
+     *
+     * Note that if any of the observer methods throws an exception, it is never thrown out of this method. Instead, the exceptions of all the chunks are
+     * grouped together using {@link CompletionException} and the returned {@link CompletionStage} fails with this compound exception.
+     *
+     * @param events the given event objects together with the observer methods and metadata resolved for them
+     * @param result the value the returned stage completes with
+     * @param options
+     */
+    <T, R> CompletionStage<R> notifyAllAsync(List<BatchedEvent<T>> events, R result, NotificationOptions options) {
+        final Executor executor = options.getExecutor() != null ? options.getExecutor() : asyncEventExecutor;
+        // We should always initialize and validate all notification options first
+        final NotificationMode mode = initModeOption(options.get(WeldNotificationOptions.MODE));
+        final Long timeout = initTimeoutOption(options.get(WeldNotificationOptions.TIMEOUT));
+        final OverflowPolicy overflowPolicy = asyncEventLimiter.initPolicy(options.get(AsyncEventLimiter.OVERFLOW_POLICY));
+        final List<BatchedEvent<T>> observed = new ArrayList<>(events.size());
+        for (BatchedEvent<T> event : events) {
+            if (!event.observers.getAsyncObservers().isEmpty()) {
+                observed.add(event);
+            }
+        }
+        if (observed.isEmpty()) {
+            return AsyncEventDeliveryStage.completed(result, executor);
+        }
+        final Consumer<Runnable> securityContextActionConsumer = securityServices.getSecurityContextAssociator();
+        final ObserverExceptionHandler exceptionHandler = new CollectingExceptionHandler(new CopyOnWriteArrayList<>());
+        List<CompletableFuture<T>> completableFutures = new ArrayList<>();
+        for (Map.Entry<Integer, List<BatchedEvent<T>>> partition : partition(observed, options.get(AsyncEventPartitions.PARTITION_KEY)).entrySet()) {
+            final List<BatchedEvent<T>> partitionEvents = partition.getValue();
+            if (partition.getKey() == UNPARTITIONED && NotificationMode.PARALLEL.equals(mode)) {
+                // Attempt to notify async observers in parallel
+                for (BatchedEvent<T> event : partitionEvents) {
+                    final EventMetadata metadata = event.observers.isMetadataRequired() ? event.metadata : null;
+                    for (ObserverMethod<? super T> observer : event.observers.getAsyncObservers()) {
+                        completableFutures.add(asyncEventLimiter.supplyAsync(createSupplier(securityContextActionConsumer, event.event, metadata, exceptionHandler,
+                                false, () -> notifyAsyncObserver(observer, event.event, metadata, exceptionHandler)), executor, overflowPolicy));
+                    }
+                }
+                continue;
+            }
+            final Executor partitionExecutor;
+            final OverflowPolicy partitionPolicy;
+            if (partition.getKey() == UNPARTITIONED) {
+                partitionExecutor = executor;
+                partitionPolicy = overflowPolicy;
+            } else {
+                partitionExecutor = asyncEventPartitions.getLane(partition.getKey(), executor);
+                partitionPolicy = AsyncEventPartitions.getLanePolicy(overflowPolicy);
+            }
+            for (int from = 0; from < partitionEvents.size(); from += asyncBatchChunkSize) {
+                final List<BatchedEvent<T>> chunk = partitionEvents.subList(from, Math.min(from + asyncBatchChunkSize, partitionEvents.size()));
+                // The metadata differs for each event object and so it is pushed in the notify action
+                completableFutures.add(asyncEventLimiter.supplyAsync(createSupplier(securityContextActionConsumer, null, null, exceptionHandler, false, () -> {
+                    for (BatchedEvent<T> event : chunk) {
+                        notifyAsyncObservers(event, exceptionHandler);
+                    }
+                }), partitionExecutor, partitionPolicy));
+            }
+        }
+        CompletableFuture<R> completableFuture = CompletableFuture.allOf(completableFutures.toArray(new CompletableFuture[] {})).thenApply((ignoredVoid) -> {
+            handleExceptions(exceptionHandler);
+            return result;
+        });
+        if (timeout != null) {
+            completableFuture = CompletableFuture.anyOf(completableFuture, startTimer(timeout)).thenApply((ignoredObject) -> result);
+        }
+        return new AsyncEventDeliveryStage<>(completableFuture, executor);
+    }
+
+    /**
+     * Groups the given event objects by the lane of their partition key, keeping the order of the event objects.
+     *
+     * @param events
+     * @param partitionOption the value of the {@link AsyncEventPartitions#PARTITION_KEY} notification option, may be null
+     * @return the event objects grouped by the lane index, the event objects which are not partitioned are mapped to {@link #UNPARTITIONED}
+     */
+    private <T> Map<Integer, List<BatchedEvent<T>>> partition(List<BatchedEvent<T>> events, Object partitionOption) {
+        if (partitionOption == null) {
+            return Collections.singletonMap(UNPARTITIONED, events);
+        }
+        Map<Integer, List<BatchedEvent<T>>> partitions = new LinkedHashMap<>();
+        for (BatchedEvent<T> event : events) {
+            Object key = asyncEventPartitions.getKey(partitionOption, event.event);
+            partitions.computeIfAbsent(key != null ? asyncEventPartitions.getLaneIndex(key) : UNPARTITIONED, (ignored) -> new ArrayList<>()).add(event);
+        }
+        return partitions;
+    }
+
+    private <T> void notifyAsyncObservers(BatchedEvent<T> event, ObserverExceptionHandler exceptionHandler) {
+        final EventMetadata metadata = event.observers.isMetadataRequired() ? event.metadata : null;
+        final ThreadLocalStackReference<EventMetadata> stack = currentEventMetadata.pushIfNotNull(metadata);
+        try {
+            for (ObserverMethod<? super T> observer : event.observers.getAsyncObservers()) {
+                notifyAsyncObserver(observer, event.event, metadata, exceptionHandler);
+            }
+        } finally {
+            stack.pop();
+        }
+    }
+
     /**
      * Verifies that, if timeout options was set, the executor is available and input value for timeout can be interpreted as Long.
      * Returns the timeout value if all is alright, null if this option was not requested.
@@ -429,10 +572,21 @@ public class ObserverNotifier {
      */
     private <T, U extends T> Supplier<T> createSupplier(Consumer<Runnable> securityContextActionConsumer, U event, EventMetadata metadata, ObserverExceptionHandler exceptionHandler,
             boolean handleExceptions, Runnable notifyAction) {
+        final Thread firingThread = Thread.currentThread();
         return () -> {
             final ThreadLocalStackReference<EventMetadata> stack = currentEventMetadata.pushIfNotNull(metadata);
             final RequestContext requestContext = requestContextHolder.get();
             securityContextActionConsumer.accept(() -> {
+                if (Thread.currentThread() == firingThread && isRequestContextActive()) {
+                    // The notification is performed by the thread firing the event, e.g. due to OverflowPolicy.CALLER_RUNS - the request context of the
+                    // caller must not be destroyed
+                    try {
+                        notifyAction.run();
+                    } finally {
+                        stack.pop();
+                    }
+                    return;
+                }
                 try {
                     requestContext.activate();
                     notifyAction.run();
@@ -449,6 +603,10 @@ public class ObserverNotifier {
         };
     }
 
+    private boolean isRequestContextActive() {
+        return Container.instance(contextId).deploymentManager().isContextActive(RequestScoped.class);
+    }
+
     @SuppressFBWarnings(value = "NP_NONNULL_PARAM_VIOLATION", justification = "https://github.com/findbugsproject/findbugs/issues/79")
     private void handleExceptions(ObserverExceptionHandler handler) {
         List<Throwable> handledExceptions = handler.getHandledExceptions();
@@ -494,6 +652,39 @@ public class ObserverNotifier {
         }
     }
 
+    /**
+     * An event object of a batch together with the observer methods and metadata resolved for it.
+     *
+     * @param <T> the event type
+     */
+    static final class BatchedEvent<T> {
+
+        private final ResolvedObservers<T> observers;
+
+        private final T event;
+
+        private final EventMetadata metadata;
+
+        BatchedEvent(ResolvedObservers<T> observers, T event, EventMetadata metadata) {
+            this.observers = observers;
+            this.event = event;
+            this.metadata = metadata;
+        }
+
+        ResolvedObservers<T> getObservers() {
+            return observers;
+        }
+
+        T getEvent() {
+            return event;
+        }
+
+        EventMetadata getMetadata() {
+            return metadata;
+        }
+
+    }
+
     static class CollectingExceptionHandler implements ObserverExceptionHandler {
 
         private List<Throwable> throwables;
@@ -18,8 +18,10 @@ package org.jboss.weld.injection;
 
 import static org.jboss.weld.injection.Exceptions.rethrowException;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
 import java.security.AccessController;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -40,6 +42,7 @@ import org.jboss.weld.exceptions.WeldException;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.security.GetAccessibleCopyOfMember;
 import org.jboss.weld.util.collections.Arrays2;
+import org.jboss.weld.util.reflection.MethodInvokers;
 import org.jboss.weld.util.reflection.Reflections;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -58,12 +61,27 @@ public class ConstructorInjectionPoint<T> extends AbstractCallableInjectionPoint
     private final AnnotatedConstructor<T> constructor;
     private final ConstructorSignature signature;
     private final Constructor<T> accessibleConstructor;
+    // null if the constructor cannot be compiled, e.g. if the class is abstract
+    private final MethodHandle invoker;
 
     protected ConstructorInjectionPoint(EnhancedAnnotatedConstructor<T> constructor, Bean<T> declaringBean, Class<?> declaringComponentClass, InjectionPointFactory factory, BeanManagerImpl manager) {
         super(constructor, declaringBean, declaringComponentClass, false, factory, manager);
         this.constructor = constructor.slim();
         this.signature = constructor.getSignature();
         this.accessibleConstructor = AccessController.doPrivileged(new GetAccessibleCopyOfMember<Constructor<T>>(constructor.getJavaMember()));
+        this.invoker = compile(accessibleConstructor);
+    }
+
+    private static MethodHandle compile(Constructor<?> constructor) {
+        if (Modifier.isAbstract(constructor.getDeclaringClass().getModifiers())) {
+            // Reflection reports the InstantiationException
+            return null;
+        }
+        try {
+            return MethodInvokers.getConstructorInvoker(constructor);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
     }
 
     public T newInstance(BeanManagerImpl manager, CreationalContext<?> ctx) {
@@ -115,6 +133,15 @@ public class ConstructorInjectionPoint<T> extends AbstractCallableInjectionPoint
     }
 
     protected T newInstance(Object[] parameterValues) {
+        if (invoker != null) {
+            try {
+                return Reflections.<T> cast((Object) invoker.invokeExact(parameterValues));
+            } catch (Throwable e) {
+                // The same as an exception wrapped in an InvocationTargetException
+                rethrowException(e);
+                return null;
+            }
+        }
         try {
             return accessibleConstructor.newInstance(parameterValues);
         } catch (IllegalArgumentException e) {
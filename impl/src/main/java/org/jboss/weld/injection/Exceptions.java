@@ -30,7 +30,11 @@ class Exceptions {
     private Exceptions() {
     }
 
-    private static void rethrowException(Throwable t, Class<? extends RuntimeException> exceptionToThrow) {
+    /**
+     * Rethrows a runtime exception, any other throwable is wrapped in an exception of the given type. This also applies to a throwable thrown by a method
+     * handle.
+     */
+    static void rethrowException(Throwable t, Class<? extends RuntimeException> exceptionToThrow) {
         if (t instanceof RuntimeException) {
             throw (RuntimeException) t;
         } else {
@@ -46,7 +50,7 @@ class Exceptions {
         }
     }
 
-    private static void rethrowException(Throwable t) {
+    static void rethrowException(Throwable t) {
         rethrowException(t, CreationException.class);
     }
 
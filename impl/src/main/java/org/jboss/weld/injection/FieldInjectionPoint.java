@@ -20,6 +20,7 @@ import static org.jboss.weld.injection.Exceptions.rethrowException;
 
 import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.security.AccessController;
 
@@ -37,6 +38,7 @@ import org.jboss.weld.injection.attributes.WeldInjectionPointAttributes;
 import org.jboss.weld.interceptor.util.proxy.TargetInstanceProxy;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.security.GetAccessibleCopyOfMember;
+import org.jboss.weld.util.reflection.MethodInvokers;
 import org.jboss.weld.util.reflection.Reflections;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -56,6 +58,8 @@ public class FieldInjectionPoint<T, X> extends ForwardingInjectionPointAttribute
     private final boolean cacheable;
     private transient Bean<?> cachedBean;
     private final transient Field accessibleField;
+    // The field is set through a method handle rather than by means of reflection, null if the field cannot be written
+    private final transient MethodHandle setter;
 
     private final FieldInjectionPointAttributes<T, X> attributes;
 
@@ -63,6 +67,16 @@ public class FieldInjectionPoint<T, X> extends ForwardingInjectionPointAttribute
         this.attributes = attributes;
         this.cacheable = isCacheableInjectionPoint(attributes);
         this.accessibleField = AccessController.doPrivileged(new GetAccessibleCopyOfMember<Field>(attributes.getMember()));
+        this.setter = compile(accessibleField);
+    }
+
+    private static MethodHandle compile(Field field) {
+        try {
+            return MethodInvokers.getSetter(field);
+        } catch (IllegalAccessException e) {
+            // Reflection reports the problem if the field is ever injected
+            return null;
+        }
     }
 
     protected static boolean isCacheableInjectionPoint(WeldInjectionPointAttributes<?, ?> attributes) {
@@ -74,23 +88,31 @@ public class FieldInjectionPoint<T, X> extends ForwardingInjectionPointAttribute
     }
 
     public void inject(Object declaringInstance, BeanManagerImpl manager, CreationalContext<?> creationalContext) {
-        try {
-            Object instanceToInject = declaringInstance;
-            if (!(instanceToInject instanceof DecoratorProxy)) {
-                // if declaringInstance is a proxy, unwrap it
-                if (declaringInstance instanceof TargetInstanceProxy) {
-                    instanceToInject = Reflections.<TargetInstanceProxy<T>> cast(declaringInstance).getTargetInstance();
-                }
+        Object instanceToInject = declaringInstance;
+        if (!(instanceToInject instanceof DecoratorProxy)) {
+            // if declaringInstance is a proxy, unwrap it
+            if (declaringInstance instanceof TargetInstanceProxy) {
+                instanceToInject = Reflections.<TargetInstanceProxy<T>> cast(declaringInstance).getTargetInstance();
             }
-            Object objectToInject;
-            if (!cacheable) {
-                objectToInject = manager.getInjectableReference(this, creationalContext);
-            } else {
-                if (cachedBean == null) {
-                    cachedBean = manager.resolve(manager.getBeans(this));
-                }
-                objectToInject = manager.getInjectableReference(this, cachedBean, creationalContext);
+        }
+        Object objectToInject;
+        if (!cacheable) {
+            objectToInject = manager.getInjectableReference(this, creationalContext);
+        } else {
+            if (cachedBean == null) {
+                cachedBean = manager.resolve(manager.getBeans(this));
+            }
+            objectToInject = manager.getInjectableReference(this, cachedBean, creationalContext);
+        }
+        if (setter != null) {
+            try {
+                setter.invokeExact(instanceToInject, objectToInject);
+            } catch (Throwable e) {
+                rethrowException(e);
             }
+            return;
+        }
+        try {
             accessibleField.set(instanceToInject, objectToInject);
         } catch (IllegalArgumentException e) {
             rethrowException(e);
@@ -57,6 +57,16 @@ public abstract class MethodInjectionPoint<T, X> extends AbstractCallableInjecti
 
     abstract T invoke(Object receiver, Object[] parameters, Class<? extends RuntimeException> exceptionTypeToThrow);
 
+    /**
+     * Invokes a method with a single parameter without creating an array of parameters.
+     */
+    abstract T invokeDirectly(Object receiver, Object parameter, Class<? extends RuntimeException> exceptionTypeToThrow);
+
+    /**
+     * Invokes a method with two parameters without creating an array of parameters.
+     */
+    abstract T invokeDirectly(Object receiver, Object first, Object second, Class<? extends RuntimeException> exceptionTypeToThrow);
+
     @Override
     public abstract AnnotatedMethod<X> getAnnotated();
 
@@ -30,7 +30,8 @@ import org.jboss.weld.manager.BeanManagerImpl;
 
 /**
  * Encapsulates various strategies for invoking a method injection point. The default implementation supports all the possible scenarios including dependency
- * injection to parameters. In addition, there are optimized implementations for commonly used scenarios such as:
+ * injection to parameters. In addition, there are optimized implementations for commonly used scenarios which invoke the method without creating an array
+ * of parameters, such as:
  * <ul>
  * <li>an observer method with event parameter only</li>
  * <li>an observer method with event parameter and a {@link BeanManager} injection point (common in extensions)</li>
@@ -126,7 +127,7 @@ public abstract class MethodInvocationStrategy {
 
         @Override
         public <T> void invoke(Object receiver, MethodInjectionPoint<?, ?> method, T instance, BeanManagerImpl manager, CreationalContext<?> creationalContext) {
-            method.invoke(receiver, instance, manager, creationalContext, exceptionTypeToThrow);
+            method.invokeDirectly(receiver, instance, exceptionTypeToThrow);
         }
     }
 
@@ -141,7 +142,7 @@ public abstract class MethodInvocationStrategy {
 
         @Override
         public <T> void invoke(Object receiver, MethodInjectionPoint<?, ?> method, T instance, BeanManagerImpl manager, CreationalContext<?> creationalContext) {
-            method.invoke(receiver, new Object[] { instance, new BeanManagerProxy(manager) }, exceptionTypeToThrow);
+            method.invokeDirectly(receiver, instance, new BeanManagerProxy(manager), exceptionTypeToThrow);
         }
     }
 
@@ -158,7 +159,7 @@ public abstract class MethodInvocationStrategy {
 
         @Override
         public <T> void invoke(Object receiver, MethodInjectionPoint<?, ?> method, T instance, BeanManagerImpl manager, CreationalContext<?> creationalContext) {
-            method.invoke(receiver, new Object[] { instance, metadata.peek() }, ObserverException.class);
+            method.invokeDirectly(receiver, instance, metadata.peek(), ObserverException.class);
         }
     }
 
@@ -20,7 +20,7 @@ import static org.jboss.weld.injection.Exceptions.rethrowException;
 import static org.jboss.weld.util.reflection.Reflections.cast;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.List;
@@ -35,6 +35,7 @@ import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedMethod;
 import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedParameter;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.util.collections.Arrays2;
+import org.jboss.weld.util.reflection.MethodInvokers;
 
 /**
  * {@link MethodInjectionPoint} that delegates to a static method.
@@ -49,11 +50,13 @@ class StaticMethodInjectionPoint<T, X> extends MethodInjectionPoint<T, X> {
     private final int specialInjectionPointIndex;
     private final AnnotatedMethod<X> annotatedMethod;
     final Method accessibleMethod;
+    final Invoker invoker;
 
     StaticMethodInjectionPoint(MethodInjectionPointType methodInjectionPointType, EnhancedAnnotatedMethod<T, X> enhancedMethod, Bean<?> declaringBean, Class<?> declaringComponentClass,
             Set<Class<? extends Annotation>> specialParameterMarkers, InjectionPointFactory factory, BeanManagerImpl manager) {
         super(methodInjectionPointType, enhancedMethod, declaringBean, declaringComponentClass, factory, manager);
         this.accessibleMethod = SecurityActions.getAccessibleCopyOfMethod(enhancedMethod.getJavaMember());
+        this.invoker = new Invoker(accessibleMethod);
         this.annotatedMethod = enhancedMethod.slim();
         this.specialInjectionPointIndex = initSpecialInjectionPointIndex(enhancedMethod, specialParameterMarkers);
     }
@@ -91,15 +94,42 @@ class StaticMethodInjectionPoint<T, X> extends MethodInjectionPoint<T, X> {
     }
 
     public T invoke(Object receiver, Object[] parameters, Class<? extends RuntimeException> exceptionTypeToThrow) {
+        Invoker invoker = getInvoker(receiver, exceptionTypeToThrow);
         try {
-            return cast(getMethod(receiver).invoke(receiver, parameters));
-        } catch (IllegalArgumentException e) {
+            return cast((Object) invoker.spread.invokeExact(receiver, parameters));
+        } catch (Throwable e) {
+            // The same as an exception wrapped in an InvocationTargetException
             rethrowException(e, exceptionTypeToThrow);
-        } catch (SecurityException e) {
+        }
+        return null;
+    }
+
+    @Override
+    T invokeDirectly(Object receiver, Object parameter, Class<? extends RuntimeException> exceptionTypeToThrow) {
+        Invoker invoker = getInvoker(receiver, exceptionTypeToThrow);
+        try {
+            return cast((Object) invoker.generic.invokeExact(receiver, parameter));
+        } catch (Throwable e) {
             rethrowException(e, exceptionTypeToThrow);
-        } catch (IllegalAccessException e) {
+        }
+        return null;
+    }
+
+    @Override
+    T invokeDirectly(Object receiver, Object first, Object second, Class<? extends RuntimeException> exceptionTypeToThrow) {
+        Invoker invoker = getInvoker(receiver, exceptionTypeToThrow);
+        try {
+            return cast((Object) invoker.generic.invokeExact(receiver, first, second));
+        } catch (Throwable e) {
             rethrowException(e, exceptionTypeToThrow);
-        } catch (InvocationTargetException e) {
+        }
+        return null;
+    }
+
+    private Invoker getInvoker(Object receiver, Class<? extends RuntimeException> exceptionTypeToThrow) {
+        try {
+            return getInvoker(receiver);
+        } catch (SecurityException e) {
             rethrowException(e, exceptionTypeToThrow);
         } catch (NoSuchMethodException e) {
             rethrowException(e, exceptionTypeToThrow);
@@ -137,12 +167,35 @@ class StaticMethodInjectionPoint<T, X> extends MethodInjectionPoint<T, X> {
         return parameterValues;
     }
 
-    protected Method getMethod(Object receiver) throws NoSuchMethodException {
-        return accessibleMethod;
+    /**
+     *
+     * @param receiver
+     * @return the invoker of the method to invoke on the given receiver
+     * @throws NoSuchMethodException
+     */
+    protected Invoker getInvoker(Object receiver) throws NoSuchMethodException {
+        return invoker;
     }
 
     @Override
     public AnnotatedMethod<X> getAnnotated() {
         return annotatedMethod;
     }
+
+    /**
+     * The method handles of a method, see {@link MethodInvokers#getSpreadInvoker(Method)} and {@link MethodInvokers#getGenericInvoker(Method)}. The handles
+     * are held by the injection point so that no cache lookup is needed per invocation.
+     */
+    static final class Invoker {
+
+        final MethodHandle spread;
+
+        final MethodHandle generic;
+
+        Invoker(Method method) {
+            this.generic = MethodInvokers.getGenericInvoker(method);
+            this.spread = MethodInvokers.getSpreadInvoker(method);
+        }
+
+    }
 }
@@ -44,23 +44,24 @@ import org.jboss.weld.util.collections.ImmutableMap;
  */
 class VirtualMethodInjectionPoint<T, X> extends StaticMethodInjectionPoint<T, X> {
 
-    private volatile Map<Class<?>, Method> methods;
+    private volatile Map<Class<?>, Invoker> invokers;
 
     VirtualMethodInjectionPoint(MethodInjectionPointType methodInjectionPointType, EnhancedAnnotatedMethod<T, X> enhancedMethod, Bean<?> declaringBean,
             Class<?> declaringComponentClass, Set<Class<? extends Annotation>> specialParameterMarkers, InjectionPointFactory factory,
             BeanManagerImpl manager) {
         super(methodInjectionPointType, enhancedMethod, declaringBean, declaringComponentClass, specialParameterMarkers, factory, manager);
-        this.methods = Collections.<Class<?>, Method> singletonMap(getAnnotated().getJavaMember().getDeclaringClass(), accessibleMethod);
+        this.invokers = Collections.<Class<?>, Invoker> singletonMap(getAnnotated().getJavaMember().getDeclaringClass(), invoker);
     }
 
     @Override
-    protected Method getMethod(Object receiver) throws NoSuchMethodException {
-        final Map<Class<?>, Method> methods = this.methods;
-        Method method = this.methods.get(receiver.getClass());
-        if (method == null) {
+    protected Invoker getInvoker(Object receiver) throws NoSuchMethodException {
+        final Map<Class<?>, Invoker> invokers = this.invokers;
+        Invoker invoker = invokers.get(receiver.getClass());
+        if (invoker == null) {
             // the same method may be written to the map twice, but that is ok
             // lookupMethod is very slow
             Method delegate = getAnnotated().getJavaMember();
+            Method method;
             if ((hasDecorators() || MethodInjectionPointType.INITIALIZER.equals(type)) && (isPrivate(delegate) || isPackagePrivate(delegate.getModifiers())
                     && !Objects.equals(delegate.getDeclaringClass().getPackage(), receiver.getClass().getPackage()))) {
                 // Initializer methods and decorated beans - overriding does not apply to private methods and package-private methods where the subclass is in a different package
@@ -69,10 +70,11 @@ class VirtualMethodInjectionPoint<T, X> extends StaticMethodInjectionPoint<T, X>
                 method = SecurityActions.lookupMethod(receiver.getClass(), delegate.getName(), delegate.getParameterTypes());
                 SecurityActions.ensureAccessible(method);
             }
-            final Map<Class<?>, Method> newMethods = ImmutableMap.<Class<?>, Method>builder().putAll(methods).put(receiver.getClass(), method).build();
-            this.methods = newMethods;
+            invoker = new Invoker(method);
+            final Map<Class<?>, Invoker> newInvokers = ImmutableMap.<Class<?>, Invoker>builder().putAll(invokers).put(receiver.getClass(), invoker).build();
+            this.invokers = newInvokers;
         }
-        return method;
+        return invoker;
     }
 
     private boolean hasDecorators() {
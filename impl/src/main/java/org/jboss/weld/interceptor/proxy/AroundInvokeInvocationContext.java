@@ -19,6 +19,7 @@ package org.jboss.weld.interceptor.proxy;
 import static org.jboss.weld.util.reflection.Reflections.unwrapInvocationTargetException;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.List;
@@ -41,7 +42,11 @@ import org.jboss.weld.bean.proxy.InterceptionDecorationContext.Stack;
  * <li>interception to continue in a different thread - implementing {@link javax.ejb.Asynchronous} with interceptors</li>
  * </ul>
  *
- * This however also requires that for each interceptor in the chain we create a new instance of {@link AroundInvokeInvocationContext}.
+ * This however also requires that for each interceptor in the chain we create a new instance of {@link AroundInvokeInvocationContext}. The instances are
+ * therefore kept light - the argument array of the intercepted invocation is passed along the chain unless {@link #setParameters(Object[])} is called and
+ * the context data map is created lazily by the first context of the chain and shared by all the contexts of the chain. The contexts are never pooled nor
+ * reused as any of them may escape, e.g. be captured by an interceptor and proceeded later.
+ *
  * Context data and method parameters are mutable. We do not guard them anyhow - the expectation for them is to be effectively immutable
  * by only being modified before or after dispatch. We also assume that the dispatch safely propagates the state of {@link InvocationContext}
  * from one thread to the other.
@@ -53,24 +58,59 @@ import org.jboss.weld.bean.proxy.InterceptionDecorationContext.Stack;
  */
 abstract class AroundInvokeInvocationContext extends AbstractInvocationContext {
 
-    public static AroundInvokeInvocationContext create(Object instance, Method method, Method proceed, Object[] args,  List<InterceptorMethodInvocation> chain,
-            Set<Annotation> interceptorBindings, Stack stack) {
+    /**
+     *
+     * @param instance
+     * @param method
+     * @param proceed
+     * @param proceedInvoker the spread invoker of the proceed method, see {@link org.jboss.weld.util.reflection.MethodInvokers#getSpreadInvoker(Method)}
+     * @param args
+     * @param chain
+     * @param interceptorBindings
+     * @param stack
+     * @return the invocation context for the first interceptor of the chain
+     */
+    public static AroundInvokeInvocationContext create(Object instance, Method method, Method proceed, MethodHandle proceedInvoker, Object[] args,
+            List<InterceptorMethodInvocation> chain, Set<Annotation> interceptorBindings, Stack stack) {
         CombinedInterceptorAndDecoratorStackMethodHandler currentHandler = (stack == null) ? null : stack.peek();
         if (chain.size() == 1) {
-            return new TerminalAroundInvokeInvocationContext(instance, method, proceed, args, null, interceptorBindings, currentHandler);
+            return new TerminalAroundInvokeInvocationContext(instance, method, proceed, proceedInvoker, args, interceptorBindings, currentHandler);
         } else {
-            return new NonTerminalAroundInvokeInvocationContext(instance, method, proceed, args, interceptorBindings, chain, currentHandler);
+            return new NonTerminalAroundInvokeInvocationContext(instance, method, proceed, proceedInvoker, args, interceptorBindings, chain, currentHandler);
         }
     }
 
     final CombinedInterceptorAndDecoratorStackMethodHandler currentHandler;
 
-    AroundInvokeInvocationContext(Object target, Method method, Method proceed, Object[] parameters, Map<String, Object> contextData,
-            Set<Annotation> interceptorBindings, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
-        super(target, method, proceed, parameters, contextData, interceptorBindings);
+    final MethodHandle proceedInvoker;
+
+    // The first context of the chain, it holds the context data shared by all the contexts of the chain
+    final AroundInvokeInvocationContext root;
+
+    /**
+     *
+     * @param target
+     * @param method
+     * @param proceed
+     * @param proceedInvoker
+     * @param parameters
+     * @param interceptorBindings
+     * @param root the first context of the chain or <code>null</code> if this context is the first one
+     * @param currentHandler
+     */
+    AroundInvokeInvocationContext(Object target, Method method, Method proceed, MethodHandle proceedInvoker, Object[] parameters,
+            Set<Annotation> interceptorBindings, AroundInvokeInvocationContext root, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
+        super(target, method, proceed, parameters, null, interceptorBindings);
+        this.proceedInvoker = proceedInvoker;
+        this.root = (root == null) ? this : root;
         this.currentHandler = currentHandler;
     }
 
+    @Override
+    public Map<String, Object> getContextData() {
+        return (root == this) ? super.getContextData() : root.getContextData();
+    }
+
     @Override
     public Object proceed() throws Exception {
         final Stack stack = InterceptionDecorationContext.startIfNotOnTop(currentHandler);
@@ -5,6 +5,7 @@ import static org.jboss.weld.interceptor.proxy.AroundInvokeInvocationContext.cre
 import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.List;
@@ -17,6 +18,7 @@ import org.jboss.weld.bean.proxy.InterceptionDecorationContext.Stack;
 import org.jboss.weld.bean.proxy.StackAwareMethodHandler;
 import org.jboss.weld.interceptor.spi.model.InterceptionType;
 import org.jboss.weld.interceptor.util.InterceptionUtils;
+import org.jboss.weld.util.reflection.MethodInvokers;
 import org.jboss.weld.util.reflection.Reflections;
 
 /**
@@ -42,7 +44,6 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
     }
 
     public Object invoke(Stack stack, Object self, Method thisMethod, Method proceed, Object[] args) throws Throwable {
-        SecurityActions.ensureAccessible(proceed);
         if (proceed == null) {
             if (thisMethod.getName().equals(InterceptionUtils.POST_CONSTRUCT)) {
                 return executeInterception(self, null, null, null, InterceptionType.POST_CONSTRUCT, stack);
@@ -51,6 +52,7 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
             }
         } else {
             if (isInterceptorMethod(thisMethod)) {
+                SecurityActions.ensureAccessible(proceed);
                 return Reflections.invokeAndUnwrap(self, proceed, args);
             }
             return executeInterception(self, thisMethod, proceed, args, InterceptionType.AROUND_INVOKE, stack);
@@ -59,13 +61,13 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
     }
 
     protected Object executeInterception(Object instance, Method method, Method proceed, Object[] args, InterceptionType interceptionType, Stack stack) throws Throwable {
-        CachedInterceptionChain chain = getInterceptionChain(instance, method, interceptionType);
+        CachedInterceptionChain chain = getInterceptionChain(instance, method, proceed, interceptionType);
         if (chain.interceptorMethods.isEmpty()) {
             // shortcut if there are no interceptors
             if (proceed == null) {
                 return null;
             } else {
-                return Reflections.invokeAndUnwrap(instance, proceed, args);
+                return (Object) chain.proceedInvoker.invokeExact(instance, args);
             }
         }
         if (InterceptionType.AROUND_INVOKE == interceptionType) {
@@ -79,7 +81,8 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
     }
 
     protected Object executeAroundInvoke(Object instance, Method method, Method proceed, Object[] args, CachedInterceptionChain chain, Stack stack) throws Throwable {
-        org.jboss.weld.interceptor.WeldInvocationContext ctx = create(instance, method, proceed, args, chain.interceptorMethods, chain.interceptorBindings, stack);
+        org.jboss.weld.interceptor.WeldInvocationContext ctx = create(instance, method, proceed, chain.proceedInvoker, args, chain.interceptorMethods,
+                chain.interceptorBindings, stack);
         try {
             return chain.interceptorMethods.get(0).invoke(ctx);
         } catch (InvocationTargetException e) {
@@ -87,12 +90,12 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
         }
     }
 
-    private CachedInterceptionChain getInterceptionChain(Object instance, Method method, InterceptionType interceptionType) {
+    private CachedInterceptionChain getInterceptionChain(Object instance, Method method, Method proceed, InterceptionType interceptionType) {
         if (method != null) {
             CachedInterceptionChain cachedChain = cachedChains.get(method);
             if (cachedChain == null) {
                 cachedChain = new CachedInterceptionChain(ctx.buildInterceptorMethodInvocations(instance, method, interceptionType), ctx.getInterceptionModel()
-                        .getMemberInterceptorBindings(method));
+                        .getMemberInterceptorBindings(method), MethodInvokers.getSpreadInvoker(proceed));
                 CachedInterceptionChain old = cachedChains.putIfAbsent(method, cachedChain);
                 if (old != null) {
                     cachedChain = old;
@@ -100,7 +103,8 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
             }
             return cachedChain;
         }
-        return new CachedInterceptionChain(ctx.buildInterceptorMethodInvocations(instance, null, interceptionType), ctx.getInterceptionModel().getClassInterceptorBindings());
+        return new CachedInterceptionChain(ctx.buildInterceptorMethodInvocations(instance, null, interceptionType), ctx.getInterceptionModel().getClassInterceptorBindings(),
+                null);
     }
 
     private boolean isInterceptorMethod(Method method) {
@@ -115,10 +119,13 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
 
         private final List<InterceptorMethodInvocation> interceptorMethods;
         private final Set<Annotation> interceptorBindings;
+        // the spread invoker of the proceed method, compiled when the chain is built
+        private final MethodHandle proceedInvoker;
 
-        public CachedInterceptionChain(List<InterceptorMethodInvocation> chain, Set<Annotation> interceptorBindings) {
+        public CachedInterceptionChain(List<InterceptorMethodInvocation> chain, Set<Annotation> interceptorBindings, MethodHandle proceedInvoker) {
             this.interceptorMethods = chain;
             this.interceptorBindings = interceptorBindings;
+            this.proceedInvoker = proceedInvoker;
         }
     }
 }
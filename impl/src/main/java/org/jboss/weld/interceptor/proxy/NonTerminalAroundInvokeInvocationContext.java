@@ -17,9 +17,9 @@
 package org.jboss.weld.interceptor.proxy;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 import javax.interceptor.InvocationContext;
@@ -42,20 +42,20 @@ class NonTerminalAroundInvokeInvocationContext extends AroundInvokeInvocationCon
     private final int position;
     private final List<InterceptorMethodInvocation> chain;
 
-    public NonTerminalAroundInvokeInvocationContext(Object target, Method method, Method proceed, Object[] parameters, Set<Annotation> interceptorBindings,
-            List<InterceptorMethodInvocation> chain, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
-        this(target, method, proceed, parameters, newContextData(interceptorBindings), interceptorBindings, 0, chain, currentHandler);
+    public NonTerminalAroundInvokeInvocationContext(Object target, Method method, Method proceed, MethodHandle proceedInvoker, Object[] parameters,
+            Set<Annotation> interceptorBindings, List<InterceptorMethodInvocation> chain, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
+        this(target, method, proceed, proceedInvoker, parameters, interceptorBindings, null, 0, chain, currentHandler);
     }
 
     public NonTerminalAroundInvokeInvocationContext(NonTerminalAroundInvokeInvocationContext ctx) {
-        this(ctx.getTarget(), ctx.getMethod(), ctx.getProceed(), ctx.getParameters(), ctx.contextData, ctx.getInterceptorBindings(), ctx.position + 1,
-                ctx.chain, ctx.currentHandler);
+        this(ctx.getTarget(), ctx.getMethod(), ctx.getProceed(), ctx.proceedInvoker, ctx.getParameters(), ctx.getInterceptorBindings(), ctx.root,
+                ctx.position + 1, ctx.chain, ctx.currentHandler);
     }
 
-    private NonTerminalAroundInvokeInvocationContext(Object target, Method method, Method proceed, Object[] parameters, Map<String, Object> contextData,
-            Set<Annotation> interceptorBindings, int position, List<InterceptorMethodInvocation> chain,
+    private NonTerminalAroundInvokeInvocationContext(Object target, Method method, Method proceed, MethodHandle proceedInvoker, Object[] parameters,
+            Set<Annotation> interceptorBindings, AroundInvokeInvocationContext root, int position, List<InterceptorMethodInvocation> chain,
             CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
-        super(target, method, proceed, parameters, contextData, interceptorBindings, currentHandler);
+        super(target, method, proceed, proceedInvoker, parameters, interceptorBindings, root, currentHandler);
         this.position = position;
         this.chain = chain;
     }
@@ -17,14 +17,14 @@
 package org.jboss.weld.interceptor.proxy;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Set;
 
 import javax.interceptor.InvocationContext;
 
 import org.jboss.weld.bean.proxy.CombinedInterceptorAndDecoratorStackMethodHandler;
+import org.jboss.weld.util.reflection.MethodInvokers;
 
 /**
  * The terminal {@link InvocationContext} in the interception chain. It is passed to the last interceptor in the chain and calling {@link #proceed()} invokes
@@ -37,18 +37,23 @@ import org.jboss.weld.bean.proxy.CombinedInterceptorAndDecoratorStackMethodHandl
  */
 class TerminalAroundInvokeInvocationContext extends AroundInvokeInvocationContext {
 
-    public TerminalAroundInvokeInvocationContext(Object target, Method method, Method proceed, Object[] parameters, Map<String, Object> contextData,
+    public TerminalAroundInvokeInvocationContext(Object target, Method method, Method proceed, MethodHandle proceedInvoker, Object[] parameters,
             Set<Annotation> interceptorBindings, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
-        super(target, method, proceed, parameters, (contextData == null) ? null : new HashMap<String, Object>(contextData), interceptorBindings, currentHandler);
+        super(target, method, proceed, proceedInvoker, parameters, interceptorBindings, null, currentHandler);
     }
 
     public TerminalAroundInvokeInvocationContext(NonTerminalAroundInvokeInvocationContext ctx) {
-        super(ctx.getTarget(), ctx.getMethod(), ctx.getProceed(), ctx.getParameters(), ctx.contextData, ctx.getInterceptorBindings(), ctx.currentHandler);
+        super(ctx.getTarget(), ctx.getMethod(), ctx.getProceed(), ctx.proceedInvoker, ctx.getParameters(), ctx.getInterceptorBindings(), ctx.root,
+                ctx.currentHandler);
     }
 
     @Override
     public Object proceedInternal() throws Exception {
-        return getProceed().invoke(getTarget(), getParameters());
+        try {
+            return (Object) proceedInvoker.invokeExact(getTarget(), getParameters());
+        } catch (Throwable e) {
+            throw MethodInvokers.unwrap(e);
+        }
     }
 
     @Override
@@ -17,14 +17,21 @@
 
 package org.jboss.weld.interceptor.reader;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 
+import javax.interceptor.InvocationContext;
+
 import org.jboss.weld.interceptor.proxy.InterceptorInvocation;
 import org.jboss.weld.interceptor.spi.metadata.InterceptorMetadata;
 import org.jboss.weld.interceptor.spi.model.InterceptionType;
+import org.jboss.weld.util.collections.ImmutableList;
+import org.jboss.weld.util.reflection.MethodInvokers;
 
 
 /**
@@ -33,10 +40,31 @@ import org.jboss.weld.interceptor.spi.model.InterceptionType;
  */
 public abstract class AbstractInterceptorMetadata implements InterceptorMetadata {
 
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, InvocationContext.class);
+
     protected final Map<InterceptionType, List<Method>> interceptorMethodMap;
 
+    // interceptor methods compiled into method handles, in the same order as the methods
+    private final Map<InterceptionType, List<MethodHandle>> interceptorMethodInvokers;
+
     public AbstractInterceptorMetadata(Map<InterceptionType, List<Method>> interceptorMethodMap) {
         this.interceptorMethodMap = interceptorMethodMap;
+        this.interceptorMethodInvokers = compile(interceptorMethodMap);
+    }
+
+    private static Map<InterceptionType, List<MethodHandle>> compile(Map<InterceptionType, List<Method>> interceptorMethodMap) {
+        if (interceptorMethodMap == null) {
+            return Collections.emptyMap();
+        }
+        Map<InterceptionType, List<MethodHandle>> invokers = new EnumMap<>(InterceptionType.class);
+        for (Map.Entry<InterceptionType, List<Method>> entry : interceptorMethodMap.entrySet()) {
+            ImmutableList.Builder<MethodHandle> builder = ImmutableList.builder();
+            for (Method method : entry.getValue()) {
+                builder.add(MethodInvokers.getInvoker(method, INVOKER_TYPE));
+            }
+            invokers.put(entry.getKey(), builder.build());
+        }
+        return invokers;
     }
 
     public List<Method> getInterceptorMethods(InterceptionType interceptionType) {
@@ -60,7 +88,9 @@ public abstract class AbstractInterceptorMetadata implements InterceptorMetadata
 
     @Override
     public InterceptorInvocation getInterceptorInvocation(Object interceptorInstance, InterceptionType interceptionType) {
-        return new SimpleInterceptorInvocation(interceptorInstance, interceptionType, getInterceptorMethods(interceptionType), isTargetClassInterceptor());
+        List<MethodHandle> invokers = interceptorMethodInvokers.get(interceptionType);
+        return new SimpleInterceptorInvocation(interceptorInstance, interceptionType, getInterceptorMethods(interceptionType),
+                invokers == null ? Collections.<MethodHandle>emptyList() : invokers, isTargetClassInterceptor());
     }
 
     protected abstract boolean isTargetClassInterceptor();
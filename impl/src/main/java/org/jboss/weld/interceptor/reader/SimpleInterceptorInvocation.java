@@ -17,6 +17,7 @@
 
 package org.jboss.weld.interceptor.reader;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 import java.util.List;
 
@@ -26,6 +27,7 @@ import org.jboss.weld.interceptor.proxy.InterceptorInvocation;
 import org.jboss.weld.interceptor.proxy.InterceptorMethodInvocation;
 import org.jboss.weld.interceptor.spi.model.InterceptionType;
 import org.jboss.weld.util.collections.ImmutableList;
+import org.jboss.weld.util.reflection.MethodInvokers;
 
 /**
  * @author Marius Bogoevici
@@ -37,18 +39,28 @@ class SimpleInterceptorInvocation implements InterceptorInvocation {
     private final boolean targetClass;
     private final InterceptionType interceptionType;
 
-    public SimpleInterceptorInvocation(Object instance, InterceptionType interceptionType, List<Method> interceptorMethods, boolean targetClass) {
+    /**
+     *
+     * @param instance
+     * @param interceptionType
+     * @param interceptorMethods
+     * @param interceptorMethodInvokers the interceptor methods compiled into method handles of type <code>(Object, InvocationContext)Object</code>
+     * @param targetClass
+     */
+    public SimpleInterceptorInvocation(Object instance, InterceptionType interceptionType, List<Method> interceptorMethods,
+            List<MethodHandle> interceptorMethodInvokers, boolean targetClass) {
         this.instance = instance;
         this.interceptionType = interceptionType;
         this.targetClass = targetClass;
 
         if (interceptorMethods.size() == 1) {
             // Very often there will be only one interceptor method
-            interceptorMethodInvocations = ImmutableList.<InterceptorMethodInvocation> of(new SimpleMethodInvocation(interceptorMethods.get(0)));
+            interceptorMethodInvocations = ImmutableList.<InterceptorMethodInvocation> of(new SimpleMethodInvocation(interceptorMethods.get(0),
+                    interceptorMethodInvokers.get(0)));
         } else {
             ImmutableList.Builder<InterceptorMethodInvocation> builder = ImmutableList.builder();
-            for (Method method : interceptorMethods) {
-                builder.add(new SimpleMethodInvocation(method));
+            for (int i = 0; i < interceptorMethods.size(); i++) {
+                builder.add(new SimpleMethodInvocation(interceptorMethods.get(i), interceptorMethodInvokers.get(i)));
             }
             interceptorMethodInvocations = builder.build();
         }
@@ -63,17 +75,20 @@ class SimpleInterceptorInvocation implements InterceptorInvocation {
 
         private final Method method;
 
-        SimpleMethodInvocation(Method method) {
+        private final MethodHandle invoker;
+
+        SimpleMethodInvocation(Method method, MethodHandle invoker) {
             this.method = method;
+            this.invoker = invoker;
         }
 
         @Override
         public Object invoke(InvocationContext invocationContext) throws Exception {
-            if (invocationContext != null) {
-                return method.invoke(instance, invocationContext);
-            }
-            else {
-                return method.invoke(instance);
+            try {
+                // the invocation context is ignored if the method does not declare it
+                return (Object) invoker.invokeExact(instance, invocationContext);
+            } catch (Throwable e) {
+                throw MethodInvokers.unwrap(e);
             }
         }
 
@@ -542,4 +542,20 @@ public interface BeanLogger extends WeldLogger {
     @LogMessage(level = Level.DEBUG)
     @Message(id = 1576, value = "Using {1} to instantiate a shared proxy class {0}; the deployment implementation [{2}] does not match the instantiator the proxy was created with", format = Format.MESSAGE_FORMAT)
     void creatingProxyInstanceUsingDifferentInstantiator(Object proxyClass, Object newInstantiator, Object oldInstantiator);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 1577, value = "Unable to read the cached proxy class {0} from {1}", format = Format.MESSAGE_FORMAT)
+    void unableToReadCachedProxyClass(Object proxyClassName, Object file, @Cause Throwable cause);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 1578, value = "Unable to store the proxy class {0} in the proxy class cache: {1}", format = Format.MESSAGE_FORMAT)
+    void unableToCacheProxyClass(Object proxyClassName, Object file, @Cause Throwable cause);
+
+    @LogMessage(level = Level.TRACE)
+    @Message(id = 1579, value = "Loaded proxy class {0} from the proxy class cache", format = Format.MESSAGE_FORMAT)
+    void loadedCachedProxyClass(Object proxyClassName);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 1580, value = "Discarding the invalid cached proxy class {0} stored in {1}", format = Format.MESSAGE_FORMAT)
+    void discardingCachedProxyClass(Object proxyClassName, Object file, @Cause Throwable cause);
 }
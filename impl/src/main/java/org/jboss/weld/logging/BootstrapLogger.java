@@ -334,4 +334,20 @@ public interface BootstrapLogger extends WeldLogger {
     @Message(id = 180, value = "Drop unused bean metadata: {0}", format = Format.MESSAGE_FORMAT)
     void dropUnusedBeanMetadata(Object bean);
 
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 181, value = "Resolution warm-up completed: {0} lookups resolved in {1} ms", format = Format.MESSAGE_FORMAT)
+    void resolutionWarmupCompleted(int count, long time);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 182, value = "Unable to warm up resolution: {0}", format = Format.MESSAGE_FORMAT)
+    void unableToWarmUpResolution(Object lookup, @Cause Throwable cause);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 183, value = "Proxy warm-up completed: {0} client proxy classes ready in {1} ms", format = Format.MESSAGE_FORMAT)
+    void proxyWarmupCompleted(int count, long time);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 184, value = "Unable to create the client proxy of {0} during proxy warm-up", format = Format.MESSAGE_FORMAT)
+    void unableToWarmUpProxy(Object bean, @Cause Throwable cause);
+
 }
@@ -18,6 +18,8 @@ package org.jboss.weld.logging;
 
 import static org.jboss.weld.logging.WeldLogger.WELD_PROJECT_CODE;
 
+import java.util.concurrent.RejectedExecutionException;
+
 import javax.enterprise.inject.spi.ObserverMethod;
 
 import org.jboss.logging.Logger;
@@ -110,4 +112,10 @@ public interface EventLogger extends WeldLogger {
 
     @Message(id = 422, value = "WeldEvent.select(Type subtype, Annotation... qualifiers) can be invoked only on an instance of WeldEvent<Object>.", format = Format.MESSAGE_FORMAT)
     IllegalStateException selectByTypeOnlyWorksOnObject();
+
+    @Message(id = 423, value = "{0} is not a valid overflow policy for asynchronous observers", format = Format.MESSAGE_FORMAT)
+    IllegalArgumentException invalidOverflowPolicy(Object policy);
+
+    @Message(id = 424, value = "Asynchronous observer notification rejected - {0} notifications are already in flight", format = Format.MESSAGE_FORMAT)
+    RejectedExecutionException asyncEventDeliveryRejected(int maxInFlight);
 }
@@ -19,7 +19,9 @@ package org.jboss.weld.logging;
 import static org.jboss.weld.logging.WeldLogger.WELD_PROJECT_CODE;
 
 import org.jboss.logging.Logger;
+import org.jboss.logging.Logger.Level;
 import org.jboss.logging.annotations.Cause;
+import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.Message.Format;
 import org.jboss.logging.annotations.MessageLogger;
@@ -43,4 +45,32 @@ public interface ResolutionLogger extends WeldLogger {
     @Message(id = 1602, value = "Cannot create qualifier instance model for {0}\n\tat {1}\n  StackTrace:", format = Format.MESSAGE_FORMAT)
     WeldException cannotCreateQualifierInstanceValues(Object annotation, Object stackElement, @Cause Exception cause);
 
+    @LogMessage(level = Level.WARN)
+    @Message(id = 1603, value = "Unable to register resolution cache statistics MBean for {0}", format = Format.MESSAGE_FORMAT)
+    void unableToRegisterResolutionCacheStatistics(Object beanManager, @Cause Throwable cause);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 1604, value = "Unable to unregister resolution cache statistics MBean {0}", format = Format.MESSAGE_FORMAT)
+    void unableToUnregisterResolutionCacheStatistics(Object name, @Cause Throwable cause);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 1605, value = "Unable to read resolution snapshot {0}", format = Format.MESSAGE_FORMAT)
+    void unableToReadResolutionSnapshot(Object file, @Cause Throwable cause);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 1606, value = "Unable to write resolution snapshot {0}", format = Format.MESSAGE_FORMAT)
+    void unableToWriteResolutionSnapshot(Object file, @Cause Throwable cause);
+
+    @LogMessage(level = Level.INFO)
+    @Message(id = 1607, value = "Resolution snapshot {0} ignored - the deployment has changed", format = Format.MESSAGE_FORMAT)
+    void resolutionSnapshotOutdated(Object file);
+
+    @LogMessage(level = Level.DEBUG)
+    @Message(id = 1608, value = "{0} resolved results restored from {1}", format = Format.MESSAGE_FORMAT)
+    void resolutionSnapshotRestored(int count, Object file);
+
+    @LogMessage(level = Level.DEBUG)
+    @Message(id = 1609, value = "{0} resolved results written to {1}", format = Format.MESSAGE_FORMAT)
+    void resolutionSnapshotWritten(int count, Object file);
+
 }
\ No newline at end of file
@@ -161,6 +161,7 @@ import org.jboss.weld.resolution.InterceptorResolvable;
 import org.jboss.weld.resolution.InterceptorResolvableBuilder;
 import org.jboss.weld.resolution.NameBasedResolver;
 import org.jboss.weld.resolution.QualifierInstance;
+import org.jboss.weld.resolution.ResolutionCacheStatisticsProvider;
 import org.jboss.weld.resolution.Resolvable;
 import org.jboss.weld.resolution.ResolvableBuilder;
 import org.jboss.weld.resolution.TypeSafeBeanResolver;
@@ -181,6 +182,8 @@ import org.jboss.weld.util.LazyValueHolder;
 import org.jboss.weld.util.Observers;
 import org.jboss.weld.util.Preconditions;
 import org.jboss.weld.util.Types;
+import org.jboss.weld.util.cache.CacheStatistics;
+import org.jboss.weld.util.collections.ImmutableMap;
 import org.jboss.weld.util.collections.ImmutableSet;
 import org.jboss.weld.util.collections.SetMultimap;
 import org.jboss.weld.util.collections.WeldCollections;
@@ -198,11 +201,12 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
  * @author Ales Justin
  * @author Jozef Hartinger
  */
-public class BeanManagerImpl implements WeldManager, Serializable {
+public class BeanManagerImpl implements WeldManager, ResolutionCacheStatisticsProvider, Serializable {
 
     private static final long serialVersionUID = 3021562879133838561L;
 
     private static final String CREATIONAL_CONTEXT = "creationalContext";
+
     /*
      * Application scoped services ***************************
      */
@@ -240,6 +244,7 @@ public class BeanManagerImpl implements WeldManager, Serializable {
     private final transient TypeSafeDecoratorResolver decoratorResolver;
     private final transient TypeSafeInterceptorResolver interceptorResolver;
     private final transient NameBasedResolver nameBasedResolver;
+    private final transient TypeSafeObserverResolver accessibleObserverResolver;
     private final transient ELResolver weldELResolver;
 
     /*
@@ -363,7 +368,7 @@ public class BeanManagerImpl implements WeldManager, Serializable {
         this.nameBasedResolver = new NameBasedResolver(this, createDynamicAccessibleIterable(beanTransform));
         this.weldELResolver = services.getOptional(ExpressionLanguageSupport.class).map(el -> el.createElResolver(this)).orElse(null);
 
-        TypeSafeObserverResolver accessibleObserverResolver = new TypeSafeObserverResolver(getServices().get(MetaAnnotationStore.class),
+        this.accessibleObserverResolver = new TypeSafeObserverResolver(getServices().get(MetaAnnotationStore.class),
                 createDynamicAccessibleIterable(BeanManagerImpl::getObservers), getServices().get(WeldConfiguration.class));
         this.accessibleLenientObserverNotifier = getServices().get(ObserverNotifierFactory.class).create(contextId, accessibleObserverResolver, getServices(),
                 false);
@@ -910,6 +915,13 @@ public class BeanManagerImpl implements WeldManager, Serializable {
         return nameBasedResolver;
     }
 
+    @Override
+    public Map<String, CacheStatistics> getResolutionCacheStatistics() {
+        return ImmutableMap.<String, CacheStatistics> builder().put(RESOLUTION_BEANS, beanResolver.getStatistics())
+                .put(RESOLUTION_DECORATORS, decoratorResolver.getStatistics()).put(RESOLUTION_INTERCEPTORS, interceptorResolver.getStatistics())
+                .put(RESOLUTION_OBSERVERS, accessibleObserverResolver.getStatistics()).build();
+    }
+
     /**
      * Get the lenient observer notifier for accessible observer methods. Should never be exposed to an application.
      *
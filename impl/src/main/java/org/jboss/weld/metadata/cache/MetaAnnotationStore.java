@@ -19,6 +19,9 @@ package org.jboss.weld.metadata.cache;
 import java.lang.annotation.Annotation;
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import javax.enterprise.inject.spi.Bean;
@@ -40,6 +43,8 @@ import org.jboss.weld.util.collections.ImmutableSet;
  */
 public class MetaAnnotationStore implements Service {
 
+    private static final long[] EMPTY_QUALIFIER_BITS = new long[0];
+
     private abstract static class AbstractMetaAnnotationFunction<M extends AnnotationModel<Annotation>> implements
             Function<Class<Annotation>, M> {
 
@@ -136,6 +141,11 @@ public class MetaAnnotationStore implements Service {
 
     private final SharedObjectCache sharedObjectCache;
 
+    // Qualifier instances of beans -> dense ids
+    private final ConcurrentMap<QualifierInstance, Integer> qualifierIds;
+
+    private final AtomicInteger qualifierIdGenerator;
+
     public MetaAnnotationStore(ClassTransformer classTransformer) {
         ComputingCacheBuilder cacheBuilder = ComputingCacheBuilder.newBuilder();
         this.stereotypes = cacheBuilder.build(new StereotypeFunction(classTransformer));
@@ -144,6 +154,8 @@ public class MetaAnnotationStore implements Service {
         this.interceptorBindings = cacheBuilder.build(new InterceptorBindingFunction(classTransformer));
         this.qualifierInstanceCache = cacheBuilder.build(new QualifierInstanceFunction(this));
         this.sharedObjectCache = classTransformer.getSharedObjectCache();
+        this.qualifierIds = new ConcurrentHashMap<>();
+        this.qualifierIdGenerator = new AtomicInteger();
     }
 
     /**
@@ -252,6 +264,84 @@ public class MetaAnnotationStore implements Service {
         return useSharedCache ? sharedObjectCache.getSharedSet(builder.build()) : builder.build();
     }
 
+    /**
+     * Qualifier instances of the given bean are interned, i.e. a dense id is assigned to every qualifier instance which was not seen before. The number of ids
+     * is therefore bounded by the number of distinct bean qualifiers.
+     *
+     * @param bean
+     * @return the qualifier bitset for the given bean
+     * @see #getRequiredQualifierBits(Set)
+     */
+    public long[] getQualifierBits(final Bean<?> bean) {
+        if (bean instanceof RIBean) {
+            return ((RIBean<?>) bean).getQualifierBits();
+        }
+        return getQualifierBits(getQualifierInstances(bean.getQualifiers()));
+    }
+
+    /**
+     *
+     * @param qualifierInstances
+     * @return the qualifier bitset, every qualifier instance is interned
+     * @see #getQualifierBits(Bean)
+     */
+    public long[] getQualifierBits(final Set<QualifierInstance> qualifierInstances) {
+        return toQualifierBits(qualifierInstances, true);
+    }
+
+    /**
+     * Unlike {@link #getQualifierBits(Set)} this method does not intern any qualifier instance so that qualifiers created dynamically at runtime (e.g. for
+     * {@link javax.enterprise.inject.Instance#select(Annotation...)}) do not exhaust the id space.
+     *
+     * @param qualifierInstances
+     * @return the qualifier bitset or <code>null</code> if some of the qualifier instances was not interned yet
+     */
+    public long[] getRequiredQualifierBits(final Set<QualifierInstance> qualifierInstances) {
+        return toQualifierBits(qualifierInstances, false);
+    }
+
+    /**
+     * The returned bitset has no trailing empty words so that the bitsets of equal sets of qualifiers are equal. Most deployments have less than 64 distinct
+     * qualifiers, in which case the ids are looked up only once and the bitset is allocated only once.
+     */
+    private long[] toQualifierBits(final Set<QualifierInstance> qualifierInstances, boolean intern) {
+        long firstWord = 0L;
+        int maxId = -1;
+        for (QualifierInstance qualifierInstance : qualifierInstances) {
+            int id = getQualifierId(qualifierInstance, intern);
+            if (id < 0) {
+                return null;
+            }
+            if (id < Long.SIZE) {
+                firstWord |= 1L << id;
+            }
+            maxId = Math.max(maxId, id);
+        }
+        if (maxId < 0) {
+            return EMPTY_QUALIFIER_BITS;
+        }
+        long[] bits = new long[maxId / Long.SIZE + 1];
+        bits[0] = firstWord;
+        if (maxId >= Long.SIZE) {
+            for (QualifierInstance qualifierInstance : qualifierInstances) {
+                int id = getQualifierId(qualifierInstance, false);
+                bits[id / Long.SIZE] |= 1L << id;
+            }
+        }
+        return bits;
+    }
+
+    private int getQualifierId(QualifierInstance qualifierInstance, boolean intern) {
+        Integer id = qualifierIds.get(qualifierInstance);
+        if (id == null) {
+            if (!intern) {
+                return -1;
+            }
+            id = qualifierIds.computeIfAbsent(qualifierInstance, (q) -> qualifierIdGenerator.getAndIncrement());
+        }
+        return id;
+    }
+
     /**
      * Gets a string representation
      *
@@ -267,6 +357,7 @@ public class MetaAnnotationStore implements Service {
         buffer.append("Registered stereotype models: ").append(stereotypes.size()).append(newLine);
         buffer.append("Registered interceptor binding models: ").append(interceptorBindings.size()).append(newLine);
         buffer.append("Cached qualifier instances: ").append(qualifierInstanceCache.size()).append(newLine);
+        buffer.append("Interned qualifier instances: ").append(qualifierIds.size()).append(newLine);
         return buffer.toString();
     }
 
@@ -38,6 +38,7 @@ import javax.enterprise.inject.spi.InterceptionFactory;
 import javax.inject.Provider;
 
 import org.jboss.weld.bean.AbstractProducerBean;
+import org.jboss.weld.bean.RIBean;
 import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.events.WeldEvent;
 import org.jboss.weld.inject.WeldInstance;
@@ -64,6 +65,11 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
 
     private final LazyValueHolder<Map<Type, ArrayList<T>>> beansByType;
 
+    private final LazyValueHolder<BeanTypeAssignabilityIndex<T>> assignabilityIndex;
+
+    // The qualifier bitsets of beans which do not cache the bitset themselves, i.e. other than RIBean
+    private final LazyValueHolder<Map<T, long[]>> qualifierBits;
+
     public class BeanDisambiguation implements Function<Set<Bean<?>>, Set<Bean<?>>> {
 
         private BeanDisambiguation() {
@@ -152,6 +158,8 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
                 for (T bean : beans) {
                     mapBean(map, bean);
                 }
+                // intern the qualifiers so that the qualifier bitsets of resolvables may be used
+                qualifierBits.get();
                 trimArrayListsToSize(map);
                 return WeldCollections.immutableMapView(map);
             }
@@ -189,6 +197,19 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
                 }
             }
         };
+        // assignabilityIndex further buckets the beans with parameterized types by type arguments so that a lookup for a parameterized required type
+        // does not need to evaluate the assignability rules against every bean with the same raw type
+        this.assignabilityIndex = LazyValueHolder.forSupplier(() -> new BeanTypeAssignabilityIndex<T>(beans));
+        this.qualifierBits = LazyValueHolder.forSupplier(() -> {
+            Map<T, long[]> map = new HashMap<T, long[]>();
+            for (T bean : beans) {
+                long[] bits = store.getQualifierBits(bean);
+                if (!(bean instanceof RIBean)) {
+                    map.put(bean, bits);
+                }
+            }
+            return WeldCollections.immutableMapView(map);
+        });
     }
 
     @Override
@@ -199,8 +220,19 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
         } else {
             rules = BeanTypeAssignabilityRules.instance();
         }
-        return rules.matches(resolvable.getTypes(), bean.getTypes())
-                && Beans.containsAllQualifiers(resolvable.getQualifiers(), QualifierInstance.of(bean, store));
+        return rules.matches(resolvable.getTypes(), bean.getTypes()) && qualifiersMatch(resolvable, bean);
+    }
+
+    private boolean qualifiersMatch(Resolvable resolvable, T bean) {
+        long[] requiredQualifierBits = resolvable.getQualifierBits();
+        if (requiredQualifierBits != null) {
+            long[] beanQualifierBits = bean instanceof RIBean ? ((RIBean<?>) bean).getQualifierBits() : qualifierBits.get().get(bean);
+            if (beanQualifierBits == null) {
+                beanQualifierBits = store.getQualifierBits(bean);
+            }
+            return Beans.containsAllQualifiers(requiredQualifierBits, beanQualifierBits);
+        }
+        return Beans.containsAllQualifiers(resolvable.getQualifiers(), QualifierInstance.of(bean, store));
     }
 
     @Override
@@ -219,9 +251,14 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
         for (Type type : resolvable.getTypes()) {
             beans.addAll(getBeans(type));
             if (type instanceof ParameterizedType) {
-                // we also need to consider the raw type
-                Type rawType = ((ParameterizedType) type).getRawType();
-                beans.addAll(getBeans(rawType));
+                // we also need to consider the beans with the same raw type, narrowed down by the assignability index if possible
+                Set<T> candidates = resolvable.isDelegate() ? null : assignabilityIndex.get().getCandidates((ParameterizedType) type);
+                if (candidates != null) {
+                    beans.addAll(candidates);
+                } else {
+                    Type rawType = ((ParameterizedType) type).getRawType();
+                    beans.addAll(getBeans(rawType));
+                }
             } else if (type instanceof Class<?>) {
                 // primitives
                 Class<?> clazz = (Class<?>) type;
@@ -273,6 +310,8 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
         super.clear();
         this.disambiguatedBeans.clear();
         this.beansByType.clear();
+        this.assignabilityIndex.clear();
+        this.qualifierBits.clear();
     }
 
     MetaAnnotationStore getStore() {
@@ -0,0 +1,278 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.resolution;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.enterprise.inject.spi.Bean;
+
+import org.jboss.weld.util.reflection.Reflections;
+
+/**
+ * An index of beans with parameterized bean types. Beans are bucketed by the raw type and then by the shape of each type argument so that the candidates for a
+ * parameterized required type may be found by set intersection instead of evaluating {@link BeanTypeAssignabilityRules} against every bean with the same raw
+ * type.
+ *
+ * <p>
+ * For each raw type and each type argument position the following buckets are maintained:
+ * </p>
+ * <ul>
+ * <li>beans whose type argument has the given raw class - used for actual type arguments and lower-bounded wildcards,</li>
+ * <li>beans whose type argument raw class is a subtype of the given class - used for upper-bounded wildcards,</li>
+ * <li>beans whose type argument cannot be classified (type variables, arrays) and beans with a raw bean type - these are always candidates.</li>
+ * </ul>
+ *
+ * <p>
+ * The index is conservative - the result may contain beans which are not assignable to the required type, i.e. the assignability rules must still be applied
+ * to the candidates. On the other hand, a bean which is assignable is never left out.
+ * </p>
+ *
+ * @param <T> the bean type
+ * @see AbstractTypeSafeBeanResolver
+ */
+class BeanTypeAssignabilityIndex<T extends Bean<?>> {
+
+    private final Map<Class<?>, RawTypeEntry<T>> entries;
+
+    BeanTypeAssignabilityIndex(Iterable<? extends T> beans) {
+        Map<Class<?>, RawTypeEntry<T>> entries = new HashMap<>();
+        Map<Class<?>, Set<Class<?>>> closures = new HashMap<>();
+        for (T bean : beans) {
+            for (Type type : bean.getTypes()) {
+                if (type instanceof ParameterizedType) {
+                    ParameterizedType parameterizedType = (ParameterizedType) type;
+                    Type[] arguments = parameterizedType.getActualTypeArguments();
+                    RawTypeEntry<T> entry = entries.computeIfAbsent(Reflections.getRawType(parameterizedType), (c) -> new RawTypeEntry<>(arguments.length));
+                    for (int i = 0; i < arguments.length && i < entry.positions.length; i++) {
+                        entry.positions[i].add(bean, arguments[i], closures);
+                    }
+                } else if (type instanceof Class<?> && ((Class<?>) type).getTypeParameters().length > 0) {
+                    // A raw bean type might be assignable to a parameterized required type
+                    Class<?> rawType = (Class<?>) type;
+                    RawTypeEntry<T> entry = entries.computeIfAbsent(rawType, (c) -> new RawTypeEntry<>(rawType.getTypeParameters().length));
+                    for (Position<T> position : entry.positions) {
+                        position.unrestricted.add(bean);
+                    }
+                }
+            }
+        }
+        this.entries = entries;
+    }
+
+    /**
+     *
+     * @param requiredType
+     * @return the candidate beans or <code>null</code> if the index cannot narrow down the beans with the same raw type
+     */
+    Set<T> getCandidates(ParameterizedType requiredType) {
+        RawTypeEntry<T> entry = entries.get(Reflections.getRawType(requiredType));
+        if (entry == null) {
+            return Collections.emptySet();
+        }
+        Type[] arguments = requiredType.getActualTypeArguments();
+        if (arguments.length != entry.positions.length) {
+            return null;
+        }
+        List<List<Set<T>>> constraints = new ArrayList<>(arguments.length);
+        List<Set<T>> smallest = null;
+        int smallestSize = Integer.MAX_VALUE;
+        for (int i = 0; i < arguments.length; i++) {
+            List<Set<T>> constraint = entry.positions[i].getConstraint(arguments[i]);
+            if (constraint == null) {
+                continue;
+            }
+            int size = 0;
+            for (Set<T> set : constraint) {
+                size += set.size();
+            }
+            if (size < smallestSize) {
+                smallestSize = size;
+                smallest = constraint;
+            }
+            constraints.add(constraint);
+        }
+        if (smallest == null) {
+            // No type argument restricts the candidates
+            return null;
+        }
+        Set<T> candidates = new HashSet<>();
+        for (Set<T> set : smallest) {
+            for (T bean : set) {
+                if (matchesAll(bean, constraints, smallest)) {
+                    candidates.add(bean);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private static <T> boolean matchesAll(T bean, List<List<Set<T>>> constraints, List<Set<T>> skip) {
+        for (List<Set<T>> constraint : constraints) {
+            if (constraint != skip && !contains(constraint, bean)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <T> boolean contains(List<Set<T>> union, T bean) {
+        for (Set<T> set : union) {
+            if (set.contains(bean)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<Class<?>> getSupertypes(Class<?> clazz, Map<Class<?>, Set<Class<?>>> closures) {
+        Set<Class<?>> closure = closures.get(clazz);
+        if (closure == null) {
+            closure = new HashSet<>();
+            // Interfaces do not extend Object
+            closure.add(Object.class);
+            collectSupertypes(clazz, closure);
+            closures.put(clazz, closure);
+        }
+        return closure;
+    }
+
+    private static void collectSupertypes(Class<?> clazz, Set<Class<?>> closure) {
+        if (clazz != null && closure.add(clazz)) {
+            collectSupertypes(clazz.getSuperclass(), closure);
+            for (Class<?> interfaceClass : clazz.getInterfaces()) {
+                collectSupertypes(interfaceClass, closure);
+            }
+        }
+    }
+
+    /**
+     *
+     * @param type
+     * @return the raw class of the given type if the type is a non-array class or a parameterized type, <code>null</code> otherwise
+     */
+    private static Class<?> getIndexableRawType(Type type) {
+        if (type instanceof ParameterizedType || (type instanceof Class<?> && !((Class<?>) type).isArray())) {
+            return Reflections.getRawType(type);
+        }
+        return null;
+    }
+
+    private static class RawTypeEntry<T> {
+
+        private final Position<T>[] positions;
+
+        @SuppressWarnings("unchecked")
+        RawTypeEntry(int size) {
+            this.positions = new Position[size];
+            for (int i = 0; i < size; i++) {
+                positions[i] = new Position<>();
+            }
+        }
+
+    }
+
+    private static class Position<T> {
+
+        // The raw class of the type argument -> beans
+        private final Map<Class<?>, Set<T>> byRawType = new HashMap<>();
+
+        // A supertype of the raw class of the type argument -> beans
+        private final Map<Class<?>, Set<T>> bySupertype = new HashMap<>();
+
+        // Type variables, arrays, raw bean types, etc.
+        private final Set<T> unrestricted = new HashSet<>();
+
+        void add(T bean, Type argument, Map<Class<?>, Set<Class<?>>> closures) {
+            Class<?> rawType = getIndexableRawType(argument);
+            if (rawType == null) {
+                unrestricted.add(bean);
+                return;
+            }
+            byRawType.computeIfAbsent(rawType, (c) -> new HashSet<>()).add(bean);
+            for (Class<?> supertype : getSupertypes(rawType, closures)) {
+                bySupertype.computeIfAbsent(supertype, (c) -> new HashSet<>()).add(bean);
+            }
+        }
+
+        /**
+         *
+         * @param requiredArgument
+         * @return the union of bean sets matching the required type argument or <code>null</code> if the argument does not restrict the candidates
+         */
+        List<Set<T>> getConstraint(Type requiredArgument) {
+            if (requiredArgument instanceof TypeVariable<?>) {
+                // Only a type variable may match a type variable
+                return Collections.singletonList(unrestricted);
+            }
+            if (requiredArgument instanceof WildcardType) {
+                WildcardType wildcard = (WildcardType) requiredArgument;
+                Type[] lowerBounds = wildcard.getLowerBounds();
+                if (lowerBounds.length > 0) {
+                    Class<?> lowerBound = getIndexableRawType(lowerBounds[0]);
+                    if (lowerBound == null) {
+                        return null;
+                    }
+                    // The type argument must be a supertype of the lower bound
+                    List<Set<T>> constraint = new ArrayList<>();
+                    constraint.add(unrestricted);
+                    for (Class<?> supertype : getSupertypes(lowerBound, new HashMap<>())) {
+                        Set<T> beans = byRawType.get(supertype);
+                        if (beans != null) {
+                            constraint.add(beans);
+                        }
+                    }
+                    return constraint;
+                }
+                Type[] upperBounds = wildcard.getUpperBounds();
+                Class<?> upperBound = upperBounds.length > 0 ? getIndexableRawType(upperBounds[0]) : null;
+                if (upperBound == null || Object.class.equals(upperBound)) {
+                    return null;
+                }
+                // The type argument must be a subtype of the upper bound
+                return union(unrestricted, bySupertype.get(upperBound));
+            }
+            Class<?> rawType = getIndexableRawType(requiredArgument);
+            if (rawType == null) {
+                return null;
+            }
+            // Actual types must have identical raw types
+            return union(unrestricted, byRawType.get(rawType));
+        }
+
+        private static <T> List<Set<T>> union(Set<T> unrestricted, Set<T> beans) {
+            if (beans == null) {
+                return Collections.singletonList(unrestricted);
+            }
+            List<Set<T>> union = new ArrayList<>(2);
+            union.add(unrestricted);
+            union.add(beans);
+            return union;
+        }
+
+    }
+
+}
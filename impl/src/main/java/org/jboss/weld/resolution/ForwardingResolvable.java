@@ -30,6 +30,11 @@ public abstract class ForwardingResolvable implements Resolvable {
         return delegate().getQualifiers();
     }
 
+    @Override
+    public long[] getQualifierBits() {
+        return delegate().getQualifierBits();
+    }
+
     @Override
     public Set<Type> getTypes() {
         return delegate().getTypes();
@@ -16,7 +16,11 @@
  */
 package org.jboss.weld.resolution;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -38,6 +42,8 @@ public class NameBasedResolver {
 
         private final BeanManagerImpl beanManager;
         private final Iterable<? extends Bean<?>> allBeans;
+        // Results restored from a resolution snapshot
+        private volatile Map<String, List<Bean<?>>> restored;
 
         private NameToBeanSet(BeanManagerImpl beanManager, Iterable<? extends Bean<?>> allBeans) {
             this.beanManager = beanManager;
@@ -45,25 +51,50 @@ public class NameBasedResolver {
         }
 
         public Set<Bean<?>> apply(String from) {
-            Set<Bean<?>> matchedBeans = new HashSet<Bean<?>>();
-            for (Bean<?> bean : allBeans) {
-                if ((bean.getName() == null && from == null) || (bean.getName() != null && bean.getName().equals(from))) {
-                    matchedBeans.add(bean);
+            Set<Bean<?>> matchedBeans = findRestored(from);
+            if (matchedBeans == null) {
+                matchedBeans = new HashSet<Bean<?>>();
+                for (Bean<?> bean : allBeans) {
+                    if (matches(bean, from)) {
+                        matchedBeans.add(bean);
+                    }
                 }
             }
             return Beans.removeDisabledBeans(matchedBeans, beanManager);
         }
 
+        private Set<Bean<?>> findRestored(String name) {
+            Map<String, List<Bean<?>>> restored = this.restored;
+            List<Bean<?>> beans = restored != null && name != null ? restored.get(name) : null;
+            if (beans == null) {
+                return null;
+            }
+            Set<Bean<?>> result = new HashSet<Bean<?>>();
+            for (Bean<?> bean : beans) {
+                if (!matches(bean, name)) {
+                    return null;
+                }
+                result.add(bean);
+            }
+            return result;
+        }
+
+        private static boolean matches(Bean<?> bean, String name) {
+            return (bean.getName() == null && name == null) || (bean.getName() != null && bean.getName().equals(name));
+        }
+
     }
 
     // The resolved names
     private ComputingCache<String, Set<Bean<?>>> resolvedNames;
+    private final NameToBeanSet resolverFunction;
 
     /**
      * Constructor
      */
     public NameBasedResolver(BeanManagerImpl manager, Iterable<? extends Bean<?>> allBeans) {
-        this.resolvedNames = ComputingCacheBuilder.newBuilder().build(new NameToBeanSet(manager, allBeans));
+        this.resolverFunction = new NameToBeanSet(manager, allBeans);
+        this.resolvedNames = ComputingCacheBuilder.newBuilder().build(resolverFunction);
     }
 
     /**
@@ -72,6 +103,65 @@ public class NameBasedResolver {
      */
     public void clear() {
         this.resolvedNames.clear();
+        this.resolverFunction.restored = null;
+    }
+
+    /**
+     * Store the resolved names in the given snapshot.
+     *
+     * @param snapshot
+     * @param section
+     * @see TypeSafeResolver#capture(ResolutionSnapshot, String)
+     */
+    public void capture(ResolutionSnapshot snapshot, String section) {
+        resolvedNames.forEachEntry((name, beans) -> {
+            if (name == null) {
+                return;
+            }
+            List<String> identifiers = new ArrayList<>(beans.size());
+            for (Bean<?> bean : beans) {
+                String identifier = ResolutionSnapshot.getIdentifier(bean);
+                if (identifier == null) {
+                    return;
+                }
+                identifiers.add(identifier);
+            }
+            snapshot.put(section, name, identifiers);
+        });
+    }
+
+    /**
+     * Restore the resolved names stored in the given snapshot section.
+     *
+     * @param entries
+     * @return the number of restored names
+     * @see TypeSafeResolver#restore(Map)
+     */
+    public int restore(Map<String, List<String>> entries) {
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        Map<String, Bean<?>> beansByIdentifier = new HashMap<>();
+        for (Bean<?> bean : resolverFunction.allBeans) {
+            String identifier = ResolutionSnapshot.getIdentifier(bean);
+            if (identifier != null) {
+                beansByIdentifier.put(identifier, bean);
+            }
+        }
+        Map<String, List<Bean<?>>> restored = new HashMap<>();
+        entries: for (Map.Entry<String, List<String>> entry : entries.entrySet()) {
+            List<Bean<?>> beans = new ArrayList<>(entry.getValue().size());
+            for (String identifier : entry.getValue()) {
+                Bean<?> bean = beansByIdentifier.get(identifier);
+                if (bean == null) {
+                    continue entries;
+                }
+                beans.add(bean);
+            }
+            restored.put(entry.getKey(), beans);
+        }
+        resolverFunction.restored = restored;
+        return restored.size();
     }
 
     /**
@@ -0,0 +1,145 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.resolution;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.spi.ObserverMethod;
+
+import org.jboss.weld.event.ContainerLifecycleEventObserverMethod;
+import org.jboss.weld.util.Types;
+import org.jboss.weld.util.reflection.Reflections;
+
+/**
+ * An index of observer methods keyed by the raw observed type. According to {@link EventTypeAssignabilityRules} an observed class or parameterized type may
+ * only match an event type with the same raw type. Therefore, the candidates for an event are the observers indexed by the raw types of the event type
+ * closure.
+ *
+ * <p>
+ * The following observers are not indexed:
+ * </p>
+ * <ul>
+ * <li>observers of an array type or a type variable - these are always candidates,</li>
+ * <li>observers of {@link Object} with no qualifier other than {@link Any} - these are <em>universal</em> observers which are notified of every event
+ * except for container lifecycle events and need not be matched at all.</li>
+ * </ul>
+ *
+ * <p>
+ * The index is conservative - the assignability rules must still be applied to the candidates.
+ * </p>
+ *
+ * @see TypeSafeObserverResolver
+ */
+class ObserverMethodIndex {
+
+    private final Iterable<? extends ObserverMethod<?>> observers;
+
+    private final Map<Class<?>, List<ObserverMethod<?>>> byRawType;
+
+    private final List<ObserverMethod<?>> unindexed;
+
+    private final List<ObserverMethod<?>> universal;
+
+    ObserverMethodIndex(Iterable<? extends ObserverMethod<?>> observers) {
+        this.observers = observers;
+        this.byRawType = new HashMap<>();
+        this.unindexed = new ArrayList<>();
+        this.universal = new ArrayList<>();
+        for (ObserverMethod<?> observer : observers) {
+            if (isUniversal(observer)) {
+                universal.add(observer);
+                continue;
+            }
+            Class<?> rawType = getIndexableRawType(Types.boxedType(observer.getObservedType()));
+            if (rawType == null) {
+                unindexed.add(observer);
+            } else {
+                byRawType.computeIfAbsent(rawType, (c) -> new ArrayList<>()).add(observer);
+            }
+        }
+    }
+
+    /**
+     *
+     * @return the observers of {@link Object} with no qualifier other than {@link Any} which are not container lifecycle event observers
+     */
+    List<ObserverMethod<?>> getUniversalObservers() {
+        return universal;
+    }
+
+    /**
+     *
+     * @param eventTypes the event type closure
+     * @param includeUniversal whether the universal observers should be included
+     * @return the candidate observers
+     */
+    Iterable<? extends ObserverMethod<?>> getCandidates(Set<Type> eventTypes, boolean includeUniversal) {
+        List<ObserverMethod<?>> candidates = new ArrayList<>(unindexed);
+        if (includeUniversal) {
+            candidates.addAll(universal);
+        }
+        for (Type eventType : eventTypes) {
+            Class<?> rawType = getIndexableRawType(Types.boxedType(eventType));
+            if (rawType == null) {
+                if (Types.isArray(eventType)) {
+                    // Only an observer of an array type may match an array event type
+                    continue;
+                }
+                // Type variables and wildcards are not expected but should not be skipped silently
+                return observers;
+            }
+            List<ObserverMethod<?>> bucket = byRawType.get(rawType);
+            if (bucket != null) {
+                candidates.addAll(bucket);
+            }
+        }
+        return candidates;
+    }
+
+    private static boolean isUniversal(ObserverMethod<?> observer) {
+        if (!Object.class.equals(observer.getObservedType()) || observer instanceof ContainerLifecycleEventObserverMethod) {
+            return false;
+        }
+        for (Annotation qualifier : observer.getObservedQualifiers()) {
+            if (!Any.class.equals(qualifier.annotationType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     *
+     * @param type
+     * @return the raw class of the given type if the type is a non-array class or a parameterized type, <code>null</code> otherwise
+     */
+    private static Class<?> getIndexableRawType(Type type) {
+        if (type instanceof ParameterizedType || (type instanceof Class<?> && !((Class<?>) type).isArray())) {
+            return Reflections.getRawType(type);
+        }
+        return null;
+    }
+
+}
@@ -190,6 +190,10 @@ public class QualifierInstance {
         return values.get(name);
     }
 
+    Map<String, Object> getValues() {
+        return values;
+    }
+
     @Override
     public int hashCode() {
         return hashCode;
@@ -0,0 +1,51 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.resolution;
+
+import java.util.Map;
+
+import org.jboss.weld.util.cache.CacheStatistics;
+
+/**
+ * Provides the statistics of the resolution caches of a bean manager. Implemented by the bean managers Weld hands out, so that an integrator or an
+ * application may obtain the statistics without depending on the implementation classes:
+ *
+ * <pre>
+ * Map&lt;String, CacheStatistics&gt; statistics = ((ResolutionCacheStatisticsProvider) beanManager).getResolutionCacheStatistics();
+ * </pre>
+ *
+ * @see ResolutionCacheStatisticsMXBean
+ */
+public interface ResolutionCacheStatisticsProvider {
+
+    String RESOLUTION_BEANS = "beans";
+
+    String RESOLUTION_DECORATORS = "decorators";
+
+    String RESOLUTION_INTERCEPTORS = "interceptors";
+
+    String RESOLUTION_OBSERVERS = "observers";
+
+    /**
+     * Get the statistics of the resolution caches of the bean manager. The keys are {@link #RESOLUTION_BEANS}, {@link #RESOLUTION_DECORATORS},
+     * {@link #RESOLUTION_INTERCEPTORS} and {@link #RESOLUTION_OBSERVERS}.
+     *
+     * @return an immutable map of resolution cache statistics snapshots
+     */
+    Map<String, CacheStatistics> getResolutionCacheStatistics();
+
+}
@@ -0,0 +1,110 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.resolution;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.logging.ResolutionLogger;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.util.cache.CacheStatistics;
+
+/**
+ * Registers a {@link ResolutionCacheStatisticsMXBean} for each bean manager. The MBeans are unregistered when the container is shut down.
+ *
+ * @see org.jboss.weld.config.ConfigurationKey#RESOLUTION_CACHE_STATISTICS_JMX_SUPPORT
+ */
+public class ResolutionCacheStatisticsRegistry implements Service {
+
+    private static final String TYPE = "ResolutionCacheStatistics";
+
+    private final List<ObjectName> registered = new CopyOnWriteArrayList<>();
+
+    public void register(BeanManagerImpl manager) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(ResolutionCacheStatisticsRegistry.class.getPackage().getName() + ":type=" + TYPE + ",context="
+                    + ObjectName.quote(manager.getContextId()) + ",beanManager=" + ObjectName.quote(manager.getId()));
+            server.registerMBean(new ResolutionCacheStatistics(manager), name);
+            registered.add(name);
+        } catch (JMException e) {
+            ResolutionLogger.LOG.unableToRegisterResolutionCacheStatistics(manager, e);
+        }
+    }
+
+    @Override
+    public void cleanup() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (ObjectName name : registered) {
+            try {
+                if (server.isRegistered(name)) {
+                    server.unregisterMBean(name);
+                }
+            } catch (JMException e) {
+                ResolutionLogger.LOG.unableToUnregisterResolutionCacheStatistics(name, e);
+            }
+        }
+        registered.clear();
+    }
+
+    private static class ResolutionCacheStatistics implements ResolutionCacheStatisticsMXBean {
+
+        private final BeanManagerImpl manager;
+
+        private ResolutionCacheStatistics(BeanManagerImpl manager) {
+            this.manager = manager;
+        }
+
+        @Override
+        public String getContextId() {
+            return manager.getContextId();
+        }
+
+        @Override
+        public String getBeanManagerId() {
+            return manager.getId();
+        }
+
+        @Override
+        public CacheStatistics getBeans() {
+            return manager.getResolutionCacheStatistics().get(ResolutionCacheStatisticsProvider.RESOLUTION_BEANS);
+        }
+
+        @Override
+        public CacheStatistics getDecorators() {
+            return manager.getResolutionCacheStatistics().get(ResolutionCacheStatisticsProvider.RESOLUTION_DECORATORS);
+        }
+
+        @Override
+        public CacheStatistics getInterceptors() {
+            return manager.getResolutionCacheStatistics().get(ResolutionCacheStatisticsProvider.RESOLUTION_INTERCEPTORS);
+        }
+
+        @Override
+        public CacheStatistics getObservers() {
+            return manager.getResolutionCacheStatistics().get(ResolutionCacheStatisticsProvider.RESOLUTION_OBSERVERS);
+        }
+
+    }
+
+}
@@ -0,0 +1,271 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.resolution;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.PassivationCapable;
+
+import org.jboss.weld.bean.CommonBean;
+import org.jboss.weld.util.Types;
+
+/**
+ * A compact binary snapshot of resolved results. Each section holds the results of a single resolver - a resolution key is mapped to the ordered list of
+ * identifiers of the matching beans or observer methods. The snapshot is stamped with a hash of the deployment and is only
+ * reloaded if the hash matches.
+ *
+ * <p>
+ * The binary format is: magic number, version, deployment hash, string table, sections. Each section consists of the section name, the number of entries and for
+ * each entry the key and the list of identifiers. Strings are referenced by their position in the string table.
+ * </p>
+ *
+ * @see ResolutionSnapshotService
+ */
+public final class ResolutionSnapshot {
+
+    private static final int MAGIC = 0x57524553;
+
+    private static final int VERSION = 2;
+
+    private static final char SEPARATOR = '|';
+
+    private final long deploymentHash;
+
+    private final Map<String, Map<String, List<String>>> sections;
+
+    public ResolutionSnapshot(long deploymentHash) {
+        this.deploymentHash = deploymentHash;
+        this.sections = new LinkedHashMap<>();
+    }
+
+    public long getDeploymentHash() {
+        return deploymentHash;
+    }
+
+    /**
+     *
+     * @param section
+     * @param key
+     * @param identifiers
+     */
+    public void put(String section, String key, List<String> identifiers) {
+        sections.computeIfAbsent(section, (s) -> new LinkedHashMap<>()).put(key, identifiers);
+    }
+
+    /**
+     *
+     * @param section
+     * @return the entries of the given section, never <code>null</code>
+     */
+    public Map<String, List<String>> getSection(String section) {
+        Map<String, List<String>> entries = sections.get(section);
+        return entries != null ? Collections.unmodifiableMap(entries) : Collections.emptyMap();
+    }
+
+    /**
+     *
+     * @return the total number of entries
+     */
+    public int size() {
+        int size = 0;
+        for (Map<String, List<String>> entries : sections.values()) {
+            size += entries.size();
+        }
+        return size;
+    }
+
+    public void write(OutputStream out) throws IOException {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, List<String>>> section : sections.entrySet()) {
+            intern(strings, section.getKey());
+            for (Map.Entry<String, List<String>> entry : section.getValue().entrySet()) {
+                intern(strings, entry.getKey());
+                for (String identifier : entry.getValue()) {
+                    intern(strings, identifier);
+                }
+            }
+        }
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeLong(deploymentHash);
+        data.writeInt(strings.size());
+        for (String string : strings.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            data.writeInt(bytes.length);
+            data.write(bytes);
+        }
+        data.writeInt(sections.size());
+        for (Map.Entry<String, Map<String, List<String>>> section : sections.entrySet()) {
+            data.writeInt(strings.get(section.getKey()));
+            data.writeInt(section.getValue().size());
+            for (Map.Entry<String, List<String>> entry : section.getValue().entrySet()) {
+                data.writeInt(strings.get(entry.getKey()));
+                data.writeInt(entry.getValue().size());
+                for (String identifier : entry.getValue()) {
+                    data.writeInt(strings.get(identifier));
+                }
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     *
+     * @param in
+     * @return the snapshot
+     * @throws IOException If the input is not a valid snapshot
+     */
+    public static ResolutionSnapshot read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a resolution snapshot");
+        }
+        int version = data.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported resolution snapshot version: " + version);
+        }
+        ResolutionSnapshot snapshot = new ResolutionSnapshot(data.readLong());
+        String[] strings = new String[data.readInt()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[data.readInt()];
+            data.readFully(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        int sectionCount = data.readInt();
+        for (int i = 0; i < sectionCount; i++) {
+            String section = strings[data.readInt()];
+            int entryCount = data.readInt();
+            for (int j = 0; j < entryCount; j++) {
+                String key = strings[data.readInt()];
+                String[] identifiers = new String[data.readInt()];
+                for (int k = 0; k < identifiers.length; k++) {
+                    identifiers[k] = strings[data.readInt()];
+                }
+                snapshot.put(section, key, Collections.unmodifiableList(Arrays.asList(identifiers)));
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * The key only consists of the required types and qualifiers, i.e. the same attributes which are used to identify a cached resolution.
+     *
+     * @param resolvable
+     * @return the resolution key or <code>null</code> if the resolvable cannot be represented in a snapshot
+     */
+    public static String getKey(Resolvable resolvable) {
+        if (resolvable.isDelegate()) {
+            return null;
+        }
+        TreeSet<String> types = new TreeSet<>();
+        for (Type type : resolvable.getTypes()) {
+            try {
+                types.add(Types.getTypeId(type));
+            } catch (IllegalArgumentException e) {
+                // Type variables and wildcards are not supported
+                return null;
+            }
+        }
+        TreeSet<String> qualifiers = new TreeSet<>();
+        for (QualifierInstance qualifier : resolvable.getQualifiers()) {
+            String qualifierKey = getKey(qualifier);
+            if (qualifierKey == null) {
+                return null;
+            }
+            qualifiers.add(qualifierKey);
+        }
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.join(",", types));
+        builder.append(SEPARATOR);
+        builder.append(String.join(",", qualifiers));
+        return builder.toString();
+    }
+
+    private static String getKey(QualifierInstance qualifier) {
+        Map<String, Object> values = qualifier.getValues();
+        if (values.isEmpty()) {
+            return qualifier.getAnnotationClass().getName();
+        }
+        StringBuilder builder = new StringBuilder(qualifier.getAnnotationClass().getName());
+        builder.append('(');
+        boolean first = true;
+        for (Map.Entry<String, Object> entry : new TreeMap<>(values).entrySet()) {
+            Object value = entry.getValue();
+            String valueKey;
+            if (value instanceof Class<?>) {
+                valueKey = ((Class<?>) value).getName();
+            } else if (value instanceof Enum<?> || value instanceof String || value instanceof Number || value instanceof Boolean
+                    || value instanceof Character) {
+                valueKey = value.toString();
+            } else {
+                // Arrays and annotations are not supported
+                return null;
+            }
+            if (!first) {
+                builder.append(',');
+            }
+            builder.append(entry.getKey()).append('=').append(valueKey);
+            first = false;
+        }
+        return builder.append(')').toString();
+    }
+
+    /**
+     * Uses the same identifiers as {@link org.jboss.weld.serialization.BeanIdentifierIndex}.
+     *
+     * @param bean
+     * @return the identifier of the given bean or <code>null</code> if the bean has no identifier
+     */
+    public static String getIdentifier(Bean<?> bean) {
+        if (bean instanceof CommonBean<?>) {
+            return ((CommonBean<?>) bean).getIdentifier().asString();
+        } else if (bean instanceof PassivationCapable) {
+            return ((PassivationCapable) bean).getId();
+        }
+        return null;
+    }
+
+    private static void intern(Map<String, Integer> strings, String string) {
+        strings.putIfAbsent(string, strings.size());
+    }
+
+    @Override
+    public String toString() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (Map.Entry<String, Map<String, List<String>>> section : sections.entrySet()) {
+            counts.put(section.getKey(), section.getValue().size());
+        }
+        return "ResolutionSnapshot [deploymentHash=" + deploymentHash + ", sections=" + counts + "]";
+    }
+
+}
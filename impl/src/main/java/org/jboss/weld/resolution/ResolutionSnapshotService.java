@@ -0,0 +1,224 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.resolution;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.bootstrap.enablement.ModuleEnablement;
+import org.jboss.weld.logging.ResolutionLogger;
+import org.jboss.weld.manager.BeanManagerImpl;
+
+/**
+ * Stores the results of bean, name and observer resolution in a {@link ResolutionSnapshot} file at shutdown (or on demand) and restores them during the next
+ * bootstrap, provided the deployment did not change. As a result, the first resolutions after restart do not need to search all the beans and observer
+ * methods.
+ *
+ * <p>
+ * The snapshot is stamped with a hash of the identifiers of all the beans and observer methods of each bean manager and of the enabled alternatives. Otherwise,
+ * a bean or an observer method added to the deployment would be missing in a restored result.
+ * </p>
+ *
+ * <p>
+ * Bean and observer method identifiers contain the container id. Therefore, the snapshot can only be reused if the container id is stable.
+ * </p>
+ *
+ * @see org.jboss.weld.config.ConfigurationKey#RESOLUTION_SNAPSHOT_FILE
+ */
+public class ResolutionSnapshotService implements Service {
+
+    private static final String GLOBAL_OBSERVERS = "observers";
+
+    private static final String BEANS = "beans:";
+
+    private static final String NAMES = "names:";
+
+    private static final String OBSERVERS = "observers:";
+
+    private static final String ALTERNATIVES = "alternatives:";
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private static final int HASH_BYTES = 8;
+
+    private static final int BITS_PER_BYTE = 8;
+
+    private static final int BYTE_MASK = 0xff;
+
+    private final Path file;
+
+    private final List<BeanManagerImpl> managers;
+
+    private volatile long deploymentHash;
+
+    private volatile int restoredCount;
+
+    public ResolutionSnapshotService(Path file) {
+        this.file = file;
+        this.managers = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Restore the results for the given bean managers. The first manager is used to access the global observer resolver.
+     *
+     * @param managers
+     */
+    public void restore(Iterable<BeanManagerImpl> managers) {
+        for (BeanManagerImpl manager : managers) {
+            this.managers.add(manager);
+        }
+        if (this.managers.isEmpty()) {
+            return;
+        }
+        this.deploymentHash = computeDeploymentHash(this.managers);
+        if (!Files.isReadable(file)) {
+            return;
+        }
+        ResolutionSnapshot snapshot;
+        try (InputStream in = Files.newInputStream(file)) {
+            snapshot = ResolutionSnapshot.read(in);
+        } catch (IOException e) {
+            ResolutionLogger.LOG.unableToReadResolutionSnapshot(file, e);
+            return;
+        }
+        if (snapshot.getDeploymentHash() != deploymentHash) {
+            ResolutionLogger.LOG.resolutionSnapshotOutdated(file);
+            return;
+        }
+        int restored = this.managers.get(0).getGlobalLenientObserverNotifier().getResolver().restore(snapshot.getSection(GLOBAL_OBSERVERS));
+        for (BeanManagerImpl manager : this.managers) {
+            restored += manager.getBeanResolver().restore(snapshot.getSection(BEANS + manager.getId()));
+            restored += manager.getNameBasedResolver().restore(snapshot.getSection(NAMES + manager.getId()));
+            restored += manager.getAccessibleLenientObserverNotifier().getResolver().restore(snapshot.getSection(OBSERVERS + manager.getId()));
+        }
+        this.restoredCount = restored;
+        ResolutionLogger.LOG.resolutionSnapshotRestored(restored, file);
+    }
+
+    /**
+     *
+     * @return the number of results restored during bootstrap
+     */
+    public int getRestoredCount() {
+        return restoredCount;
+    }
+
+    /**
+     * Write a snapshot of the currently cached results. The file is replaced atomically if supported by the file system.
+     *
+     * @return the number of stored results
+     */
+    public int write() {
+        if (managers.isEmpty()) {
+            return 0;
+        }
+        ResolutionSnapshot snapshot = new ResolutionSnapshot(deploymentHash);
+        managers.get(0).getGlobalLenientObserverNotifier().getResolver().capture(snapshot, GLOBAL_OBSERVERS);
+        for (BeanManagerImpl manager : managers) {
+            manager.getBeanResolver().capture(snapshot, BEANS + manager.getId());
+            manager.getNameBasedResolver().capture(snapshot, NAMES + manager.getId());
+            manager.getAccessibleLenientObserverNotifier().getResolver().capture(snapshot, OBSERVERS + manager.getId());
+        }
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                snapshot.write(out);
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            ResolutionLogger.LOG.unableToWriteResolutionSnapshot(file, e);
+            return 0;
+        }
+        ResolutionLogger.LOG.resolutionSnapshotWritten(snapshot.size(), file);
+        return snapshot.size();
+    }
+
+    @Override
+    public void cleanup() {
+        managers.clear();
+    }
+
+    /**
+     *
+     * @param managers
+     * @return the hash of the identifiers of all the beans and observer methods of the given bean managers and of their enabled alternatives
+     */
+    static long computeDeploymentHash(List<BeanManagerImpl> managers) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        update(digest, GLOBAL_OBSERVERS, managers.get(0).getGlobalLenientObserverNotifier().getResolver().getSnapshotIdentifiers());
+        for (BeanManagerImpl manager : managers) {
+            update(digest, BEANS + manager.getId(), manager.getBeanResolver().getSnapshotIdentifiers());
+            update(digest, OBSERVERS + manager.getId(), manager.getAccessibleLenientObserverNotifier().getResolver().getSnapshotIdentifiers());
+            update(digest, ALTERNATIVES + manager.getId(), getAlternatives(manager.getEnabled()));
+        }
+        byte[] bytes = digest.digest();
+        long hash = 0;
+        for (int i = 0; i < HASH_BYTES; i++) {
+            hash = (hash << BITS_PER_BYTE) | (bytes[i] & BYTE_MASK);
+        }
+        return hash;
+    }
+
+    private static List<String> getAlternatives(ModuleEnablement enablement) {
+        // alternative classes and stereotypes, the priority is null for a locally enabled alternative
+        List<String> alternatives = new ArrayList<>();
+        for (Class<?> alternative : enablement.getAllAlternatives()) {
+            alternatives.add(alternative.getName() + "=" + enablement.getAlternativePriority(alternative));
+        }
+        Collections.sort(alternatives);
+        return alternatives;
+    }
+
+    private static void update(MessageDigest digest, String section, List<String> identifiers) {
+        update(digest, section);
+        for (String identifier : identifiers) {
+            update(digest, identifier);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        // separate the values so that the concatenation is not ambiguous
+        digest.update((byte) 0);
+    }
+
+}
@@ -37,6 +37,16 @@ public interface Resolvable {
      */
     Set<QualifierInstance> getQualifiers();
 
+    /**
+     * Get the bitset representation of the qualifiers. Each bit corresponds to a qualifier instance interned by
+     * {@link org.jboss.weld.metadata.cache.MetaAnnotationStore}.
+     *
+     * @return the qualifier bitset or <code>null</code> if not available, e.g. if some of the qualifiers is not a qualifier of any bean
+     */
+    default long[] getQualifierBits() {
+        return null;
+    }
+
     /**
      * The types that this resolvable may be assigned to
      *
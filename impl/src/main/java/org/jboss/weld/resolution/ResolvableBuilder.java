@@ -23,6 +23,7 @@ import java.lang.reflect.Member;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -131,18 +132,18 @@ public class ResolvableBuilder {
                 }
             }
         }
-        return new ResolvableImpl(rawType, types, declaringBean, qualifierInstances, delegate);
+        return new ResolvableImpl(rawType, types, declaringBean, qualifierInstances, store.getRequiredQualifierBits(qualifierInstances), delegate);
     }
 
     private Resolvable createFacade(Class<?> rawType) {
         Set<Type> types = Collections.<Type>singleton(rawType);
-        return new ResolvableImpl(rawType, types, declaringBean, ANY_SINGLETON, delegate);
+        return new ResolvableImpl(rawType, types, declaringBean, ANY_SINGLETON, store.getRequiredQualifierBits(ANY_SINGLETON), delegate);
     }
 
     // just as facade but we keep the qualifiers so that we can recognize Bean from @Intercepted Bean.
     private Resolvable createMetadataProvider(Class<?> rawType) {
         Set<Type> types = Collections.<Type>singleton(rawType);
-        return new ResolvableImpl(rawType, types, declaringBean, qualifierInstances, delegate);
+        return new ResolvableImpl(rawType, types, declaringBean, qualifierInstances, store.getRequiredQualifierBits(qualifierInstances), delegate);
     }
 
     public ResolvableBuilder addQualifier(Annotation qualifier) {
@@ -231,6 +232,7 @@ public class ResolvableBuilder {
     protected static class ResolvableImpl implements Resolvable {
 
         private final Set<QualifierInstance> qualifierInstances;
+        private final long[] qualifierBits;
         private final Set<Type> typeClosure;
         private final Class<?> rawType;
         private final Bean<?> declaringBean;
@@ -238,10 +240,16 @@ public class ResolvableBuilder {
         private final int hashCode;
 
         protected ResolvableImpl(Class<?> rawType, Set<Type> typeClosure, Bean<?> declaringBean, final Set<QualifierInstance> qualifierInstances, boolean delegate) {
+            this(rawType, typeClosure, declaringBean, qualifierInstances, null, delegate);
+        }
+
+        protected ResolvableImpl(Class<?> rawType, Set<Type> typeClosure, Bean<?> declaringBean, final Set<QualifierInstance> qualifierInstances,
+                long[] qualifierBits, boolean delegate) {
             this.typeClosure = typeClosure;
             this.rawType = rawType;
             this.declaringBean = declaringBean;
             this.qualifierInstances = qualifierInstances;
+            this.qualifierBits = qualifierBits;
             this.delegate = delegate;
             this.hashCode = calculateHashCode();
         }
@@ -250,7 +258,8 @@ public class ResolvableBuilder {
         private int calculateHashCode() {
             int hashCode = 17;
             hashCode = 31 * hashCode + this.getTypes().hashCode();
-            return 31 * hashCode + this.qualifierInstances.hashCode();
+            // Interned qualifiers - the bitset identifies the qualifiers, see also equals()
+            return 31 * hashCode + (this.qualifierBits != null ? Arrays.hashCode(this.qualifierBits) : this.qualifierInstances.hashCode());
         }
 
         @Override
@@ -258,6 +267,11 @@ public class ResolvableBuilder {
             return qualifierInstances;
         }
 
+        @Override
+        public long[] getQualifierBits() {
+            return qualifierBits;
+        }
+
         @Override
         public Set<Type> getTypes() {
             return typeClosure;
@@ -290,7 +304,15 @@ public class ResolvableBuilder {
             }
             if (o instanceof ResolvableImpl) {
                 ResolvableImpl r = (ResolvableImpl) o;
-                return this.getTypes().equals(r.getTypes()) && this.qualifierInstances.equals(r.qualifierInstances);
+                if (!this.getTypes().equals(r.getTypes())) {
+                    return false;
+                }
+                if (this.qualifierBits != null || r.qualifierBits != null) {
+                    // Interned qualifiers - no need to compare the sets
+                    // A resolvable created before its qualifiers were interned is never equal to one created afterwards, as their hash codes differ
+                    return Arrays.equals(this.qualifierBits, r.qualifierBits);
+                }
+                return this.qualifierInstances.equals(r.qualifierInstances);
             }
             return false;
         }
@@ -37,4 +37,9 @@ public class TypeSafeBeanResolver extends AbstractTypeSafeBeanResolver<Bean<?>,
     protected Set<Bean<?>> sortResult(Set<Bean<?>> matched) {
         return matched;
     }
+
+    @Override
+    protected String getSnapshotIdentifier(Bean<?> bean) {
+        return ResolutionSnapshot.getIdentifier(bean);
+    }
 }
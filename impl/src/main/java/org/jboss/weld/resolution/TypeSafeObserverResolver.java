@@ -23,6 +23,7 @@ import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -31,9 +32,11 @@ import javax.enterprise.inject.spi.ObserverMethod;
 import org.jboss.weld.bootstrap.events.ProcessAnnotatedTypeEventResolvable;
 import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.event.ContainerLifecycleEventObserverMethod;
+import org.jboss.weld.event.ObserverMethodImpl;
 import org.jboss.weld.event.ResolvedObservers;
 import org.jboss.weld.metadata.cache.MetaAnnotationStore;
 import org.jboss.weld.util.Beans;
+import org.jboss.weld.util.LazyValueHolder;
 import org.jboss.weld.util.Observers;
 import org.jboss.weld.util.reflection.Reflections;
 
@@ -58,11 +61,35 @@ public class TypeSafeObserverResolver extends TypeSafeResolver<Resolvable, Obser
 
     private final MetaAnnotationStore metaAnnotationStore;
     private final AssignabilityRules rules;
+    // built lazily as the observers are not known when the resolver is created, calling the resolvers clear method also discards the index
+    private final LazyValueHolder<ObserverMethodIndex> index;
 
     public TypeSafeObserverResolver(MetaAnnotationStore metaAnnotationStore, Iterable<ObserverMethod<?>> observers, WeldConfiguration configuration) {
         super(observers, configuration);
         this.metaAnnotationStore = metaAnnotationStore;
         this.rules = EventTypeAssignabilityRules.instance();
+        this.index = LazyValueHolder.forSupplier(() -> new ObserverMethodIndex(observers));
+    }
+
+    /**
+     * Only the observers indexed by the raw types of the event type closure are matched. The universal observers, i.e. observers of {@link Object} with no
+     * qualifier other than {@link javax.enterprise.inject.Any}, are not matched at all unless the event is a container lifecycle event.
+     */
+    @Override
+    protected Set<ObserverMethod<?>> findMatching(Resolvable resolvable) {
+        ObserverMethodIndex index = this.index.get();
+        Set<ObserverMethod<?>> result = new HashSet<>();
+        boolean universal = resolvable.getTypes().contains(Object.class) && resolvable.getQualifiers().contains(QualifierInstance.ANY)
+                && !isContainerLifecycleEvent(resolvable);
+        if (universal) {
+            result.addAll(index.getUniversalObservers());
+        }
+        for (ObserverMethod<?> observer : index.getCandidates(resolvable.getTypes(), !universal)) {
+            if (matches(resolvable, observer)) {
+                result.add(observer);
+            }
+        }
+        return result;
     }
 
     @Override
@@ -112,6 +139,22 @@ public class TypeSafeObserverResolver extends TypeSafeResolver<Resolvable, Obser
         return ResolvedObservers.of(cast(result));
     }
 
+    @Override
+    protected Iterable<? extends ObserverMethod<?>> getResultElements(ResolvedObservers<?> result) {
+        return result.getAllObservers();
+    }
+
+    @Override
+    protected String getSnapshotIdentifier(ObserverMethod<?> observer) {
+        return observer instanceof ObserverMethodImpl<?, ?> ? ((ObserverMethodImpl<?, ?>) observer).getId() : null;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        this.index.clear();
+    }
+
     public MetaAnnotationStore getMetaAnnotationStore() {
         return metaAnnotationStore;
     }
@@ -18,16 +18,23 @@ package org.jboss.weld.resolution;
 
 import static org.jboss.weld.util.reflection.Reflections.cast;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 
 import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.logging.ConfigurationLogger;
+import org.jboss.weld.util.cache.CacheStatistics;
 import org.jboss.weld.util.cache.ComputingCache;
 import org.jboss.weld.util.cache.ComputingCacheBuilder;
+import org.jboss.weld.util.cache.EvictionPolicy;
 import org.jboss.weld.util.collections.ImmutableList;
 import org.jboss.weld.util.collections.ImmutableSet;
 
@@ -49,7 +56,11 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
         }
 
         public F apply(R from) {
-            return resolver.makeResultImmutable(resolver.sortResult(resolver.filterResult(resolver.findMatching(from))));
+            Set<T> matching = resolver.findRestored(from);
+            if (matching == null) {
+                matching = resolver.findMatching(from);
+            }
+            return resolver.makeResultImmutable(resolver.sortResult(resolver.filterResult(matching)));
         }
 
     }
@@ -59,21 +70,34 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
     // The beans to search
     private final Iterable<? extends T> allBeans;
     private final ResolvableToBeanCollection<R, T, C, F> resolverFunction;
+    // Results restored from a resolution snapshot
+    private volatile Map<String, List<T>> restored;
 
     /**
      * Constructor
      */
     public TypeSafeResolver(Iterable<? extends T> allBeans, WeldConfiguration configuration) {
         this.resolverFunction = new ResolvableToBeanCollection<R, T, C, F>(this);
-        this.resolved = ComputingCacheBuilder.newBuilder().setMaxSize(configuration.getLongProperty(ConfigurationKey.RESOLUTION_CACHE_SIZE)).build(resolverFunction);
+        this.resolved = ComputingCacheBuilder.newBuilder().setMaxSize(configuration.getLongProperty(ConfigurationKey.RESOLUTION_CACHE_SIZE))
+                .setEvictionPolicy(initEvictionPolicy(configuration)).recordStatistics().build(resolverFunction);
         this.allBeans = allBeans;
     }
 
+    private static EvictionPolicy initEvictionPolicy(WeldConfiguration configuration) {
+        String value = configuration.getStringProperty(ConfigurationKey.RESOLUTION_CACHE_EVICTION);
+        EvictionPolicy evictionPolicy = EvictionPolicy.fromString(value);
+        if (evictionPolicy == null) {
+            throw ConfigurationLogger.LOG.invalidConfigurationPropertyValue(value, ConfigurationKey.RESOLUTION_CACHE_EVICTION.get());
+        }
+        return evictionPolicy;
+    }
+
     /**
      * Reset all cached resolutions
      */
     public void clear() {
         this.resolved.clear();
+        this.restored = null;
     }
 
     /**
@@ -97,7 +121,7 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
      * @param resolvable the resolvable
      * @return A set of filtered beans
      */
-    private Set<T> findMatching(R resolvable) {
+    protected Set<T> findMatching(R resolvable) {
         Set<T> result = new HashSet<T>();
         for (T bean : getAllBeans(resolvable)) {
             if (matches(resolvable, bean)) {
@@ -107,6 +131,129 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
         return result;
     }
 
+    /**
+     * The restored elements are still verified so that an outdated snapshot may not produce an element which does not match.
+     *
+     * @param resolvable the resolvable
+     * @return the restored elements or <code>null</code> if no such result was restored
+     */
+    private Set<T> findRestored(R resolvable) {
+        Map<String, List<T>> restored = this.restored;
+        if (restored == null) {
+            return null;
+        }
+        String key = ResolutionSnapshot.getKey(resolvable);
+        List<T> elements = key != null ? restored.get(key) : null;
+        if (elements == null) {
+            return null;
+        }
+        Set<T> result = new HashSet<T>();
+        for (T element : elements) {
+            if (!matches(resolvable, element)) {
+                return null;
+            }
+            result.add(element);
+        }
+        return result;
+    }
+
+    /**
+     * Store the cached results in the given snapshot. A result is skipped if any of its elements has no snapshot identifier.
+     *
+     * @param snapshot
+     * @param section
+     * @see #getSnapshotIdentifier(Object)
+     */
+    public void capture(ResolutionSnapshot snapshot, String section) {
+        resolved.forEachEntry((resolvable, result) -> {
+            String key = ResolutionSnapshot.getKey(resolvable);
+            if (key == null) {
+                return;
+            }
+            List<String> identifiers = new ArrayList<>();
+            for (T element : getResultElements(result)) {
+                String identifier = getSnapshotIdentifier(element);
+                if (identifier == null) {
+                    return;
+                }
+                identifiers.add(identifier);
+            }
+            snapshot.put(section, key, identifiers);
+        });
+    }
+
+    /**
+     * Restore the results stored in the given snapshot section. The matching elements of a restored result are not searched for during the next resolution
+     * of the same resolvable. A result is skipped if any of its elements cannot be found. The restored results are discarded once the resolver is cleared.
+     *
+     * @param entries
+     * @return the number of restored results
+     */
+    public int restore(Map<String, List<String>> entries) {
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        Map<String, T> elementsByIdentifier = new HashMap<>();
+        Set<String> ambiguous = new HashSet<>();
+        for (T element : getAllBeans()) {
+            String identifier = getSnapshotIdentifier(element);
+            if (identifier != null) {
+                T previous = elementsByIdentifier.put(identifier, element);
+                if (previous != null && previous != element) {
+                    ambiguous.add(identifier);
+                }
+            }
+        }
+        Map<String, List<T>> restored = new HashMap<>();
+        entries: for (Map.Entry<String, List<String>> entry : entries.entrySet()) {
+            List<T> elements = new ArrayList<>(entry.getValue().size());
+            for (String identifier : entry.getValue()) {
+                T element = elementsByIdentifier.get(identifier);
+                if (element == null || ambiguous.contains(identifier)) {
+                    continue entries;
+                }
+                elements.add(element);
+            }
+            restored.put(entry.getKey(), elements);
+        }
+        this.restored = restored;
+        return restored.size();
+    }
+
+    /**
+     * An element without an identifier is represented by the name of its class so that adding or removing such an element is still detected.
+     *
+     * @return the sorted snapshot identifiers of all the elements searched by this resolver
+     * @see ResolutionSnapshotService
+     */
+    public List<String> getSnapshotIdentifiers() {
+        List<String> identifiers = new ArrayList<>();
+        for (T element : getAllBeans()) {
+            String identifier = getSnapshotIdentifier(element);
+            identifiers.add(identifier != null ? identifier : element.getClass().getName());
+        }
+        Collections.sort(identifiers);
+        return identifiers;
+    }
+
+    /**
+     *
+     * @param element
+     * @return the identifier used in a {@link ResolutionSnapshot} or <code>null</code> if the element cannot be stored
+     */
+    protected String getSnapshotIdentifier(T element) {
+        return null;
+    }
+
+    /**
+     *
+     * @param result
+     * @return the elements of the given result
+     */
+    protected Iterable<? extends T> getResultElements(F result) {
+        return cast(result);
+    }
+
     protected Iterable<? extends T> getAllBeans(R resolvable) {
         return allBeans;
     }
@@ -142,6 +289,15 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
         return resolved.getValueIfPresent(wrap(resolvable)) != null;
     }
 
+    /**
+     * Note that non-cached resolutions are not recorded.
+     *
+     * @return a snapshot of the resolution cache statistics
+     */
+    public CacheStatistics getStatistics() {
+        return resolved.getStatistics();
+    }
+
     /**
      * Gets a string representation
      *
@@ -152,6 +308,7 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
         StringBuilder sb = new StringBuilder();
         sb.append("Resolver\n");
         sb.append("Resolved injection points: ").append(resolved.size()).append('\n');
+        sb.append("Statistics: ").append(resolved.getStatistics()).append('\n');
         return sb.toString();
     }
 }
@@ -195,6 +195,23 @@ public class Beans {
         return qualifiers.containsAll(requiredQualifiers);
     }
 
+    /**
+     *
+     * @param requiredQualifierBits
+     * @param qualifierBits
+     * @return <code>true</code> if all the bits set in <code>requiredQualifierBits</code> are also set in <code>qualifierBits</code>
+     * @see MetaAnnotationStore#getQualifierBits(Bean)
+     */
+    public static boolean containsAllQualifiers(long[] requiredQualifierBits, long[] qualifierBits) {
+        for (int i = 0; i < requiredQualifierBits.length; i++) {
+            long word = i < qualifierBits.length ? qualifierBits[i] : 0L;
+            if ((requiredQualifierBits[i] & ~word) != 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public static boolean containsAllInterceptionBindings(Set<Annotation> expectedBindings,
             Set<QualifierInstance> existingBindings, BeanManagerImpl manager) {
         final Set<QualifierInstance> expected = manager.extractInterceptorBindingsForQualifierInstance(QualifierInstance.of(expectedBindings, manager.getServices().get(MetaAnnotationStore.class)));
@@ -0,0 +1,149 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EmptyStackException;
+import java.util.List;
+
+import org.jboss.weld.bean.proxy.DecorationHelper;
+import org.jboss.weld.bean.proxy.InterceptionDecorationContext;
+import org.jboss.weld.contexts.WeldCreationalContext;
+import org.jboss.weld.contexts.cache.RequestScopedItem;
+
+/**
+ * Holds the container-wide per-thread state of the invocation path so that a single {@link ThreadLocal} lookup is needed to reach any of it:
+ * <ul>
+ * <li>the items of the {@link org.jboss.weld.contexts.cache.RequestScopedCache},</li>
+ * <li>the {@link InterceptionDecorationContext} stack,</li>
+ * <li>the {@link DecorationHelper} stack,</li>
+ * <li>the creational context of the contextual instance being created by a client proxy.</li>
+ * </ul>
+ *
+ * <p>
+ * The state object is created lazily and removed from the thread as soon as all of the state is cleared. Clients which hold a reference to the state object
+ * must only use it while they keep a part of the state set - otherwise the state object may no longer be associated with the current thread.
+ * </p>
+ *
+ * <p>
+ * Per-instance thread-local state, e.g. the {@link org.jboss.weld.injection.ThreadLocalStack}s of the container services or the state of the managed
+ * contexts, is not held here as it belongs to a particular container or context.
+ * </p>
+ */
+public final class WeldThreadState {
+
+    private static final ThreadLocal<WeldThreadState> STATE = new ThreadLocal<WeldThreadState>();
+
+    private List<RequestScopedItem> requestScopedItems;
+
+    private InterceptionDecorationContext.Stack interceptionContexts;
+
+    private Deque<DecorationHelper<?>> decorationHelpers;
+
+    private WeldCreationalContext<?> creationalContext;
+
+    private WeldThreadState() {
+    }
+
+    /**
+     *
+     * @return the state of the current thread, never <code>null</code>
+     */
+    public static WeldThreadState get() {
+        WeldThreadState state = STATE.get();
+        if (state == null) {
+            state = new WeldThreadState();
+            STATE.set(state);
+        }
+        return state;
+    }
+
+    /**
+     *
+     * @return the state of the current thread or <code>null</code> if there is no state associated with the current thread
+     */
+    public static WeldThreadState getIfExists() {
+        return STATE.get();
+    }
+
+    public List<RequestScopedItem> getRequestScopedItems() {
+        return requestScopedItems;
+    }
+
+    public void setRequestScopedItems(List<RequestScopedItem> requestScopedItems) {
+        this.requestScopedItems = requestScopedItems;
+        removeIfEmpty();
+    }
+
+    public InterceptionDecorationContext.Stack getInterceptionContexts() {
+        return interceptionContexts;
+    }
+
+    public void setInterceptionContexts(InterceptionDecorationContext.Stack interceptionContexts) {
+        this.interceptionContexts = interceptionContexts;
+        removeIfEmpty();
+    }
+
+    public void pushDecorationHelper(DecorationHelper<?> helper) {
+        if (decorationHelpers == null) {
+            decorationHelpers = new ArrayDeque<DecorationHelper<?>>();
+        }
+        decorationHelpers.push(helper);
+    }
+
+    /**
+     *
+     * @return the decoration helper on top of the stack or <code>null</code> if the stack is empty
+     */
+    public DecorationHelper<?> peekDecorationHelper() {
+        return decorationHelpers != null ? decorationHelpers.peek() : null;
+    }
+
+    public void popDecorationHelper() {
+        if (decorationHelpers == null) {
+            throw new EmptyStackException();
+        }
+        decorationHelpers.pop();
+        if (decorationHelpers.isEmpty()) {
+            decorationHelpers = null;
+            removeIfEmpty();
+        }
+    }
+
+    public WeldCreationalContext<?> getCreationalContext() {
+        return creationalContext;
+    }
+
+    public void setCreationalContext(WeldCreationalContext<?> creationalContext) {
+        this.creationalContext = creationalContext;
+        removeIfEmpty();
+    }
+
+    private void removeIfEmpty() {
+        if (requestScopedItems == null && interceptionContexts == null && decorationHelpers == null && creationalContext == null && STATE.get() == this) {
+            STATE.remove();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "WeldThreadState [requestScopedItems=" + requestScopedItems + ", interceptionContexts=" + interceptionContexts + ", decorationHelpers="
+                + decorationHelpers + ", creationalContext=" + creationalContext + "]";
+    }
+
+}
@@ -16,6 +16,9 @@
  */
 package org.jboss.weld.util.bytecode;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -31,24 +34,49 @@ import sun.misc.Unsafe;
 /**
  * Utility class for loading a ClassFile into a classloader. This borrows heavily from javassist
  *
- * In oder to support JDK 9+, this class now uses Unsafe as we need to be able to define classes with different ProtectionDomain
+ * In oder to support JDK 9+, this class now uses Unsafe as we need to be able to define classes with different ProtectionDomain. On JDK 9+, a class which
+ * belongs to the runtime package of an existing class may be defined by means of <code>MethodHandles.Lookup.defineClass()</code> instead.
  *
  * @author Stuart Douglas
  * @author Matej Novotny
  */
 public class ClassFileUtils {
 
+    private static final String DEFINE_CLASS = "defineClass";
+    private static final String INITIALIZATION_FAILED = "cannot initialize ClassPool";
+
     private static java.lang.reflect.Method defineClass1, defineClass2;
 
+    // The reason why ClassLoader.defineClass() could not be made accessible, e.g. on a JDK which does not allow to do so
+    private static Exception defineClassFailure;
+
+    // MethodHandles.privateLookupIn() and Lookup.defineClass(), only available on JDK 9+
+    private static final MethodHandle PRIVATE_LOOKUP_IN;
+    private static final MethodHandle LOOKUP_DEFINE_CLASS;
+
     private ClassFileUtils() {
     }
 
     static {
+        MethodHandle privateLookupIn = null;
+        MethodHandle lookupDefineClass = null;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            privateLookupIn = lookup.findStatic(MethodHandles.class, "privateLookupIn",
+                    MethodType.methodType(MethodHandles.Lookup.class, Class.class, MethodHandles.Lookup.class));
+            lookupDefineClass = lookup.findVirtual(MethodHandles.Lookup.class, DEFINE_CLASS, MethodType.methodType(Class.class, byte[].class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            // JDK 8
+            privateLookupIn = null;
+            lookupDefineClass = null;
+        }
+        PRIVATE_LOOKUP_IN = privateLookupIn;
+        LOOKUP_DEFINE_CLASS = lookupDefineClass;
         try {
             AccessController.doPrivileged(new PrivilegedExceptionAction<Object>() {
                 public Object run() throws Exception {
                     Class<?> cl = Class.forName("java.lang.ClassLoader");
-                    final String name = "defineClass";
+                    final String name = DEFINE_CLASS;
 
                     // get Unsafe singleton instance
                     Field singleoneInstanceField = Unsafe.class.getDeclaredField("theUnsafe");
@@ -68,7 +96,11 @@ public class ClassFileUtils {
                 }
             });
         } catch (PrivilegedActionException pae) {
-            throw new RuntimeException("cannot initialize ClassPool", pae.getException());
+            if (LOOKUP_DEFINE_CLASS == null) {
+                throw new RuntimeException(INITIALIZATION_FAILED, pae.getException());
+            }
+            // Classes may still be defined by means of Lookup.defineClass()
+            defineClassFailure = pae.getException();
         }
     }
 
@@ -94,16 +126,31 @@ public class ClassFileUtils {
      *               <code>java.lang.ClassLoader</code> is
      */
     public static Class<?> toClass(ClassFile ct, ClassLoader loader, ProtectionDomain domain) {
+        return toClass(ct.getName(), ct.toBytecode(), loader, domain);
+    }
+
+    /**
+     * Defines a class from the given bytecode, e.g. bytecode which was generated previously and stored.
+     *
+     * @param name the name of the class
+     * @param b the bytecode
+     * @param loader the class loader used to load this class
+     * @param domain the protection domain for the class, may be <code>null</code>
+     * @see #toClass(ClassFile, ClassLoader, ProtectionDomain)
+     */
+    public static Class<?> toClass(String name, byte[] b, ClassLoader loader, ProtectionDomain domain) {
+        if (defineClassFailure != null) {
+            throw new RuntimeException(INITIALIZATION_FAILED, defineClassFailure);
+        }
         try {
-            byte[] b = ct.toBytecode();
             java.lang.reflect.Method method;
             Object[] args;
             if (domain == null) {
                 method = defineClass1;
-                args = new Object[] { ct.getName(), b, 0, b.length };
+                args = new Object[] { name, b, 0, b.length };
             } else {
                 method = defineClass2;
-                args = new Object[] { ct.getName(), b, 0, b.length, domain };
+                args = new Object[] { name, b, 0, b.length, domain };
             }
 
             return toClass2(method, loader, args);
@@ -116,6 +163,39 @@ public class ClassFileUtils {
         }
     }
 
+    /**
+     * Defines a class in the runtime package of the given class by means of <code>MethodHandles.Lookup.defineClass()</code>. The class is defined by the class
+     * loader and in the protection domain of the given class. Contrary to {@link #toClass(String, byte[], ClassLoader, ProtectionDomain)}, no reflective access
+     * to {@link ClassLoader} internals is needed.
+     *
+     * @param b the bytecode of a class in the same package as the given class
+     * @param neighbor
+     * @return the defined class or <code>null</code> if <code>Lookup.defineClass()</code> is not available (JDK 8) or the package of the given class is not
+     *         open to Weld
+     */
+    public static Class<?> toClass(byte[] b, Class<?> neighbor) {
+        if (LOOKUP_DEFINE_CLASS == null) {
+            return null;
+        }
+        MethodHandles.Lookup lookup;
+        try {
+            lookup = (MethodHandles.Lookup) PRIVATE_LOOKUP_IN.invokeExact(neighbor, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            return null;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+        try {
+            return (Class<?>) LOOKUP_DEFINE_CLASS.invokeExact(lookup, b);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private static synchronized Class<?> toClass2(Method method, ClassLoader loader, Object[] args) throws Exception {
         Class<?> clazz = Class.class.cast(method.invoke(loader, args));
         return clazz;
@@ -0,0 +1,127 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.util.cache;
+
+/**
+ * An immutable snapshot of {@link ComputingCache} statistics.
+ *
+ * <p>
+ * A lookup which finds an existing entry is counted as a hit, a lookup which results in a new entry is counted as a miss. Note that the load time of a
+ * reentrant computation also includes the load time of the nested computations.
+ * </p>
+ *
+ * @see ComputingCacheBuilder#recordStatistics()
+ * @see ComputingCache#getStatistics()
+ */
+public final class CacheStatistics {
+
+    private final long hitCount;
+
+    private final long missCount;
+
+    private final long evictionCount;
+
+    private final long clearCount;
+
+    private final long totalLoadTime;
+
+    private final long maxLoadTime;
+
+    private final long size;
+
+    CacheStatistics(long hitCount, long missCount, long evictionCount, long clearCount, long totalLoadTime, long maxLoadTime, long size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.clearCount = clearCount;
+        this.totalLoadTime = totalLoadTime;
+        this.maxLoadTime = maxLoadTime;
+        this.size = size;
+    }
+
+    /**
+     *
+     * @return the number of lookups which found an existing entry
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     *
+     * @return the number of lookups which resulted in a new entry
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     *
+     * @return the ratio of hits to all lookups or <code>0</code> if no lookup was performed
+     */
+    public double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     *
+     * @return the number of entries removed because the maximum size was exceeded
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     *
+     * @return the number of times the cache was cleared explicitly
+     */
+    public long getClearCount() {
+        return clearCount;
+    }
+
+    /**
+     *
+     * @return the cumulative time spent computing values, in nanoseconds
+     */
+    public long getTotalLoadTime() {
+        return totalLoadTime;
+    }
+
+    /**
+     *
+     * @return the longest time spent computing a single value, in nanoseconds
+     */
+    public long getMaxLoadTime() {
+        return maxLoadTime;
+    }
+
+    /**
+     *
+     * @return the size of the cache at the time the snapshot was taken
+     */
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics [hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount + ", clears=" + clearCount + ", totalLoadTime="
+                + totalLoadTime + "ns, maxLoadTime=" + maxLoadTime + "ns, size=" + size + "]";
+    }
+
+}
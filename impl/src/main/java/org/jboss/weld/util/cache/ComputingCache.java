@@ -16,6 +16,7 @@
  */
 package org.jboss.weld.util.cache;
 
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 /**
@@ -79,4 +80,18 @@ public interface ComputingCache<K, V> {
      */
     void forEachValue(Consumer<? super V> consumer);
 
+    /**
+     * Performs the given action for each cached entry. Entries whose value is not computed yet are skipped.
+     *
+     * @param consumer the given action
+     */
+    void forEachEntry(BiConsumer<? super K, ? super V> consumer);
+
+    /**
+     *
+     * @return a snapshot of the cache statistics or <code>null</code> if the statistics are not recorded
+     * @see ComputingCacheBuilder#recordStatistics()
+     */
+    CacheStatistics getStatistics();
+
 }
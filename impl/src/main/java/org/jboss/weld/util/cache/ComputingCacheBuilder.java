@@ -18,7 +18,10 @@ package org.jboss.weld.util.cache;
 
 import java.lang.ref.WeakReference;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
+import org.jboss.weld.util.LazyValueHolder;
+import org.jboss.weld.util.ValueHolder;
 import org.jboss.weld.util.WeakLazyValueHolder;
 
 /**
@@ -33,6 +36,10 @@ public final class ComputingCacheBuilder {
 
     private boolean weakValues;
 
+    private EvictionPolicy evictionPolicy = EvictionPolicy.CLEAR;
+
+    private boolean recordStatistics;
+
     private ComputingCacheBuilder() {
     }
 
@@ -54,6 +61,18 @@ public final class ComputingCacheBuilder {
         return this;
     }
 
+    /**
+     * The policy is only applied if the maximum size is set. {@link EvictionPolicy#CLEAR} is used by default.
+     *
+     * @param evictionPolicy
+     * @return self
+     * @see #setMaxSize(long)
+     */
+    public ComputingCacheBuilder setEvictionPolicy(EvictionPolicy evictionPolicy) {
+        this.evictionPolicy = evictionPolicy;
+        return this;
+    }
+
     /**
      * Values stored in the cache should be wrapped in a {@link WeakReference}.
      *
@@ -64,15 +83,28 @@ public final class ComputingCacheBuilder {
         return this;
     }
 
+    /**
+     * The cache should record {@link CacheStatistics}.
+     *
+     * @return self
+     * @see ComputingCache#getStatistics()
+     */
+    public ComputingCacheBuilder recordStatistics() {
+        this.recordStatistics = true;
+        return this;
+    }
+
     /**
      *
      * @param computingFunction
      * @return a new ComputingCache instance
      */
     public <K, V> ComputingCache<K, V> build(Function<K, V> computingFunction) {
-        if (weakValues) {
-            return new ReentrantMapBackedComputingCache<>(computingFunction, WeakLazyValueHolder::forSupplier, maxSize);
+        Function<Supplier<V>, ValueHolder<V>> valueHolderFunction = weakValues ? WeakLazyValueHolder::forSupplier : LazyValueHolder::forSupplier;
+        StatisticsCounter statistics = recordStatistics ? new StatisticsCounter() : null;
+        if (maxSize != null && EvictionPolicy.SEGMENTED_LRU.equals(evictionPolicy)) {
+            return new SegmentedLruComputingCache<>(computingFunction, valueHolderFunction, maxSize, statistics);
         }
-        return new ReentrantMapBackedComputingCache<>(computingFunction, maxSize);
+        return new ReentrantMapBackedComputingCache<>(computingFunction, valueHolderFunction, maxSize, statistics);
     }
 }
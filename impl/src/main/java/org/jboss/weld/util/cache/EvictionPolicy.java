@@ -0,0 +1,53 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.util.cache;
+
+/**
+ * Determines what a bounded {@link ComputingCache} does once the maximum size is exceeded.
+ *
+ * @see ComputingCacheBuilder#setEvictionPolicy(EvictionPolicy)
+ */
+public enum EvictionPolicy {
+
+    /**
+     * All the entries are discarded at once.
+     */
+    CLEAR,
+
+    /**
+     * Only the least valuable entries are discarded. Entries which were accessed more than once are protected from eviction by entries which were accessed
+     * only once.
+     *
+     * @see SegmentedLruComputingCache
+     */
+    SEGMENTED_LRU;
+
+    /**
+     *
+     * @param value
+     * @return the policy with the given name, or <code>null</code> if no such policy exists
+     */
+    public static EvictionPolicy fromString(String value) {
+        for (EvictionPolicy policy : values()) {
+            if (policy.name().equalsIgnoreCase(value)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+}
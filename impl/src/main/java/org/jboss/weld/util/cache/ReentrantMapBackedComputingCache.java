@@ -21,6 +21,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -44,15 +45,23 @@ class ReentrantMapBackedComputingCache<K, V> implements ComputingCache<K, V>, It
     private final ConcurrentMap<K, ValueHolder<V>> map;
     private final Long maxSize;
     private final Function<K, ValueHolder<V>> function;
+    private final StatisticsCounter statistics;
 
     ReentrantMapBackedComputingCache(Function<K, V> computingFunction, Long maxSize) {
         this(computingFunction, LazyValueHolder::forSupplier, maxSize);
     }
 
     ReentrantMapBackedComputingCache(Function<K, V> computingFunction, Function<Supplier<V>, ValueHolder<V>> valueHolderFunction, Long maxSize) {
+        this(computingFunction, valueHolderFunction, maxSize, null);
+    }
+
+    ReentrantMapBackedComputingCache(Function<K, V> computingFunction, Function<Supplier<V>, ValueHolder<V>> valueHolderFunction, Long maxSize,
+            StatisticsCounter statistics) {
         this.map = new ConcurrentHashMap<>();
         this.maxSize = maxSize;
-        this.function = (key) -> valueHolderFunction.apply(() -> computingFunction.apply(key));
+        this.statistics = statistics;
+        Function<K, V> loadingFunction = statistics != null ? statistics.timed(computingFunction) : computingFunction;
+        this.function = (key) -> valueHolderFunction.apply(() -> loadingFunction.apply(key));
     }
 
     @Override
@@ -63,11 +72,21 @@ class ReentrantMapBackedComputingCache<K, V> implements ComputingCache<K, V>, It
             ValueHolder<V> previous = map.putIfAbsent(key, value);
             if (previous != null) {
                 value = previous;
+                if (statistics != null) {
+                    statistics.recordHit();
+                }
+            } else if (statistics != null) {
+                statistics.recordMiss();
             }
             // finally, check that we are not over the bound
             if (maxSize != null && size() > maxSize) {
-                clear();
+                if (statistics != null) {
+                    statistics.recordEvictions(size());
+                }
+                map.clear();
             }
+        } else if (statistics != null) {
+            statistics.recordHit();
         }
         return value.get();
     }
@@ -95,6 +114,9 @@ class ReentrantMapBackedComputingCache<K, V> implements ComputingCache<K, V>, It
     @Override
     public void clear() {
         map.clear();
+        if (statistics != null) {
+            statistics.recordClear();
+        }
     }
 
     @Override
@@ -107,6 +129,21 @@ class ReentrantMapBackedComputingCache<K, V> implements ComputingCache<K, V>, It
         return this;
     }
 
+    @Override
+    public void forEachEntry(BiConsumer<? super K, ? super V> consumer) {
+        for (Map.Entry<K, ValueHolder<V>> entry : map.entrySet()) {
+            V value = entry.getValue().getIfPresent();
+            if (value != null) {
+                consumer.accept(entry.getKey(), value);
+            }
+        }
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        return statistics != null ? statistics.snapshot(size()) : null;
+    }
+
     @Override
     public String toString() {
         return map.toString();
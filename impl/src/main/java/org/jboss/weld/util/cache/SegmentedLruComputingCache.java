@@ -0,0 +1,369 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.util.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jboss.weld.util.LazyValueHolder;
+import org.jboss.weld.util.ValueHolder;
+
+/**
+ * A bounded {@link ComputingCache} backed by a {@link ConcurrentHashMap} which evicts entries according to the segmented LRU policy. Like
+ * {@link ReentrantMapBackedComputingCache} it intentionally does not use {@link Map#computeIfAbsent(Object, Function)} and is reentrant.
+ *
+ * <p>
+ * A new entry is placed in the <em>probation</em> segment. An entry which is hit while in the probation segment is promoted to the <em>protected</em> segment.
+ * If the protected segment is full its least recently used entry is demoted back to the probation segment. The least recently used entry of the probation
+ * segment is evicted once the cache size exceeds the maximum size. As a result, a burst of one-off keys may only displace other one-off keys and the
+ * frequently used entries remain cached.
+ * </p>
+ *
+ * <p>
+ * Values are computed outside of the eviction lock. A hit only tries to acquire the eviction lock and skips the reordering if the lock is not available, i.e.
+ * the access order is approximate under contention but a reader never blocks.
+ * </p>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @see EvictionPolicy#SEGMENTED_LRU
+ */
+class SegmentedLruComputingCache<K, V> implements ComputingCache<K, V>, Iterable<V> {
+
+    private static final double PROTECTED_RATIO = 0.8;
+
+    private final ConcurrentMap<K, Node<K, V>> map;
+    private final Function<K, ValueHolder<V>> function;
+    private final long maxSize;
+    private final long maxProtectedSize;
+    private final StatisticsCounter statistics;
+
+    private final ReentrantLock evictionLock;
+    // Guarded by evictionLock
+    private final Segment<K, V> probation;
+    // Guarded by evictionLock
+    private final Segment<K, V> protectd;
+
+    SegmentedLruComputingCache(Function<K, V> computingFunction, long maxSize) {
+        this(computingFunction, LazyValueHolder::forSupplier, maxSize);
+    }
+
+    SegmentedLruComputingCache(Function<K, V> computingFunction, Function<Supplier<V>, ValueHolder<V>> valueHolderFunction, long maxSize) {
+        this(computingFunction, valueHolderFunction, maxSize, null);
+    }
+
+    SegmentedLruComputingCache(Function<K, V> computingFunction, Function<Supplier<V>, ValueHolder<V>> valueHolderFunction, long maxSize,
+            StatisticsCounter statistics) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be a positive number: " + maxSize);
+        }
+        this.map = new ConcurrentHashMap<>();
+        this.statistics = statistics;
+        Function<K, V> loadingFunction = statistics != null ? statistics.timed(computingFunction) : computingFunction;
+        this.function = (key) -> valueHolderFunction.apply(() -> loadingFunction.apply(key));
+        this.maxSize = maxSize;
+        this.maxProtectedSize = (long) (maxSize * PROTECTED_RATIO);
+        this.evictionLock = new ReentrantLock();
+        this.probation = new Segment<>();
+        this.protectd = new Segment<>();
+    }
+
+    @Override
+    public V getValue(final K key) {
+        Node<K, V> node = map.get(key);
+        if (node == null) {
+            Node<K, V> newNode = new Node<>(key, function.apply(key));
+            node = map.putIfAbsent(key, newNode);
+            if (node == null) {
+                node = newNode;
+                if (statistics != null) {
+                    statistics.recordMiss();
+                }
+                afterInsert(newNode);
+            } else {
+                afterHit(node);
+            }
+        } else {
+            afterHit(node);
+        }
+        // The value is computed outside of the eviction lock
+        return node.value.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T getCastValue(Object key) {
+        return (T) getValue((K) key);
+    }
+
+    @Override
+    public V getValueIfPresent(K key) {
+        Node<K, V> node = map.get(key);
+        if (node == null) {
+            return null;
+        }
+        return node.value.getIfPresent();
+    }
+
+    @Override
+    public long size() {
+        return map.size();
+    }
+
+    @Override
+    public void clear() {
+        evictionLock.lock();
+        try {
+            map.clear();
+            probation.reset();
+            protectd.reset();
+        } finally {
+            evictionLock.unlock();
+        }
+        if (statistics != null) {
+            statistics.recordClear();
+        }
+    }
+
+    @Override
+    public void invalidate(Object key) {
+        Node<K, V> node = map.remove(key);
+        if (node != null) {
+            evictionLock.lock();
+            try {
+                unlink(node);
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public Iterable<V> getAllPresentValues() {
+        return this;
+    }
+
+    @Override
+    public void forEachValue(Consumer<? super V> consumer) {
+        for (Node<K, V> node : map.values()) {
+            V value = node.value.getIfPresent();
+            if (value != null) {
+                consumer.accept(value);
+            }
+        }
+    }
+
+    @Override
+    public void forEachEntry(BiConsumer<? super K, ? super V> consumer) {
+        for (Map.Entry<K, Node<K, V>> entry : map.entrySet()) {
+            V value = entry.getValue().value.getIfPresent();
+            if (value != null) {
+                consumer.accept(entry.getKey(), value);
+            }
+        }
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        return statistics != null ? statistics.snapshot(size()) : null;
+    }
+
+    @Override
+    public String toString() {
+        return map.toString();
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+        return new Iterator<V>() {
+
+            private final Iterator<Node<K, V>> delegate = map.values().iterator();
+            private V next = findNext();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            private V findNext() {
+                while (delegate.hasNext()) {
+                    V next = delegate.next().value.getIfPresent();
+                    if (next != null) {
+                        return next;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public V next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                V current = next;
+                this.next = findNext();
+                return current;
+            }
+        };
+    }
+
+    private void afterInsert(Node<K, V> node) {
+        evictionLock.lock();
+        try {
+            // The entry might have been invalidated or cleared in the meantime
+            if (map.get(node.key) != node) {
+                return;
+            }
+            probation.addFirst(node);
+            while (probation.size + protectd.size > maxSize) {
+                Node<K, V> victim = probation.tail != null ? probation.tail : protectd.tail;
+                unlink(victim);
+                map.remove(victim.key, victim);
+                if (statistics != null) {
+                    statistics.recordEvictions(1);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void afterHit(Node<K, V> node) {
+        if (statistics != null) {
+            statistics.recordHit();
+        }
+        if (node.segment == protectd && protectd.head == node) {
+            // Racy read - the most recently used entry does not need to be reordered
+            return;
+        }
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            if (node.segment == probation) {
+                probation.remove(node);
+                protectd.addFirst(node);
+                if (protectd.size > maxProtectedSize) {
+                    Node<K, V> demoted = protectd.tail;
+                    protectd.remove(demoted);
+                    probation.addFirst(demoted);
+                }
+            } else if (node.segment == protectd) {
+                protectd.remove(node);
+                protectd.addFirst(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void unlink(Node<K, V> node) {
+        if (node.segment != null) {
+            node.segment.remove(node);
+        }
+    }
+
+    private static final class Node<K, V> {
+
+        private final K key;
+
+        private final ValueHolder<V> value;
+
+        // The following fields are guarded by the eviction lock
+        private volatile Segment<K, V> segment;
+
+        private Node<K, V> prev;
+
+        private Node<K, V> next;
+
+        private Node(K key, ValueHolder<V> value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(value.getIfPresent());
+        }
+
+    }
+
+    /**
+     * A doubly-linked list, the head is the most recently used node.
+     */
+    private static final class Segment<K, V> {
+
+        private Node<K, V> head;
+
+        private Node<K, V> tail;
+
+        private long size;
+
+        private void addFirst(Node<K, V> node) {
+            node.prev = null;
+            node.next = head;
+            if (head != null) {
+                head.prev = node;
+            } else {
+                tail = node;
+            }
+            head = node;
+            node.segment = this;
+            size++;
+        }
+
+        private void remove(Node<K, V> node) {
+            if (node.prev != null) {
+                node.prev.next = node.next;
+            } else {
+                head = node.next;
+            }
+            if (node.next != null) {
+                node.next.prev = node.prev;
+            } else {
+                tail = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            node.segment = null;
+            size--;
+        }
+
+        private void reset() {
+            for (Node<K, V> node = head; node != null;) {
+                Node<K, V> next = node.next;
+                node.prev = null;
+                node.next = null;
+                node.segment = null;
+                node = next;
+            }
+            head = null;
+            tail = null;
+            size = 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.util.cache;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Collects {@link CacheStatistics}. Striped counters are used so that the recording does not introduce a point of contention on the hot path.
+ */
+final class StatisticsCounter {
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final LongAdder clears = new LongAdder();
+
+    private final LongAdder totalLoadTime = new LongAdder();
+
+    private final LongAccumulator maxLoadTime = new LongAccumulator(Math::max, 0);
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordEvictions(long count) {
+        evictions.add(count);
+    }
+
+    void recordClear() {
+        clears.increment();
+    }
+
+    void recordLoad(long time) {
+        totalLoadTime.add(time);
+        maxLoadTime.accumulate(time);
+    }
+
+    /**
+     *
+     * @param function
+     * @return a function which records the time spent computing a value
+     */
+    <K, V> Function<K, V> timed(Function<K, V> function) {
+        return (key) -> {
+            long start = System.nanoTime();
+            try {
+                return function.apply(key);
+            } finally {
+                recordLoad(System.nanoTime() - start);
+            }
+        };
+    }
+
+    CacheStatistics snapshot(long size) {
+        return new CacheStatistics(hits.sum(), misses.sum(), evictions.sum(), clears.sum(), totalLoadTime.sum(), maxLoadTime.get(), size);
+    }
+
+}
@@ -0,0 +1,242 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.util.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jboss.weld.exceptions.WeldException;
+
+/**
+ * Compiles methods into {@link MethodHandle}s so that they may be invoked repeatedly without the overhead of {@link Method#invoke(Object, Object...)}. The
+ * accessibility of a method is ensured once when the method is compiled. Constructors and field setters may be compiled as well.
+ *
+ * <p>
+ * Contrary to reflection, an exception thrown by a method invoked through a method handle is not wrapped in an
+ * {@link java.lang.reflect.InvocationTargetException}. Use {@link #unwrap(Throwable)} to propagate it.
+ * </p>
+ */
+public final class MethodInvokers {
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodHandle ARGUMENT_TYPE_MISMATCH;
+
+    static {
+        try {
+            ARGUMENT_TYPE_MISMATCH = MethodHandles.lookup().findStatic(MethodInvokers.class, "argumentTypeMismatch",
+                    MethodType.methodType(Object.class, RuntimeException.class, Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new WeldException(e);
+        }
+    }
+
+    // Converts an argument to a parameter type, see generic(MethodHandle, MethodType)
+    private static final ClassValue<MethodHandle> ARGUMENT_CONVERTERS = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            MethodHandle converter = MethodHandles.identity(type).asType(MethodType.methodType(type, Object.class));
+            return MethodHandles.catchException(converter, RuntimeException.class,
+                    ARGUMENT_TYPE_MISMATCH.asType(MethodType.methodType(type, RuntimeException.class, Object.class)));
+        }
+    };
+
+    // Invokers are cached per declaring class, the cache does not prevent the class from being unloaded
+    private static final ClassValue<ConcurrentMap<Method, MethodHandle>> SPREAD_INVOKERS = new InvokerCache();
+
+    private static final ClassValue<ConcurrentMap<Method, MethodHandle>> GENERIC_INVOKERS = new InvokerCache();
+
+    private MethodInvokers() {
+    }
+
+    /**
+     * Returns a method handle of type <code>(Object, Object[])Object</code> which invokes the given method on the first argument with the elements of the
+     * array as arguments. The first argument is ignored if the method is static. A reference argument is cast to the parameter type and a primitive
+     * parameter accepts a wrapper of the same or a narrower primitive type, which is unboxed and widened. Same as {@link Method#invoke(Object, Object...)},
+     * an {@link IllegalArgumentException} is thrown if an argument cannot be converted, e.g. if <code>null</code> is passed to a primitive parameter. The
+     * return value is boxed and <code>null</code> is returned for a <code>void</code> method.
+     *
+     * <p>
+     * The invokers are cached.
+     * </p>
+     *
+     * @param method
+     * @return the spread invoker for the given method
+     */
+    public static MethodHandle getSpreadInvoker(Method method) {
+        ConcurrentMap<Method, MethodHandle> invokers = SPREAD_INVOKERS.get(method.getDeclaringClass());
+        MethodHandle invoker = invokers.get(method);
+        if (invoker == null) {
+            int parameterCount = method.getParameterTypes().length;
+            invoker = getGenericInvoker(method).asSpreader(Object[].class, parameterCount);
+            MethodHandle previous = invokers.putIfAbsent(method, invoker);
+            if (previous != null) {
+                invoker = previous;
+            }
+        }
+        return invoker;
+    }
+
+    /**
+     * Returns a method handle of type <code>(Object, Object, ..., Object)Object</code> with one more parameter than the given method. The handle invokes the
+     * method on the first argument with the remaining arguments. Contrary to the {@link #getSpreadInvoker(Method) spread invoker}, no array of arguments
+     * needs to be created. The arguments and the return value are converted the same way.
+     *
+     * <p>
+     * The invokers are cached.
+     * </p>
+     *
+     * @param method
+     * @return the generic invoker for the given method
+     */
+    public static MethodHandle getGenericInvoker(Method method) {
+        ConcurrentMap<Method, MethodHandle> invokers = GENERIC_INVOKERS.get(method.getDeclaringClass());
+        MethodHandle invoker = invokers.get(method);
+        if (invoker == null) {
+            MethodHandle handle = compile(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            invoker = generic(handle, MethodType.genericMethodType(method.getParameterTypes().length + 1));
+            MethodHandle previous = invokers.putIfAbsent(method, invoker);
+            if (previous != null) {
+                invoker = previous;
+            }
+        }
+        return invoker;
+    }
+
+    /**
+     * Returns a method handle of the given type which invokes the given method. The first parameter of the type is the instance the method is invoked on. It
+     * is ignored if the method is static. Trailing parameters which the method does not declare are ignored as well.
+     *
+     * @param method
+     * @param type
+     * @return the invoker for the given method
+     */
+    public static MethodHandle getInvoker(Method method, MethodType type) {
+        MethodHandle handle = compile(method);
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, type.parameterType(0));
+        }
+        int declared = handle.type().parameterCount();
+        if (declared < type.parameterCount()) {
+            handle = MethodHandles.dropArguments(handle, declared, type.parameterList().subList(declared, type.parameterCount()));
+        }
+        return handle.asType(type);
+    }
+
+    /**
+     * Returns a method handle of type <code>(Object[])Object</code> which invokes the given constructor with the elements of the array as arguments. The
+     * arguments are converted the same way as they are by {@link #getSpreadInvoker(Method)}. The invoker is not cached.
+     *
+     * @param constructor
+     * @return the spread invoker for the given constructor
+     * @throws IllegalAccessException if the constructor cannot be compiled, e.g. if it belongs to an abstract class
+     */
+    public static MethodHandle getConstructorInvoker(Constructor<?> constructor) throws IllegalAccessException {
+        SecurityActions.ensureAccessible(constructor);
+        MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor);
+        int parameterCount = constructor.getParameterTypes().length;
+        return generic(handle, MethodType.genericMethodType(parameterCount)).asSpreader(Object[].class, parameterCount);
+    }
+
+    /**
+     * Returns a method handle of type <code>(Object, Object)void</code> which sets the value of the given field of the first argument to the second
+     * argument. The first argument is ignored if the field is static. The value is converted the same way as an argument of a
+     * {@link #getSpreadInvoker(Method) spread invoker}. The invoker is not cached.
+     *
+     * @param field
+     * @return the setter for the given field
+     * @throws IllegalAccessException if the field cannot be written, e.g. if it is static and final
+     */
+    public static MethodHandle getSetter(Field field) throws IllegalAccessException {
+        SecurityActions.ensureAccessible(field);
+        MethodHandle handle = MethodHandles.lookup().unreflectSetter(field);
+        if (Modifier.isStatic(field.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return generic(handle, SETTER_TYPE);
+    }
+
+    /**
+     * Propagates an exception thrown by a method invoked through a method handle the same way an exception wrapped in an
+     * {@link java.lang.reflect.InvocationTargetException} is propagated by {@link Reflections#unwrapInvocationTargetException}.
+     *
+     * @param throwable
+     * @return never returns normally, the return type allows for <code>throw MethodInvokers.unwrap(e)</code>
+     * @throws Exception
+     */
+    public static Exception unwrap(Throwable throwable) throws Exception {
+        if (throwable instanceof Error) {
+            throw (Error) throwable;
+        } else if (throwable instanceof Exception) {
+            throw (Exception) throwable;
+        } else {
+            throw new WeldException(throwable);
+        }
+    }
+
+    /**
+     * Adapts the given handle to the given type with <code>Object</code> parameters. Each argument is cast, or unboxed and widened, to the parameter type
+     * of the given handle. Contrary to {@link MethodHandles#explicitCastArguments(MethodHandle, MethodType)}, no narrowing or truncating conversion is
+     * applied and an argument which cannot be converted results in an {@link IllegalArgumentException}.
+     */
+    private static MethodHandle generic(MethodHandle handle, MethodType type) {
+        MethodType handleType = handle.type();
+        MethodHandle[] converters = new MethodHandle[handleType.parameterCount()];
+        for (int i = 0; i < converters.length; i++) {
+            Class<?> parameterType = handleType.parameterType(i);
+            if (!Object.class.equals(parameterType)) {
+                converters[i] = ARGUMENT_CONVERTERS.get(parameterType);
+            }
+        }
+        return MethodHandles.filterArguments(handle, 0, converters).asType(type);
+    }
+
+    @SuppressWarnings("unused")
+    private static Object argumentTypeMismatch(RuntimeException cause, Object argument) {
+        // The same exception as thrown by Method.invoke()
+        throw new IllegalArgumentException("argument type mismatch: " + (argument != null ? argument.getClass().getName() : null), cause);
+    }
+
+    private static MethodHandle compile(Method method) {
+        SecurityActions.ensureAccessible(method);
+        try {
+            return MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new WeldException(e);
+        }
+    }
+
+    private static class InvokerCache extends ClassValue<ConcurrentMap<Method, MethodHandle>> {
+
+        @Override
+        protected ConcurrentMap<Method, MethodHandle> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+
+    }
+
+}
@@ -16,6 +16,7 @@
  */
 package org.jboss.weld.util.reflection;
 
+import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -24,6 +25,7 @@ import java.security.AccessController;
 import org.jboss.weld.security.GetDeclaredConstructorsAction;
 import org.jboss.weld.security.GetDeclaredFieldsAction;
 import org.jboss.weld.security.GetDeclaredMethodsAction;
+import org.jboss.weld.security.SetAccessibleAction;
 
 /**
  *
@@ -58,4 +60,14 @@ final class SecurityActions {
         }
     }
 
+    static void ensureAccessible(AccessibleObject accessibleObject) {
+        if (!accessibleObject.isAccessible()) {
+            if (System.getSecurityManager() != null) {
+                AccessController.doPrivileged(SetAccessibleAction.of(accessibleObject));
+            } else {
+                accessibleObject.setAccessible(true);
+            }
+        }
+    }
+
 }
@@ -0,0 +1,106 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bean.proxy;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.jboss.weld.util.collections.ImmutableSet;
+import org.junit.Test;
+
+/**
+ * A cached proxy class must only be found under the key computed from the same inputs.
+ */
+public class ProxyClassCacheTest {
+
+    private static final String PROXY_NAME = "org.jboss.weld.bean.proxy.Foo$Proxy$_$$_WeldClientProxy";
+
+    @Test
+    public void testKeyDependsOnInputs() throws IOException {
+        ProxyClassCache cache = new ProxyClassCache(Files.createTempDirectory("weld-proxy-cache"));
+        ClassLoader loader = getClass().getClassLoader();
+        Set<Class<?>> classes = Collections.<Class<?>> singleton(Foo.class);
+        String key = cache.computeKey(PROXY_NAME, "data", classes, loader);
+        assertNotNull(key);
+        assertEquals(key, cache.computeKey(PROXY_NAME, "data", classes, loader));
+        assertNotEquals(key, cache.computeKey(PROXY_NAME, "other", classes, loader));
+        assertNotEquals(key, cache.computeKey(PROXY_NAME + "2", "data", classes, loader));
+        assertNotEquals(key, cache.computeKey(PROXY_NAME, "data", ImmutableSet.<Class<?>> of(Foo.class, Bar.class), loader));
+        // Defined by a different class loader
+        assertNotEquals(key, cache.computeKey(PROXY_NAME, "data", classes, null));
+    }
+
+    @Test
+    public void testStoreAndLoad() throws IOException {
+        Path directory = Files.createTempDirectory("weld-proxy-cache");
+        ProxyClassCache cache = new ProxyClassCache(directory);
+        String key = cache.computeKey(PROXY_NAME, "data", Collections.<Class<?>> singleton(Foo.class), getClass().getClassLoader());
+        assertNull(cache.load(PROXY_NAME, key));
+        byte[] bytecode = new byte[] { 1, 2, 3 };
+        cache.store(PROXY_NAME, key, bytecode);
+        assertEquals(1, cache.getStoredCount());
+
+        // Another bootstrap
+        cache = new ProxyClassCache(directory);
+        assertArrayEquals(bytecode, cache.load(PROXY_NAME, key));
+        assertNull(cache.load(PROXY_NAME, key.substring(1) + "0"));
+        assertEquals(1, cache.getLoadedCount());
+    }
+
+    @Test
+    public void testTruncatedFileDiscarded() throws IOException {
+        Path directory = Files.createTempDirectory("weld-proxy-cache");
+        ProxyClassCache cache = new ProxyClassCache(directory);
+        String key = cache.computeKey(PROXY_NAME, "data", Collections.<Class<?>> singleton(Foo.class), getClass().getClassLoader());
+        cache.store(PROXY_NAME, key, new byte[] { 1, 2, 3 });
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                byte[] content = Files.readAllBytes(file);
+                Files.write(file, Arrays.copyOf(content, content.length - 1));
+            }
+        }
+        assertNull(cache.load(PROXY_NAME, key));
+        assertEquals(0, cache.getLoadedCount());
+        assertEquals(1, cache.getDiscardedCount());
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            assertFalse(files.iterator().hasNext());
+        }
+    }
+
+    public static class Foo implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+    }
+
+    public interface Bar {
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.jboss.weld.event.AsyncEventLimiter.OverflowPolicy;
+import org.junit.Test;
+
+/**
+ * The overflow policy is applied once the limit of notifications in flight is reached.
+ */
+public class AsyncEventLimiterTest {
+
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+    private final Executor executor = tasks::add;
+
+    @Test
+    public void testReject() throws InterruptedException {
+        AsyncEventLimiter limiter = new AsyncEventLimiter(1, OverflowPolicy.BLOCK);
+        CompletableFuture<String> first = limiter.supplyAsync(() -> "first", executor, OverflowPolicy.REJECT);
+        assertEquals(1, limiter.getInFlightCount());
+        try {
+            limiter.supplyAsync(() -> "second", executor, OverflowPolicy.REJECT).get();
+            fail();
+        } catch (ExecutionException expected) {
+            assertTrue(expected.getCause() instanceof RejectedExecutionException);
+        }
+        assertEquals(1, limiter.getRejectedCount());
+
+        tasks.poll().run();
+        assertEquals("first", first.getNow(null));
+        assertEquals(0, limiter.getInFlightCount());
+    }
+
+    @Test
+    public void testCallerRuns() {
+        AsyncEventLimiter limiter = new AsyncEventLimiter(1, OverflowPolicy.BLOCK);
+        limiter.supplyAsync(() -> "first", executor, OverflowPolicy.CALLER_RUNS);
+        Thread caller = Thread.currentThread();
+        assertEquals(caller, limiter.supplyAsync(() -> Thread.currentThread(), executor, OverflowPolicy.CALLER_RUNS).getNow(null));
+        assertEquals(1, limiter.getCallerRunsCount());
+        assertEquals(1, tasks.size());
+    }
+
+    @Test
+    public void testBlock() throws InterruptedException {
+        AsyncEventLimiter limiter = new AsyncEventLimiter(1, OverflowPolicy.BLOCK);
+        limiter.supplyAsync(() -> "first", executor, OverflowPolicy.BLOCK);
+        Thread blocked = new Thread(() -> limiter.supplyAsync(() -> "second", executor, OverflowPolicy.BLOCK));
+        blocked.start();
+        while (limiter.getBlockedCount() == 0) {
+            Thread.sleep(1);
+        }
+        // The second notification is only submitted once the first one completes
+        assertEquals(1, tasks.size());
+        tasks.poll().run();
+        blocked.join();
+        assertEquals(1, tasks.size());
+        assertEquals(1, limiter.getInFlightCount());
+    }
+
+    @Test
+    public void testBlockRejectedInNotification() throws InterruptedException {
+        AsyncEventLimiter limiter = new AsyncEventLimiter(1, OverflowPolicy.BLOCK);
+        // An asynchronous observer method fires an asynchronous event while holding the only permit
+        CompletableFuture<CompletableFuture<String>> first = limiter.supplyAsync(() -> limiter.supplyAsync(() -> "nested", executor, OverflowPolicy.BLOCK),
+                executor, OverflowPolicy.BLOCK);
+        tasks.poll().run();
+        try {
+            first.getNow(null).get();
+            fail();
+        } catch (ExecutionException expected) {
+            assertTrue(expected.getCause() instanceof RejectedExecutionException);
+        }
+        assertEquals(0, limiter.getBlockedCount());
+        assertEquals(1, limiter.getRejectedCount());
+        assertEquals(0, limiter.getInFlightCount());
+        assertTrue(tasks.isEmpty());
+    }
+
+    @Test
+    public void testUnbounded() {
+        AsyncEventLimiter limiter = new AsyncEventLimiter(0, OverflowPolicy.REJECT);
+        limiter.supplyAsync(() -> "first", executor, OverflowPolicy.REJECT);
+        limiter.supplyAsync(() -> "second", executor, OverflowPolicy.REJECT);
+        assertEquals(2, limiter.getInFlightCount());
+        assertEquals(0, limiter.getRejectedCount());
+    }
+
+    @Test
+    public void testPolicyOption() {
+        AsyncEventLimiter limiter = new AsyncEventLimiter(1, OverflowPolicy.BLOCK);
+        assertEquals(OverflowPolicy.BLOCK, limiter.initPolicy(null));
+        assertEquals(OverflowPolicy.CALLER_RUNS, limiter.initPolicy("caller-runs"));
+        assertEquals(OverflowPolicy.REJECT, limiter.initPolicy(OverflowPolicy.REJECT));
+        try {
+            limiter.initPolicy("discard");
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+}
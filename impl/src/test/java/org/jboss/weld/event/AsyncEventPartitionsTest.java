@@ -0,0 +1,88 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.jboss.weld.event.AsyncEventLimiter.OverflowPolicy;
+import org.junit.Test;
+
+/**
+ * The tasks of a lane are executed one after another in the order they were submitted.
+ */
+public class AsyncEventPartitionsTest {
+
+    private static final int TASKS = 1000;
+
+    private static final int THREADS = 4;
+
+    @Test
+    public void testLaneOrder() throws InterruptedException {
+        AsyncEventPartitions partitions = new AsyncEventPartitions(THREADS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            Executor lane = partitions.getLane(partitions.getLaneIndex("order-1"), executor);
+            List<Integer> executed = new ArrayList<>();
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+            CountDownLatch latch = new CountDownLatch(TASKS);
+            for (int i = 0; i < TASKS; i++) {
+                final int task = i;
+                lane.execute(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    // ArrayList is fine as long as the tasks are not executed concurrently
+                    executed.add(task);
+                    running.decrementAndGet();
+                    latch.countDown();
+                });
+            }
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            assertEquals(1, maxRunning.get());
+            for (int i = 0; i < TASKS; i++) {
+                assertEquals(Integer.valueOf(i), executed.get(i));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testKey() {
+        AsyncEventPartitions partitions = new AsyncEventPartitions(2);
+        assertEquals(partitions.getLaneIndex("foo"), partitions.getLaneIndex("foo"));
+        assertNotEquals(partitions.getLaneIndex(0), partitions.getLaneIndex(1));
+        assertEquals("foo", partitions.getKey("foo", "event"));
+        assertEquals(Integer.valueOf(5), partitions.getKey((Function<String, Integer>) String::length, "event"));
+        assertNull(partitions.getKey(null, "event"));
+        assertEquals(OverflowPolicy.BLOCK, AsyncEventPartitions.getLanePolicy(OverflowPolicy.CALLER_RUNS));
+        assertEquals(OverflowPolicy.REJECT, AsyncEventPartitions.getLanePolicy(OverflowPolicy.REJECT));
+    }
+
+}
@@ -0,0 +1,217 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.resolution;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.Serializable;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import javax.enterprise.context.Dependent;
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.InjectionPoint;
+import javax.enterprise.util.TypeLiteral;
+
+import org.jboss.weld.util.collections.ImmutableSet;
+import org.junit.Test;
+
+/**
+ * The index must never leave out a bean which is assignable according to {@link BeanTypeAssignabilityRules}.
+ */
+@SuppressWarnings("serial")
+public class BeanTypeAssignabilityIndexTest {
+
+    @Test
+    public <X, Y extends Number> void testIndexIsConsistentWithAssignabilityRules() {
+        List<Bean<?>> beans = new ArrayList<>();
+        beans.add(new DummyBean(new TypeLiteral<Repository<Integer>>() {
+        }.getType()));
+        beans.add(new DummyBean(new TypeLiteral<Repository<Long>>() {
+        }.getType()));
+        beans.add(new DummyBean(new TypeLiteral<Repository<String>>() {
+        }.getType()));
+        beans.add(new DummyBean(new TypeLiteral<Repository<Number>>() {
+        }.getType()));
+        beans.add(new DummyBean(new TypeLiteral<Repository<Object>>() {
+        }.getType()));
+        beans.add(new DummyBean(new TypeLiteral<Repository<Serializable>>() {
+        }.getType()));
+        beans.add(new DummyBean(new TypeLiteral<Repository<List<String>>>() {
+        }.getType()));
+        beans.add(new DummyBean(new TypeLiteral<Repository<Integer[]>>() {
+        }.getType()));
+        beans.add(new DummyBean(new TypeLiteral<Repository<X>>() {
+        }.getType()));
+        beans.add(new DummyBean(new TypeLiteral<Repository<Y>>() {
+        }.getType()));
+        beans.add(new DummyBean(Repository.class));
+        beans.add(new DummyBean(new TypeLiteral<Mapping<String, Integer>>() {
+        }.getType()));
+        beans.add(new DummyBean(new TypeLiteral<Mapping<String, Long>>() {
+        }.getType()));
+        beans.add(new DummyBean(new TypeLiteral<Mapping<Integer, Integer>>() {
+        }.getType()));
+
+        List<Type> requiredTypes = new ArrayList<>();
+        requiredTypes.add(new TypeLiteral<Repository<Integer>>() {
+        }.getType());
+        requiredTypes.add(new TypeLiteral<Repository<Object>>() {
+        }.getType());
+        requiredTypes.add(new TypeLiteral<Repository<? extends Number>>() {
+        }.getType());
+        requiredTypes.add(new TypeLiteral<Repository<? extends Comparable<?>>>() {
+        }.getType());
+        requiredTypes.add(new TypeLiteral<Repository<? super Integer>>() {
+        }.getType());
+        requiredTypes.add(new TypeLiteral<Repository<?>>() {
+        }.getType());
+        requiredTypes.add(new TypeLiteral<Repository<List<String>>>() {
+        }.getType());
+        requiredTypes.add(new TypeLiteral<Repository<Integer[]>>() {
+        }.getType());
+        requiredTypes.add(new TypeLiteral<Repository<X>>() {
+        }.getType());
+        requiredTypes.add(new TypeLiteral<Repository<Y>>() {
+        }.getType());
+        requiredTypes.add(new TypeLiteral<Mapping<String, ? extends Number>>() {
+        }.getType());
+        requiredTypes.add(new TypeLiteral<Mapping<? super String, Integer>>() {
+        }.getType());
+
+        BeanTypeAssignabilityIndex<Bean<?>> index = new BeanTypeAssignabilityIndex<>(beans);
+        AssignabilityRules rules = BeanTypeAssignabilityRules.instance();
+        for (Type requiredType : requiredTypes) {
+            Set<Bean<?>> candidates = index.getCandidates((ParameterizedType) requiredType);
+            if (candidates == null) {
+                continue;
+            }
+            for (Bean<?> bean : beans) {
+                if (rules.matches(Collections.singleton(requiredType), bean.getTypes())) {
+                    assertTrue(bean + " should be a candidate for " + requiredType, candidates.contains(bean));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCandidatesAreNarrowedDown() {
+        List<Bean<?>> beans = new ArrayList<>();
+        for (Type type : new Type[] { new TypeLiteral<Repository<Integer>>() {
+        }.getType(), new TypeLiteral<Repository<Long>>() {
+        }.getType(), new TypeLiteral<Repository<String>>() {
+        }.getType(), new TypeLiteral<Repository<StringBuilder>>() {
+        }.getType() }) {
+            beans.add(new DummyBean(type));
+        }
+        BeanTypeAssignabilityIndex<Bean<?>> index = new BeanTypeAssignabilityIndex<>(beans);
+        assertEquals(1, index.getCandidates((ParameterizedType) new TypeLiteral<Repository<String>>() {
+        }.getType()).size());
+        assertEquals(2, index.getCandidates((ParameterizedType) new TypeLiteral<Repository<? extends Number>>() {
+        }.getType()).size());
+        assertEquals(2, index.getCandidates((ParameterizedType) new TypeLiteral<Repository<? extends CharSequence>>() {
+        }.getType()).size());
+        assertNull(index.getCandidates((ParameterizedType) new TypeLiteral<Repository<?>>() {
+        }.getType()));
+        assertEquals(0, index.getCandidates((ParameterizedType) new TypeLiteral<Mapping<String, String>>() {
+        }.getType()).size());
+    }
+
+    interface Repository<T> {
+    }
+
+    interface Mapping<K, V> {
+    }
+
+    private static class DummyBean implements Bean<Object> {
+
+        private final Set<Type> types;
+
+        DummyBean(Type type) {
+            this.types = ImmutableSet.of(type, Object.class);
+        }
+
+        @Override
+        public Set<Type> getTypes() {
+            return types;
+        }
+
+        @Override
+        public Set<Annotation> getQualifiers() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Class<? extends Annotation> getScope() {
+            return Dependent.class;
+        }
+
+        @Override
+        public String getName() {
+            return null;
+        }
+
+        @Override
+        public Set<Class<? extends Annotation>> getStereotypes() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public boolean isAlternative() {
+            return false;
+        }
+
+        @Override
+        public Object create(CreationalContext<Object> creationalContext) {
+            return null;
+        }
+
+        @Override
+        public void destroy(Object instance, CreationalContext<Object> creationalContext) {
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return Object.class;
+        }
+
+        @Override
+        public Set<InjectionPoint> getInjectionPoints() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public boolean isNullable() {
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return types.toString();
+        }
+
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.resolution;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.enterprise.event.Reception;
+import javax.enterprise.event.TransactionPhase;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.spi.ObserverMethod;
+import javax.enterprise.util.TypeLiteral;
+
+import org.jboss.weld.util.collections.ImmutableSet;
+import org.jboss.weld.util.reflection.HierarchyDiscovery;
+import org.junit.Test;
+
+/**
+ * The index must never leave out an observer which is assignable according to {@link EventTypeAssignabilityRules}.
+ */
+@SuppressWarnings("serial")
+public class ObserverMethodIndexTest {
+
+    @Test
+    public <X, Y extends Number> void testIndexIsConsistentWithAssignabilityRules() {
+        List<ObserverMethod<?>> observers = new ArrayList<>();
+        observers.add(new DummyObserverMethod(Object.class));
+        observers.add(new DummyObserverMethod(Object.class, Any.Literal.INSTANCE));
+        observers.add(new DummyObserverMethod(Number.class));
+        observers.add(new DummyObserverMethod(Integer.class));
+        observers.add(new DummyObserverMethod(int.class));
+        observers.add(new DummyObserverMethod(Comparable.class));
+        observers.add(new DummyObserverMethod(CharSequence.class));
+        observers.add(new DummyObserverMethod(Integer[].class));
+        observers.add(new DummyObserverMethod(Object[].class));
+        observers.add(new DummyObserverMethod(List.class));
+        observers.add(new DummyObserverMethod(new TypeLiteral<List<String>>() {
+        }.getType()));
+        observers.add(new DummyObserverMethod(new TypeLiteral<List<? extends Number>>() {
+        }.getType()));
+        observers.add(new DummyObserverMethod(new TypeLiteral<List<X>>() {
+        }.getType()));
+        observers.add(new DummyObserverMethod(new TypeLiteral<Y>() {
+        }.getType()));
+        observers.add(new DummyObserverMethod(new TypeLiteral<X>() {
+        }.getType()));
+
+        List<Type> eventTypes = new ArrayList<>();
+        eventTypes.add(Integer.class);
+        eventTypes.add(String.class);
+        eventTypes.add(StringBuilder.class);
+        eventTypes.add(Integer[].class);
+        eventTypes.add(new TypeLiteral<ArrayList<String>>() {
+        }.getType());
+        eventTypes.add(new TypeLiteral<ArrayList<Integer>>() {
+        }.getType());
+        eventTypes.add(new TypeLiteral<List<String>[]>() {
+        }.getType());
+
+        ObserverMethodIndex index = new ObserverMethodIndex(observers);
+        AssignabilityRules rules = EventTypeAssignabilityRules.instance();
+        for (Type eventType : eventTypes) {
+            Set<Type> closure = new HashSet<>(new HierarchyDiscovery(eventType).getTypeClosure());
+            closure.add(Object.class);
+            for (boolean includeUniversal : new boolean[] { true, false }) {
+                Set<ObserverMethod<?>> candidates = new HashSet<>();
+                for (ObserverMethod<?> observer : index.getCandidates(closure, includeUniversal)) {
+                    candidates.add(observer);
+                }
+                if (!includeUniversal) {
+                    candidates.addAll(index.getUniversalObservers());
+                }
+                for (ObserverMethod<?> observer : observers) {
+                    if (rules.matches(observer.getObservedType(), closure)) {
+                        assertTrue(observer + " should be a candidate for " + eventType, candidates.contains(observer));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCandidatesAreNarrowedDown() {
+        List<ObserverMethod<?>> observers = new ArrayList<>();
+        ObserverMethod<?> universal = new DummyObserverMethod(Object.class);
+        observers.add(universal);
+        observers.add(new DummyObserverMethod(String.class));
+        observers.add(new DummyObserverMethod(Integer.class));
+        observers.add(new DummyObserverMethod(Long.class));
+        observers.add(new DummyObserverMethod(StringBuilder.class));
+        ObserverMethodIndex index = new ObserverMethodIndex(observers);
+        assertEquals(Collections.singletonList(universal), index.getUniversalObservers());
+        Set<Type> closure = new HierarchyDiscovery(Integer.class).getTypeClosure();
+        assertEquals(1, count(index.getCandidates(closure, false)));
+        assertEquals(2, count(index.getCandidates(closure, true)));
+    }
+
+    private static int count(Iterable<?> iterable) {
+        int count = 0;
+        for (@SuppressWarnings("unused") Object element : iterable) {
+            count++;
+        }
+        return count;
+    }
+
+    private static class DummyObserverMethod implements ObserverMethod<Object> {
+
+        private final Type observedType;
+
+        private final Set<Annotation> qualifiers;
+
+        DummyObserverMethod(Type observedType, Annotation... qualifiers) {
+            this.observedType = observedType;
+            this.qualifiers = ImmutableSet.of(qualifiers);
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return Object.class;
+        }
+
+        @Override
+        public Type getObservedType() {
+            return observedType;
+        }
+
+        @Override
+        public Set<Annotation> getObservedQualifiers() {
+            return qualifiers;
+        }
+
+        @Override
+        public Reception getReception() {
+            return Reception.ALWAYS;
+        }
+
+        @Override
+        public TransactionPhase getTransactionPhase() {
+            return TransactionPhase.IN_PROGRESS;
+        }
+
+        @Override
+        public void notify(Object event) {
+        }
+
+        @Override
+        public String toString() {
+            return observedType.toString();
+        }
+
+    }
+
+}
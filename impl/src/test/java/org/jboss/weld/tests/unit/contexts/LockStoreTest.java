@@ -0,0 +1,111 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.contexts;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.weld.bean.StringBeanIdentifier;
+import org.jboss.weld.contexts.beanstore.LockStore;
+import org.jboss.weld.contexts.beanstore.LockedBean;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.junit.Test;
+
+public class LockStoreTest {
+
+    private static final int THREADS = 8;
+
+    private static final int ITERATIONS = 10000;
+
+    private int counter;
+
+    @Test
+    public void testDifferentBeansDoNotContend() throws Exception {
+        LockStore store = new LockStore();
+        LockedBean foo = store.lock(new StringBeanIdentifier("foo"));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch locked = new CountDownLatch(1);
+            executor.submit(() -> {
+                store.lock(new StringBeanIdentifier("bar")).unlock();
+                locked.countDown();
+            });
+            assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+            CountDownLatch fooLocked = new CountDownLatch(1);
+            executor.submit(() -> {
+                store.lock(new StringBeanIdentifier("foo")).unlock();
+                fooLocked.countDown();
+            });
+            assertFalse(fooLocked.await(100, TimeUnit.MILLISECONDS));
+            foo.unlock();
+            assertTrue(fooLocked.await(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testMutualExclusion() throws Exception {
+        LockStore store = new LockStore();
+        BeanIdentifier id = new StringBeanIdentifier("foo");
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < ITERATIONS; j++) {
+                        LockedBean lock = store.lock(id);
+                        try {
+                            counter++;
+                        } finally {
+                            lock.unlock();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(THREADS * ITERATIONS, counter);
+    }
+
+    @Test
+    public void testReentrantLocking() {
+        LockStore store = new LockStore();
+        BeanIdentifier id = new StringBeanIdentifier("foo");
+        LockedBean outer = store.lock(id);
+        LockedBean inner = store.lock(id);
+        inner.unlock();
+        outer.unlock();
+        // The lock is released and may be acquired again
+        store.lock(new StringBeanIdentifier("foo")).unlock();
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.resolution;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.enterprise.inject.literal.NamedLiteral;
+
+import org.jboss.weld.bootstrap.api.helpers.RegistrySingletonProvider;
+import org.jboss.weld.metadata.TypeStore;
+import org.jboss.weld.metadata.cache.MetaAnnotationStore;
+import org.jboss.weld.resolution.QualifierInstance;
+import org.jboss.weld.resources.ClassTransformer;
+import org.jboss.weld.resources.ReflectionCacheFactory;
+import org.jboss.weld.resources.SharedObjectCache;
+import org.jboss.weld.util.Beans;
+import org.jboss.weld.util.collections.ImmutableSet;
+import org.junit.Test;
+
+public class QualifierBitsTest {
+
+    @Test
+    public void testQualifierBits() {
+        TypeStore typeStore = new TypeStore();
+        MetaAnnotationStore store = new MetaAnnotationStore(new ClassTransformer(typeStore, new SharedObjectCache(),
+                ReflectionCacheFactory.newInstance(typeStore), RegistrySingletonProvider.STATIC_INSTANCE));
+        assertEquals(0, store.getQualifierBits(Collections.<QualifierInstance> emptySet()).length);
+        assertArrayEquals(bits(0), store.getQualifierBits(Collections.singleton(QualifierInstance.DEFAULT)));
+        // Ids 1..70
+        for (int i = 1; i <= 70; i++) {
+            store.getQualifierBits(Collections.singleton(named(store, i)));
+        }
+        assertArrayEquals(bits(0, 5), store.getRequiredQualifierBits(ImmutableSet.of(QualifierInstance.DEFAULT, named(store, 5))));
+        // No trailing empty words, even though there are more than 64 ids
+        assertArrayEquals(bits(63), store.getRequiredQualifierBits(Collections.singleton(named(store, 63))));
+        assertArrayEquals(bits(5, 64, 70), store.getRequiredQualifierBits(ImmutableSet.of(named(store, 70), named(store, 5), named(store, 64))));
+        // Not interned
+        assertNull(store.getRequiredQualifierBits(ImmutableSet.of(named(store, 5), named(store, 71))));
+        assertNull(store.getRequiredQualifierBits(Collections.singleton(QualifierInstance.ANY)));
+        assertArrayEquals(bits(71), store.getQualifierBits(Collections.singleton(QualifierInstance.ANY)));
+    }
+
+    @Test
+    public void testContainsAllQualifiers() {
+        long[] beanBits = bits(0, 3, 70);
+        assertTrue(Beans.containsAllQualifiers(new long[0], beanBits));
+        assertTrue(Beans.containsAllQualifiers(bits(0), beanBits));
+        assertTrue(Beans.containsAllQualifiers(bits(3, 70), beanBits));
+        assertTrue(Beans.containsAllQualifiers(bits(0, 3, 70), beanBits));
+        assertFalse(Beans.containsAllQualifiers(bits(1), beanBits));
+        assertFalse(Beans.containsAllQualifiers(bits(0, 71), beanBits));
+        assertFalse(Beans.containsAllQualifiers(bits(200), beanBits));
+        // The required bitset may be shorter or longer than the bean bitset
+        assertTrue(Beans.containsAllQualifiers(bits(3), bits(3, 200)));
+        assertFalse(Beans.containsAllQualifiers(bits(3, 200), bits(3)));
+    }
+
+    private static QualifierInstance named(MetaAnnotationStore store, int id) {
+        return QualifierInstance.of(NamedLiteral.of(String.valueOf(id)), store);
+    }
+
+    private static long[] bits(int... ids) {
+        long[] bits = new long[0];
+        for (int id : ids) {
+            int word = id / Long.SIZE;
+            if (word >= bits.length) {
+                bits = Arrays.copyOf(bits, word + 1);
+            }
+            bits[word] |= 1L << id;
+        }
+        return bits;
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.resolution;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Default;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.util.TypeLiteral;
+import javax.inject.Named;
+
+import org.jboss.weld.resolution.QualifierInstance;
+import org.jboss.weld.resolution.Resolvable;
+import org.jboss.weld.resolution.ResolutionSnapshot;
+import org.jboss.weld.util.collections.ImmutableMap;
+import org.jboss.weld.util.collections.ImmutableSet;
+import org.junit.Test;
+
+public class ResolutionSnapshotTest {
+
+    @Test
+    public void testWriteAndRead() throws IOException {
+        ResolutionSnapshot snapshot = new ResolutionSnapshot(42L);
+        snapshot.put("beans:foo", "java.lang.String|javax.enterprise.inject.Default", Arrays.asList("WELD%ManagedBean%foo|Alpha", "WELD%ManagedBean%foo|Bravo"));
+        snapshot.put("beans:foo", "java.lang.Integer|javax.enterprise.inject.Default", Collections.emptyList());
+        snapshot.put("names:foo", "alpha", Collections.singletonList("WELD%ManagedBean%foo|Alpha"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        snapshot.write(out);
+
+        ResolutionSnapshot read = ResolutionSnapshot.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(42L, read.getDeploymentHash());
+        assertEquals(3, read.size());
+        Map<String, List<String>> beans = read.getSection("beans:foo");
+        assertEquals(Arrays.asList("WELD%ManagedBean%foo|Alpha", "WELD%ManagedBean%foo|Bravo"), beans.get("java.lang.String|javax.enterprise.inject.Default"));
+        assertTrue(beans.get("java.lang.Integer|javax.enterprise.inject.Default").isEmpty());
+        assertEquals(Collections.singletonList("WELD%ManagedBean%foo|Alpha"), read.getSection("names:foo").get("alpha"));
+        assertTrue(read.getSection("observers").isEmpty());
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadInvalidInput() throws IOException {
+        ResolutionSnapshot.read(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 }));
+    }
+
+    @Test
+    public void testKey() {
+        Type listOfStrings = new TypeLiteral<List<String>>() {
+        }.getType();
+        Set<Type> types = ImmutableSet.of(listOfStrings, Object.class);
+        Set<QualifierInstance> qualifiers = ImmutableSet.of(QualifierInstance.DEFAULT, QualifierInstance.ANY);
+        String key = ResolutionSnapshot.getKey(new DummyResolvable(types, qualifiers));
+        assertEquals("java.lang.Object,java.util.List<java.lang.String>|" + Any.class.getName() + "," + Default.class.getName(), key);
+        // The order of types and qualifiers does not matter
+        assertEquals(key, ResolutionSnapshot.getKey(new DummyResolvable(ImmutableSet.of(Object.class, listOfStrings),
+                ImmutableSet.of(QualifierInstance.ANY, QualifierInstance.DEFAULT))));
+        // Qualifier members are included
+        QualifierInstance named = new QualifierInstance(Named.class, ImmutableMap.of("value", "alpha"));
+        assertEquals("java.lang.String|" + Named.class.getName() + "(value=alpha)",
+                ResolutionSnapshot.getKey(new DummyResolvable(ImmutableSet.of(String.class), ImmutableSet.of(named))));
+        QualifierInstance enumValue = new QualifierInstance(Named.class, ImmutableMap.of("value", RetentionPolicy.RUNTIME));
+        assertEquals("java.lang.String|" + Named.class.getName() + "(value=RUNTIME)",
+                ResolutionSnapshot.getKey(new DummyResolvable(ImmutableSet.of(String.class), ImmutableSet.of(enumValue))));
+    }
+
+    @Test
+    public <T> void testUnsupportedKey() {
+        Type typeVariable = new TypeLiteral<List<T>>() {
+        }.getType();
+        assertNull(ResolutionSnapshot.getKey(new DummyResolvable(ImmutableSet.of(typeVariable), ImmutableSet.of(QualifierInstance.DEFAULT))));
+        QualifierInstance arrayValue = new QualifierInstance(Named.class, ImmutableMap.of("value", new String[] { "alpha" }));
+        assertNull(ResolutionSnapshot.getKey(new DummyResolvable(ImmutableSet.of(String.class), ImmutableSet.of(arrayValue))));
+    }
+
+    private static class DummyResolvable implements Resolvable {
+
+        private final Set<Type> types;
+
+        private final Set<QualifierInstance> qualifiers;
+
+        DummyResolvable(Set<Type> types, Set<QualifierInstance> qualifiers) {
+            this.types = types;
+            this.qualifiers = qualifiers;
+        }
+
+        @Override
+        public Set<QualifierInstance> getQualifiers() {
+            return qualifiers;
+        }
+
+        @Override
+        public Set<Type> getTypes() {
+            return types;
+        }
+
+        @Override
+        public Class<?> getJavaClass() {
+            return null;
+        }
+
+        @Override
+        public Bean<?> getDeclaringBean() {
+            return null;
+        }
+
+        @Override
+        public boolean isDelegate() {
+            return false;
+        }
+
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.util;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.EmptyStackException;
+
+import org.jboss.weld.bean.proxy.CombinedInterceptorAndDecoratorStackMethodHandler;
+import org.jboss.weld.bean.proxy.DecorationHelper;
+import org.jboss.weld.bean.proxy.InterceptionDecorationContext;
+import org.jboss.weld.bean.proxy.InterceptionDecorationContext.Stack;
+import org.jboss.weld.contexts.cache.RequestScopedCache;
+import org.jboss.weld.util.WeldThreadState;
+import org.junit.Test;
+
+/**
+ * The per-thread state must be shared by the invocation path and removed from the thread once it is empty.
+ */
+public class WeldThreadStateTest {
+
+    @Test
+    public void testStateIsRemovedOutsideOfRequest() {
+        assertNull(WeldThreadState.getIfExists());
+        CombinedInterceptorAndDecoratorStackMethodHandler handler = new CombinedInterceptorAndDecoratorStackMethodHandler();
+        Stack stack = InterceptionDecorationContext.startIfNotOnTop(handler);
+        assertNotNull(stack);
+        assertSame(stack, WeldThreadState.getIfExists().getInterceptionContexts());
+        assertSame(handler, InterceptionDecorationContext.peek());
+        stack.end();
+        assertTrue(InterceptionDecorationContext.empty());
+        assertNull(WeldThreadState.getIfExists());
+    }
+
+    @Test
+    public void testStateIsRemovedAtTheEndOfRequest() {
+        RequestScopedCache.beginRequest();
+        try {
+            WeldThreadState state = WeldThreadState.getIfExists();
+            assertNotNull(state);
+            Stack stack = InterceptionDecorationContext.startIfNotOnTop(new CombinedInterceptorAndDecoratorStackMethodHandler());
+            stack.end();
+            // The stack is kept for the rest of the request
+            assertSame(stack, state.getInterceptionContexts());
+            assertSame(stack, InterceptionDecorationContext.getStack());
+        } finally {
+            RequestScopedCache.endRequest();
+        }
+        assertFalse(RequestScopedCache.isActive());
+        assertNull(WeldThreadState.getIfExists());
+    }
+
+    @Test
+    public void testEmptyDecorationStackLeavesNoState() {
+        assertNull(WeldThreadState.getIfExists());
+        try {
+            DecorationHelper.pop();
+            fail();
+        } catch (EmptyStackException expected) {
+        }
+        try {
+            DecorationHelper.peek();
+            fail();
+        } catch (EmptyStackException expected) {
+        }
+        assertNull(WeldThreadState.getIfExists());
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.util.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.jboss.weld.util.cache.CacheStatistics;
+import org.jboss.weld.util.cache.ComputingCache;
+import org.jboss.weld.util.cache.ComputingCacheBuilder;
+import org.jboss.weld.util.cache.EvictionPolicy;
+import org.junit.Test;
+
+public class CacheStatisticsTest {
+
+    @Test
+    public void testStatisticsNotRecordedByDefault() {
+        assertNull(ComputingCacheBuilder.newBuilder().build(String::valueOf).getStatistics());
+    }
+
+    @Test
+    public void testSegmentedLruStatistics() {
+        ComputingCache<Integer, String> cache = ComputingCacheBuilder.newBuilder().setMaxSize(3).setEvictionPolicy(EvictionPolicy.SEGMENTED_LRU)
+                .recordStatistics().build(String::valueOf);
+        for (int i = 0; i < 5; i++) {
+            cache.getValue(i);
+        }
+        cache.getValue(4);
+        cache.getValue(4);
+        CacheStatistics statistics = cache.getStatistics();
+        assertEquals(2, statistics.getHitCount());
+        assertEquals(5, statistics.getMissCount());
+        assertEquals(2, statistics.getEvictionCount());
+        assertEquals(0, statistics.getClearCount());
+        assertEquals(3, statistics.getSize());
+        assertEquals(2.0 / 7, statistics.getHitRate(), 0.0001);
+        assertTrue(statistics.getTotalLoadTime() >= statistics.getMaxLoadTime());
+        cache.clear();
+        assertEquals(1, cache.getStatistics().getClearCount());
+        assertEquals(0, cache.getStatistics().getSize());
+    }
+
+    @Test
+    public void testClearPolicyStatistics() {
+        ComputingCache<Integer, String> cache = ComputingCacheBuilder.newBuilder().setMaxSize(3).setEvictionPolicy(EvictionPolicy.CLEAR).recordStatistics()
+                .build(String::valueOf);
+        for (int i = 0; i < 4; i++) {
+            cache.getValue(i);
+        }
+        cache.getValue(5);
+        cache.getValue(5);
+        CacheStatistics statistics = cache.getStatistics();
+        assertEquals(1, statistics.getHitCount());
+        assertEquals(5, statistics.getMissCount());
+        // The whole cache was discarded once the size exceeded the bound
+        assertEquals(4, statistics.getEvictionCount());
+        assertEquals(0, statistics.getClearCount());
+        assertEquals(1, statistics.getSize());
+    }
+
+}
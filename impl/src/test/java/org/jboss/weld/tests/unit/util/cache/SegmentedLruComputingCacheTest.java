@@ -0,0 +1,106 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.util.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.jboss.weld.util.cache.ComputingCache;
+import org.jboss.weld.util.cache.ComputingCacheBuilder;
+import org.jboss.weld.util.cache.EvictionPolicy;
+import org.junit.Test;
+
+/**
+ * Testcase for {@link EvictionPolicy#SEGMENTED_LRU}.
+ */
+public class SegmentedLruComputingCacheTest {
+
+    private ComputingCache<Integer, Integer> fibonacci;
+
+    @Test
+    public void testSizeIsBounded() {
+        ComputingCache<Integer, String> cache = build(10, String::valueOf);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(String.valueOf(i), cache.getValue(i));
+            assertTrue(cache.size() <= 10);
+        }
+        assertEquals(10, cache.size());
+        // The most recent entries are retained
+        assertNotNull(cache.getValueIfPresent(99));
+        assertNull(cache.getValueIfPresent(0));
+    }
+
+    @Test
+    public void testFrequentlyUsedEntriesSurviveScan() {
+        AtomicInteger computations = new AtomicInteger();
+        ComputingCache<Integer, String> cache = build(10, (key) -> {
+            computations.incrementAndGet();
+            return String.valueOf(key);
+        });
+        // Hot entries are hit repeatedly
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 5; j++) {
+                cache.getValue(j);
+            }
+        }
+        assertEquals(5, computations.get());
+        // A burst of one-off keys
+        for (int i = 100; i < 1000; i++) {
+            cache.getValue(i);
+        }
+        computations.set(0);
+        for (int j = 0; j < 5; j++) {
+            assertEquals(String.valueOf(j), cache.getValue(j));
+        }
+        assertEquals(0, computations.get());
+    }
+
+    @Test
+    public void testInvalidateAndClear() {
+        ComputingCache<Integer, String> cache = build(3, String::valueOf);
+        cache.getValue(1);
+        cache.getValue(2);
+        cache.invalidate(1);
+        assertNull(cache.getValueIfPresent(1));
+        assertEquals(1, cache.size());
+        cache.getValue(3);
+        cache.getValue(4);
+        cache.getValue(5);
+        assertEquals(3, cache.size());
+        cache.clear();
+        assertEquals(0, cache.size());
+        cache.getValue(6);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testReentrantComputation() {
+        fibonacci = build(4, (n) -> n < 2 ? n : fibonacci.getValue(n - 1) + fibonacci.getValue(n - 2));
+        assertEquals(Integer.valueOf(55), fibonacci.getValue(10));
+        assertTrue(fibonacci.size() <= 4);
+    }
+
+    private static <V> ComputingCache<Integer, V> build(long maxSize, Function<Integer, V> function) {
+        return ComputingCacheBuilder.newBuilder().setMaxSize(maxSize).setEvictionPolicy(EvictionPolicy.SEGMENTED_LRU).build(function);
+    }
+
+}
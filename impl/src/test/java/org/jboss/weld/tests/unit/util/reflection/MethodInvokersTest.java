@@ -0,0 +1,75 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.util.reflection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.lang.invoke.MethodHandle;
+
+import org.jboss.weld.util.reflection.MethodInvokers;
+import org.junit.Test;
+
+/**
+ * The arguments of an invoker are converted the same way as they are by {@link java.lang.reflect.Method#invoke(Object, Object...)}.
+ */
+public class MethodInvokersTest {
+
+    @Test
+    public void testArgumentConversion() throws Throwable {
+        MethodHandle invoker = MethodInvokers.getSpreadInvoker(MethodInvokersTest.class.getDeclaredMethod("twice", int.class));
+        MethodInvokersTest receiver = new MethodInvokersTest();
+        assertEquals(6, (Object) invoker.invokeExact((Object) receiver, new Object[] { 3 }));
+        // Widening
+        assertEquals(6, (Object) invoker.invokeExact((Object) receiver, new Object[] { (short) 3 }));
+        assertEquals(194, (Object) invoker.invokeExact((Object) receiver, new Object[] { 'a' }));
+        // No narrowing, no conversion of null or unrelated types
+        for (Object argument : new Object[] { null, 1L << 33 | 7, Boolean.TRUE, "3" }) {
+            try {
+                Object result = invoker.invokeExact((Object) receiver, new Object[] { argument });
+                fail(argument + " converted to " + result);
+            } catch (IllegalArgumentException expected) {
+            }
+        }
+        // The receiver is cast
+        try {
+            Object result = invoker.invokeExact((Object) "receiver", new Object[] { 3 });
+            fail("Invoked on " + result);
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    public void testExceptionThrownByMethodNotConverted() throws Throwable {
+        MethodHandle invoker = MethodInvokers.getGenericInvoker(MethodInvokersTest.class.getDeclaredMethod("fail", String.class));
+        try {
+            Object result = invoker.invokeExact((Object) new MethodInvokersTest(), (Object) "failed");
+            fail("Returned " + result);
+        } catch (ClassCastException expected) {
+            assertEquals("failed", expected.getMessage());
+        }
+    }
+
+    int twice(int value) {
+        return value * 2;
+    }
+
+    String fail(String message) {
+        throw new ClassCastException(message);
+    }
+
+}
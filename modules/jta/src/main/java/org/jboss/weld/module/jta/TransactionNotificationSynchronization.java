@@ -23,6 +23,9 @@ import javax.transaction.Synchronization;
 /**
  * A JTA transaction synchronization which wraps all defferred transactional event notifications.
  *
+ * If the transaction is known to the notifier, a single synchronization is registered per transaction and the notifications of all the events fired within
+ * the transaction are added to it.
+ *
  * @author David Allen
  */
 class TransactionNotificationSynchronization implements Synchronization {
@@ -37,13 +40,24 @@ class TransactionNotificationSynchronization implements Synchronization {
         this.notifications = notifications;
     }
 
+    /**
+     * Adds the notifications of another event fired within the same transaction.
+     *
+     * @param notifications
+     */
+    void addAll(List<DeferredEventNotification<?>> notifications) {
+        this.notifications.addAll(notifications);
+    }
+
     /*
      * (non-Javadoc)
      *
      * @see javax.transaction.Synchronization#afterCompletion(int)
      */
     public void afterCompletion(int status) {
-        for (DeferredEventNotification<?> notification : notifications) {
+        // notifications may be added while draining
+        for (int i = 0; i < notifications.size(); i++) {
+            DeferredEventNotification<?> notification = notifications.get(i);
             if (!notification.isBefore() && notification.getStatus().matches(status)) {
                 notification.run();
             }
@@ -56,7 +70,9 @@ class TransactionNotificationSynchronization implements Synchronization {
      * @see javax.transaction.Synchronization#beforeCompletion()
      */
     public void beforeCompletion() {
-        for (DeferredEventNotification<?> notification : notifications) {
+        // notifications may be added while draining, e.g. by an observer method which fires another event
+        for (int i = 0; i < notifications.size(); i++) {
+            DeferredEventNotification<?> notification = notifications.get(i);
             if (notification.isBefore()) {
                 notification.run();
             }
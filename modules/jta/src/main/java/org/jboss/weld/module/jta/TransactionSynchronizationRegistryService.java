@@ -0,0 +1,35 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.module.jta;
+
+import javax.transaction.TransactionSynchronizationRegistry;
+
+import org.jboss.weld.bootstrap.api.Service;
+
+/**
+ * Provides the {@link TransactionSynchronizationRegistry} of the transaction manager. If an integrator registers this service, the notifications of
+ * transactional observer methods are added to a single synchronization per transaction without looking up the registry in JNDI.
+ */
+public interface TransactionSynchronizationRegistryService extends Service {
+
+    /**
+     *
+     * @return the transaction synchronization registry, or <code>null</code> if not available
+     */
+    TransactionSynchronizationRegistry getTransactionSynchronizationRegistry();
+
+}
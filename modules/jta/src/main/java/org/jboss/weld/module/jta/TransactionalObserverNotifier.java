@@ -16,17 +16,24 @@
  */
 package org.jboss.weld.module.jta;
 
+import static javax.transaction.Status.STATUS_ACTIVE;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import javax.enterprise.event.TransactionPhase;
 import javax.enterprise.inject.spi.EventMetadata;
 import javax.enterprise.inject.spi.ObserverMethod;
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
 import javax.transaction.RollbackException;
+import javax.transaction.TransactionSynchronizationRegistry;
 
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
 import org.jboss.weld.event.ObserverNotifier;
+import org.jboss.weld.logging.EventLogger;
 import org.jboss.weld.module.ObserverNotifierFactory;
 import org.jboss.weld.resolution.TypeSafeObserverResolver;
 import org.jboss.weld.transaction.spi.TransactionServices;
@@ -45,13 +52,28 @@ class TransactionalObserverNotifier extends ObserverNotifier {
         }
     };
 
+    private static final String TRANSACTION_SYNCHRONIZATION_REGISTRY_JNDI_NAME = "java:comp/TransactionSynchronizationRegistry";
+
+    // A failed JNDI lookup is only repeated after this interval
+    private static final long LOOKUP_RETRY_INTERVAL = TimeUnit.MINUTES.toNanos(1);
+
     private final TransactionServices transactionServices;
     private final String contextId;
+    // null if not provided by the integrator
+    private final TransactionSynchronizationRegistryService synchronizationRegistryService;
+    // null until looked up successfully
+    private volatile TransactionSynchronizationRegistry synchronizationRegistry;
+    private volatile boolean lookupFailed;
+    private volatile long lookupFailedAt;
+    // the key of the synchronization in the resources of the current transaction
+    private final String synchronizationKey;
 
     TransactionalObserverNotifier(String contextId, TypeSafeObserverResolver resolver, ServiceRegistry services, boolean strict) {
         super(contextId, resolver, services, strict);
         this.contextId = contextId;
         this.transactionServices = services.get(TransactionServices.class);
+        this.synchronizationRegistryService = services.get(TransactionSynchronizationRegistryService.class);
+        this.synchronizationKey = TransactionNotificationSynchronization.class.getName() + "." + contextId;
     }
 
     /**
@@ -68,6 +90,60 @@ class TransactionalObserverNotifier extends ObserverNotifier {
         notifications.add(new DeferredEventNotification<T>(contextId, event, metadata, observer, currentEventMetadata, status, before));
     }
 
+    /**
+     *
+     * @return the synchronization registered for the current transaction or <code>null</code>
+     */
+    private TransactionNotificationSynchronization getSynchronization(TransactionSynchronizationRegistry registry) {
+        return (TransactionNotificationSynchronization) registry.getResource(synchronizationKey);
+    }
+
+    /**
+     *
+     * @return the transaction synchronization registry or <code>null</code> if not available
+     */
+    private TransactionSynchronizationRegistry getSynchronizationRegistry() {
+        if (synchronizationRegistryService != null) {
+            return synchronizationRegistryService.getTransactionSynchronizationRegistry();
+        }
+        TransactionSynchronizationRegistry registry = synchronizationRegistry;
+        if (registry == null) {
+            // The registry is usually not bound at all, e.g. in Weld SE - do not look it up on every event. However, java:comp may just not be available
+            // on the thread which performed the failed lookup and so the lookup is retried after a while.
+            if (lookupFailed && System.nanoTime() - lookupFailedAt < LOOKUP_RETRY_INTERVAL) {
+                return null;
+            }
+            registry = lookupSynchronizationRegistry();
+            if (registry != null) {
+                synchronizationRegistry = registry;
+            } else {
+                lookupFailedAt = System.nanoTime();
+                lookupFailed = true;
+            }
+        }
+        return registry;
+    }
+
+    private static TransactionSynchronizationRegistry lookupSynchronizationRegistry() {
+        InitialContext context = null;
+        try {
+            context = new InitialContext();
+            return (TransactionSynchronizationRegistry) context.lookup(TRANSACTION_SYNCHRONIZATION_REGISTRY_JNDI_NAME);
+        } catch (NamingException | ClassCastException e) {
+            // Fall back to one synchronization per event
+            EventLogger.LOG.catchingDebug(e);
+            return null;
+        } finally {
+            if (context != null) {
+                try {
+                    context.close();
+                } catch (NamingException e) {
+                    EventLogger.LOG.catchingDebug(e);
+                }
+            }
+        }
+    }
+
     @Override
     protected <T> void notifyTransactionObservers(List<ObserverMethod<? super T>> observers, T event, EventMetadata metadata,
             final ObserverExceptionHandler handler) {
@@ -82,22 +158,48 @@ class TransactionalObserverNotifier extends ObserverNotifier {
             for (ObserverMethod<? super T> observer : observers) {
                 deferNotification(event, metadata, observer, notifications);
             }
-            try {
-                transactionServices.registerSynchronization(new TransactionNotificationSynchronization(notifications));
-            } catch (Exception e) {
-                if (e.getCause() instanceof RollbackException || e.getCause() instanceof IllegalStateException) {
-                    List<ObserverMethod<? super T>> filteredObservers = observers.stream()
-                            .filter(observerMethod -> !observerMethod.getTransactionPhase().equals(TransactionPhase.AFTER_SUCCESS))
-                            .sorted((o1, o2) -> {
-                                // using descending order since we only need to ensure that BEFORE_COMPLETION precedes AFTER_COMPLETION
-                                return o2.getTransactionPhase().toString().compareTo(o1.getTransactionPhase().toString());
-                            })
-                            .collect(Collectors.toList());
-                    notifySyncObservers(filteredObservers, event, metadata, handler);
+            TransactionSynchronizationRegistry registry = getSynchronizationRegistry();
+            if (registry != null && registry.getTransactionStatus() == STATUS_ACTIVE) {
+                // A single synchronization per transaction
+                TransactionNotificationSynchronization synchronization = getSynchronization(registry);
+                if (synchronization != null) {
+                    synchronization.addAll(notifications);
                 } else {
-                    throw e;
+                    synchronization = new TransactionNotificationSynchronization(notifications);
+                    if (registerSynchronization(synchronization, observers, event, metadata, handler)) {
+                        registry.putResource(synchronizationKey, synchronization);
+                    }
                 }
+            } else {
+                registerSynchronization(new TransactionNotificationSynchronization(notifications), observers, event, metadata, handler);
+            }
+        }
+    }
 
+    /**
+     * Registers the given synchronization. If the transaction is marked for rollback or no longer active, the transactional observer methods which would not
+     * be notified by the synchronization are notified immediately.
+     *
+     * @return <code>true</code> if the synchronization was registered, <code>false</code> otherwise
+     */
+    private <T> boolean registerSynchronization(TransactionNotificationSynchronization synchronization, List<ObserverMethod<? super T>> observers, T event,
+            EventMetadata metadata, ObserverExceptionHandler handler) {
+        try {
+            transactionServices.registerSynchronization(synchronization);
+            return true;
+        } catch (Exception e) {
+            if (e.getCause() instanceof RollbackException || e.getCause() instanceof IllegalStateException) {
+                List<ObserverMethod<? super T>> filteredObservers = observers.stream()
+                        .filter(observerMethod -> !observerMethod.getTransactionPhase().equals(TransactionPhase.AFTER_SUCCESS))
+                        .sorted((o1, o2) -> {
+                            // using descending order since we only need to ensure that BEFORE_COMPLETION precedes AFTER_COMPLETION
+                            return o2.getTransactionPhase().toString().compareTo(o1.getTransactionPhase().toString());
+                        })
+                        .collect(Collectors.toList());
+                notifySyncObservers(filteredObservers, event, metadata, handler);
+                return false;
+            } else {
+                throw e;
             }
         }
     }
@@ -0,0 +1,87 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.contexts;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.context.control.RequestContextController;
+import javax.enterprise.context.spi.Context;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+
+import org.jboss.arquillian.container.weld.embedded.mock.TestContainer;
+import org.jboss.weld.bootstrap.api.helpers.RegistrySingletonProvider;
+import org.jboss.weld.contexts.unbound.RequestContextImpl;
+import org.jboss.weld.util.reflection.Reflections;
+import org.testng.annotations.Test;
+
+public class RequestContextTest {
+
+    @Test
+    public void testRecycledBeanStoreIsEmpty() {
+        RequestCounter.CREATED.set(0);
+        RequestCounter.DESTROYED.set(0);
+        TestContainer container = new TestContainer(RequestCounter.class).startContainer();
+        try {
+            BeanManager manager = container.getBeanManager(container.getDeployment().getBeanDeploymentArchives().iterator().next());
+            Bean<RequestCounter> bean = Reflections.cast(manager.resolve(manager.getBeans(RequestCounter.class)));
+            RequestContextController controller = manager.createInstance().select(RequestContextController.class).get();
+            for (int i = 1; i <= 3; i++) {
+                controller.activate();
+                try {
+                    Context context = manager.getContext(RequestScoped.class);
+                    assertNull(context.get(bean));
+                    RequestCounter counter = context.get(bean, manager.createCreationalContext(bean));
+                    assertSame(context.get(bean), counter);
+                    assertEquals(RequestCounter.CREATED.get(), i);
+                } finally {
+                    controller.deactivate();
+                }
+                assertEquals(RequestCounter.DESTROYED.get(), i);
+            }
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testContextInitializationChecked() {
+        TestContainer container = new TestContainer(RequestCounter.class).startContainer();
+        try {
+            BeanManager manager = container.getBeanManager(container.getDeployment().getBeanDeploymentArchives().iterator().next());
+            Bean<RequestCounter> bean = Reflections.cast(manager.resolve(manager.getBeans(RequestCounter.class)));
+            RequestContextImpl context = new RequestContextImpl(RegistrySingletonProvider.STATIC_INSTANCE) {
+                @Override
+                protected void checkContextInitialized() {
+                    throw new IllegalStateException();
+                }
+            };
+            context.activate();
+            try {
+                context.get(bean, manager.createCreationalContext(bean));
+            } finally {
+                context.deactivate();
+            }
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.contexts;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.spi.AlterableContext;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+
+import org.jboss.arquillian.container.weld.embedded.mock.TestContainer;
+import org.jboss.weld.bootstrap.api.helpers.RegistrySingletonProvider;
+import org.jboss.weld.contexts.unbound.ApplicationContextImpl;
+import org.jboss.weld.util.reflection.Reflections;
+import org.testng.annotations.Test;
+
+public class SharedContextTest {
+
+    private static final int THREADS = 8;
+
+    @Test
+    public void testContextualInstanceIsCreatedOnce() throws Exception {
+        Counter.CREATED.set(0);
+        Counter.DESTROYED.set(0);
+        TestContainer container = new TestContainer(Counter.class).startContainer();
+        try {
+            BeanManager manager = container.getBeanManager(container.getDeployment().getBeanDeploymentArchives().iterator().next());
+            Bean<Counter> bean = Reflections.cast(manager.resolve(manager.getBeans(Counter.class)));
+            AlterableContext context = (AlterableContext) manager.getContext(ApplicationScoped.class);
+            assertNull(context.get(bean));
+
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            List<Future<Counter>> results = new ArrayList<>();
+            try {
+                for (int i = 0; i < THREADS; i++) {
+                    results.add(executor.submit((Callable<Counter>) () -> context.get(bean, manager.createCreationalContext(bean))));
+                }
+                Counter counter = results.get(0).get();
+                assertNotNull(counter);
+                for (Future<Counter> result : results) {
+                    assertSame(result.get(), counter);
+                }
+            } finally {
+                executor.shutdown();
+            }
+            assertEquals(Counter.CREATED.get(), 1);
+            Counter counter = context.get(bean);
+
+            context.destroy(bean);
+            assertEquals(Counter.DESTROYED.get(), 1);
+            assertNull(context.get(bean));
+            assertNotSame(context.get(bean, manager.createCreationalContext(bean)), counter);
+            assertEquals(Counter.CREATED.get(), 2);
+        } finally {
+            container.stopContainer();
+        }
+        // The contextual instance is destroyed during shutdown
+        assertEquals(Counter.DESTROYED.get(), 2);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testContextInitializationChecked() {
+        TestContainer container = new TestContainer(Counter.class).startContainer();
+        try {
+            BeanManager manager = container.getBeanManager(container.getDeployment().getBeanDeploymentArchives().iterator().next());
+            Bean<Counter> bean = Reflections.cast(manager.resolve(manager.getBeans(Counter.class)));
+            new ApplicationContextImpl(RegistrySingletonProvider.STATIC_INSTANCE) {
+                @Override
+                protected void checkContextInitialized() {
+                    throw new IllegalStateException();
+                }
+            }.get(bean, manager.createCreationalContext(bean));
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.decorator;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+
+import org.jboss.arquillian.container.weld.embedded.mock.TestContainer;
+import org.testng.annotations.Test;
+
+/**
+ * Decorator methods and the decorated bean are invoked through method handles, exceptions are propagated unwrapped.
+ */
+public class DecoratorChainTest {
+
+    @Test
+    public void testDecoratorChain() throws NotFoundException {
+        TestContainer container = new TestContainer(SimpleRepository.class, AuditDecorator.class, CachingDecorator.class).startContainer();
+        try {
+            BeanManager manager = container.getBeanManager(container.getDeployment().getBeanDeploymentArchives().iterator().next());
+            Bean<?> bean = manager.resolve(manager.getBeans(Repository.class));
+            Repository repository = (Repository) manager.getReference(bean, Repository.class, manager.createCreationalContext(bean));
+            assertEquals(repository.find("foo"), "audited cached foo");
+            // Not decorated by AuditDecorator
+            assertEquals(repository.count(), 2);
+            try {
+                repository.find("");
+                fail();
+            } catch (NotFoundException expected) {
+            }
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+}
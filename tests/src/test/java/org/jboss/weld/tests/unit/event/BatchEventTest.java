@@ -0,0 +1,116 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.event;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+
+import org.jboss.arquillian.container.weld.embedded.mock.TestContainer;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.event.EventImpl;
+import org.jboss.weld.events.WeldNotificationOptions;
+import org.jboss.weld.util.reflection.Reflections;
+import org.testng.annotations.Test;
+
+/**
+ * A collection of event objects is delivered asynchronously in chunks, each chunk within a single request context.
+ */
+public class BatchEventTest {
+
+    private static final long TIMEOUT = 10;
+
+    @Test
+    public void testFireAll() throws InterruptedException, ExecutionException, TimeoutException {
+        System.setProperty(ConfigurationKey.ASYNC_EVENT_BATCH_CHUNK_SIZE.get(), "2");
+        TestContainer container;
+        try {
+            container = new TestContainer(RowObserver.class, RequestId.class).startContainer();
+        } finally {
+            System.clearProperty(ConfigurationKey.ASYNC_EVENT_BATCH_CHUNK_SIZE.get());
+        }
+        try {
+            BeanManager manager = container.getBeanManager(container.getDeployment().getBeanDeploymentArchives().iterator().next());
+            Bean<?> bean = manager.resolve(manager.getBeans(RowObserver.class));
+            RowObserver observer = Reflections.cast(manager.getReference(bean, RowObserver.class, manager.createCreationalContext(bean)));
+            EventImpl<Row> event = Reflections.cast(manager.getEvent().select(Row.class));
+
+            event.fireAll(Arrays.asList(new Row(1, false), new Row(2, false)));
+            assertEquals(observer.getSyncRows(), Arrays.asList(1, 2));
+            assertTrue(observer.getAsyncRows().isEmpty());
+
+            List<Row> rows = Arrays.asList(new Row(1, false), new Row(2, false), new Row(3, false), new Row(4, false), new Row(5, false));
+            assertEquals(event.fireAllAsync(rows).toCompletableFuture().get(TIMEOUT, TimeUnit.SECONDS), rows);
+            assertEquals(observer.getAsyncRows().size(), 5);
+            // Three chunks, each delivered within a request context of its own
+            assertEquals(observer.getRequestIds().size(), 3);
+
+            try {
+                event.fireAllAsync(Arrays.asList(new Row(6, true), new Row(7, false), new Row(8, true))).toCompletableFuture().get(TIMEOUT,
+                        TimeUnit.SECONDS);
+                fail();
+            } catch (ExecutionException expected) {
+                assertTrue(expected.getCause() instanceof CompletionException);
+                Throwable[] suppressed = expected.getCause().getSuppressed();
+                assertEquals(suppressed.length, 2);
+                for (Throwable throwable : suppressed) {
+                    assertTrue(throwable.getCause() instanceof IOException);
+                }
+            }
+            assertEquals(observer.getAsyncRows().size(), 8);
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+    @Test
+    public void testFireAllParallel() throws InterruptedException, ExecutionException, TimeoutException {
+        System.setProperty(ConfigurationKey.ASYNC_EVENT_BATCH_CHUNK_SIZE.get(), "2");
+        TestContainer container;
+        try {
+            container = new TestContainer(RowObserver.class, RequestId.class).startContainer();
+        } finally {
+            System.clearProperty(ConfigurationKey.ASYNC_EVENT_BATCH_CHUNK_SIZE.get());
+        }
+        try {
+            BeanManager manager = container.getBeanManager(container.getDeployment().getBeanDeploymentArchives().iterator().next());
+            Bean<?> bean = manager.resolve(manager.getBeans(RowObserver.class));
+            RowObserver observer = Reflections.cast(manager.getReference(bean, RowObserver.class, manager.createCreationalContext(bean)));
+            EventImpl<Row> event = Reflections.cast(manager.getEvent().select(Row.class));
+
+            List<Row> rows = Arrays.asList(new Row(1, false), new Row(2, false), new Row(3, false), new Row(4, false), new Row(5, false));
+            assertEquals(event.fireAllAsync(rows, WeldNotificationOptions.withParallelMode()).toCompletableFuture().get(TIMEOUT, TimeUnit.SECONDS), rows);
+            assertEquals(observer.getAsyncRows().size(), 5);
+            // Not chunked, each observer method notified within a request context of its own
+            assertEquals(observer.getRequestIds().size(), 5);
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.event;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.context.control.RequestContextController;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.NotificationOptions;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+
+import org.jboss.arquillian.container.weld.embedded.mock.TestContainer;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.event.AsyncEventLimiter;
+import org.jboss.weld.event.AsyncEventLimiter.OverflowPolicy;
+import org.jboss.weld.util.reflection.Reflections;
+import org.testng.annotations.Test;
+
+/**
+ * An asynchronous event delivered by the firing thread once the limit of notifications in flight is reached does not destroy the request context active
+ * on the firing thread.
+ */
+public class CallerRunsTest {
+
+    private static final long TIMEOUT = 10;
+
+    @Test
+    public void testActiveRequestContextPreserved() throws InterruptedException, ExecutionException, TimeoutException {
+        System.setProperty(ConfigurationKey.ASYNC_EVENT_MAX_IN_FLIGHT.get(), "1");
+        TestContainer container;
+        try {
+            container = new TestContainer(JobObserver.class, RequestId.class).startContainer();
+        } finally {
+            System.clearProperty(ConfigurationKey.ASYNC_EVENT_MAX_IN_FLIGHT.get());
+        }
+        try {
+            BeanManager manager = container.getBeanManager(container.getDeployment().getBeanDeploymentArchives().iterator().next());
+            Bean<?> bean = manager.resolve(manager.getBeans(JobObserver.class));
+            JobObserver observer = Reflections.cast(manager.getReference(bean, JobObserver.class, manager.createCreationalContext(bean)));
+            bean = manager.resolve(manager.getBeans(RequestId.class));
+            RequestId requestId = Reflections.cast(manager.getReference(bean, RequestId.class, manager.createCreationalContext(bean)));
+            Event<Object> event = manager.getEvent();
+
+            // Occupy the only notification in flight
+            Gate gate = new Gate();
+            CompletableFuture<Gate> held = event.select(Gate.class).fireAsync(gate).toCompletableFuture();
+            RequestContextController controller = manager.createInstance().select(RequestContextController.class).get();
+            controller.activate();
+            try {
+                int id = requestId.getId();
+                event.select(Job.class).fireAsync(new Job(), NotificationOptions.of(AsyncEventLimiter.OVERFLOW_POLICY, OverflowPolicy.CALLER_RUNS))
+                        .toCompletableFuture().get(TIMEOUT, TimeUnit.SECONDS);
+                // The observer method was notified within the request context of the caller, which is still active
+                assertEquals(observer.getRequestIds(), Collections.singletonList(id));
+                assertTrue(manager.getContext(RequestScoped.class).isActive());
+                assertEquals(requestId.getId(), id);
+            } finally {
+                controller.deactivate();
+                gate.open();
+            }
+            held.get(TIMEOUT, TimeUnit.SECONDS);
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+}
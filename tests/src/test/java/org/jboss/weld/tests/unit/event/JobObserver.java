@@ -0,0 +1,42 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.event;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.ObservesAsync;
+
+@ApplicationScoped
+public class JobObserver {
+
+    private final List<Integer> requestIds = new CopyOnWriteArrayList<>();
+
+    void hold(@ObservesAsync Gate gate) throws InterruptedException {
+        gate.await();
+    }
+
+    void run(@ObservesAsync Job job, RequestId requestId) {
+        requestIds.add(requestId.getId());
+    }
+
+    List<Integer> getRequestIds() {
+        return requestIds;
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.event;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.IOException;
+
+import javax.enterprise.event.ObserverException;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+
+import org.jboss.arquillian.container.weld.embedded.mock.TestContainer;
+import org.jboss.weld.util.reflection.Reflections;
+import org.testng.annotations.Test;
+
+/**
+ * Observer methods with an event parameter and at most one additional parameter are invoked without an array of parameters.
+ */
+public class ObserverInvocationTest {
+
+    @Test
+    public void testObserverInvocation() {
+        TestContainer container = new TestContainer(PingObserver.class).startContainer();
+        try {
+            BeanManager manager = container.getBeanManager(container.getDeployment().getBeanDeploymentArchives().iterator().next());
+            Bean<?> bean = manager.resolve(manager.getBeans(PingObserver.class));
+            PingObserver observer = Reflections.cast(manager.getReference(bean, PingObserver.class, manager.createCreationalContext(bean)));
+
+            manager.fireEvent(new Ping(false));
+            assertEquals(observer.getPings(), 1);
+            assertNotNull(observer.getBeanManager());
+            assertEquals(observer.getMetadata().getType(), Ping.class);
+
+            try {
+                manager.fireEvent(new Ping(true));
+                fail();
+            } catch (ObserverException expected) {
+                assertTrue(expected.getCause() instanceof IOException);
+            }
+            assertEquals(observer.getPings(), 2);
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.event;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import javax.enterprise.event.NotificationOptions;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+
+import org.jboss.arquillian.container.weld.embedded.mock.TestContainer;
+import org.jboss.weld.event.AsyncEventPartitions;
+import org.jboss.weld.event.EventImpl;
+import org.jboss.weld.util.reflection.Reflections;
+import org.testng.annotations.Test;
+
+/**
+ * Asynchronous events with the same partition key are delivered in the order they were fired.
+ */
+public class PartitionedEventTest {
+
+    private static final int ROWS = 200;
+
+    private static final long TIMEOUT = 10;
+
+    @Test
+    public void testOrder() throws InterruptedException, ExecutionException, TimeoutException {
+        TestContainer container = new TestContainer(RowObserver.class, RequestId.class).startContainer();
+        try {
+            BeanManager manager = container.getBeanManager(container.getDeployment().getBeanDeploymentArchives().iterator().next());
+            Bean<?> bean = manager.resolve(manager.getBeans(RowObserver.class));
+            RowObserver observer = Reflections.cast(manager.getReference(bean, RowObserver.class, manager.createCreationalContext(bean)));
+            EventImpl<Row> event = Reflections.cast(manager.getEvent().select(Row.class));
+            NotificationOptions options = NotificationOptions.of(AsyncEventPartitions.PARTITION_KEY, "table");
+
+            List<Integer> expected = new ArrayList<>();
+            List<CompletableFuture<Row>> futures = new ArrayList<>();
+            for (int i = 0; i < ROWS; i++) {
+                expected.add(i);
+                futures.add(event.fireAsync(new Row(i, false), options).toCompletableFuture());
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[] {})).get(TIMEOUT, TimeUnit.SECONDS);
+            assertEquals(observer.getAsyncRows(), expected);
+
+            // The rows of a batch are partitioned by the extracted key
+            List<Row> rows = new ArrayList<>();
+            for (int i = 0; i < ROWS; i++) {
+                rows.add(new Row(i, false));
+            }
+            event.fireAllAsync(rows, NotificationOptions.of(AsyncEventPartitions.PARTITION_KEY, (Function<Row, Integer>) (row) -> row.getNumber() % 2))
+                    .toCompletableFuture().get(TIMEOUT, TimeUnit.SECONDS);
+            List<Integer> even = new ArrayList<>();
+            List<Integer> odd = new ArrayList<>();
+            for (Integer row : observer.getAsyncRows().subList(ROWS, ROWS * 2)) {
+                (row % 2 == 0 ? even : odd).add(row);
+            }
+            assertEquals(even.size() + odd.size(), ROWS);
+            for (int i = 1; i < even.size(); i++) {
+                assertEquals(even.get(i).intValue(), even.get(i - 1) + 2);
+                assertEquals(odd.get(i).intValue(), odd.get(i - 1) + 2);
+            }
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+}
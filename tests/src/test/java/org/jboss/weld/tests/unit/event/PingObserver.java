@@ -0,0 +1,62 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.event;
+
+import java.io.IOException;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.enterprise.inject.spi.EventMetadata;
+
+@ApplicationScoped
+public class PingObserver {
+
+    private int pings;
+
+    private BeanManager beanManager;
+
+    private EventMetadata metadata;
+
+    void observe(@Observes Ping ping) throws IOException {
+        pings++;
+        if (ping.isFail()) {
+            throw new IOException();
+        }
+    }
+
+    void observeWithBeanManager(@Observes Ping ping, BeanManager beanManager) {
+        this.beanManager = beanManager;
+    }
+
+    void observeWithMetadata(@Observes Ping ping, EventMetadata metadata) {
+        this.metadata = metadata;
+    }
+
+    int getPings() {
+        return pings;
+    }
+
+    BeanManager getBeanManager() {
+        return beanManager;
+    }
+
+    EventMetadata getMetadata() {
+        return metadata;
+    }
+
+}
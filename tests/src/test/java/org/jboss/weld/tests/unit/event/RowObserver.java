@@ -0,0 +1,62 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.event;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.ObservesAsync;
+
+@ApplicationScoped
+public class RowObserver {
+
+    private final List<Integer> syncRows = new CopyOnWriteArrayList<>();
+
+    private final List<Integer> asyncRows = new CopyOnWriteArrayList<>();
+
+    private final Set<Integer> requestIds = ConcurrentHashMap.newKeySet();
+
+    void observe(@Observes Row row) {
+        syncRows.add(row.getNumber());
+    }
+
+    void observeAsync(@ObservesAsync Row row, RequestId requestId) throws IOException {
+        asyncRows.add(row.getNumber());
+        requestIds.add(requestId.getId());
+        if (row.isFail()) {
+            throw new IOException();
+        }
+    }
+
+    List<Integer> getSyncRows() {
+        return syncRows;
+    }
+
+    List<Integer> getAsyncRows() {
+        return asyncRows;
+    }
+
+    Set<Integer> getRequestIds() {
+        return requestIds;
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.injection;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import javax.enterprise.inject.CreationException;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+
+import org.jboss.arquillian.container.weld.embedded.mock.TestContainer;
+import org.jboss.weld.util.reflection.Reflections;
+import org.testng.annotations.Test;
+
+/**
+ * Constructors, fields and initializer methods are invoked through method handles. The values are converted and the exceptions are reported the same way
+ * as by reflection.
+ */
+public class InjectionTest {
+
+    @Test
+    public void testInjection() {
+        TestContainer container = new TestContainer(Settings.class, Client.class).startContainer();
+        try {
+            Client client = getReference(getBeanManager(container), Client.class);
+            assertEquals(client.getConstructorName(), "weld");
+            assertEquals(client.getName(), "weld");
+            assertEquals(client.getTimeout(), 10);
+            assertEquals(client.getInitializedTimeout(), 10);
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+    @Test
+    public void testCheckedExceptionIsWrapped() {
+        TestContainer container = new TestContainer(Settings.class, FailingClient.class).startContainer();
+        try {
+            getReference(getBeanManager(container), FailingClient.class);
+            fail();
+        } catch (CreationException expected) {
+            assertTrue(expected.getCause() instanceof java.io.IOException);
+            assertEquals(expected.getCause().getMessage(), "weld");
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+    private static BeanManager getBeanManager(TestContainer container) {
+        return container.getBeanManager(container.getDeployment().getBeanDeploymentArchives().iterator().next());
+    }
+
+    private static <T> T getReference(BeanManager manager, Class<T> type) {
+        Bean<?> bean = manager.resolve(manager.getBeans(type));
+        return Reflections.cast(manager.getReference(bean, type, manager.createCreationalContext(bean)));
+    }
+
+}
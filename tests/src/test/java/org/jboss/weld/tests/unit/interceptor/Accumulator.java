@@ -0,0 +1,56 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.interceptor;
+
+import java.io.IOException;
+
+import javax.enterprise.context.Dependent;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.InvocationContext;
+
+@Audited
+@Dependent
+public class Accumulator {
+
+    static volatile Object lastAuditData;
+
+    private long total;
+
+    void add(long value, String label) {
+        total += value;
+    }
+
+    void set(String label, long value) {
+        total = value;
+    }
+
+    long getTotal() {
+        return total;
+    }
+
+    void fail() throws IOException {
+        throw new IOException("failed");
+    }
+
+    @AroundInvoke
+    Object targetClassInterceptor(InvocationContext ctx) throws Exception {
+        AuditInterceptor.INVOCATIONS.add("target:" + ctx.getMethod().getName());
+        lastAuditData = ctx.getContextData().get(AuditInterceptor.AUDIT_KEY);
+        return ctx.proceed();
+    }
+
+}
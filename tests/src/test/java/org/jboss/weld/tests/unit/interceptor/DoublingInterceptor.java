@@ -0,0 +1,40 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.interceptor;
+
+import javax.annotation.Priority;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+@Audited
+@Interceptor
+@Priority(Interceptor.Priority.APPLICATION + 1)
+public class DoublingInterceptor {
+
+    @AroundInvoke
+    public Object doubleParameters(InvocationContext ctx) throws Exception {
+        AuditInterceptor.INVOCATIONS.add("doubling:" + ctx.getMethod().getName());
+        if (ctx.getMethod().getName().equals("add")) {
+            // an int value is passed to a long parameter
+            Object[] parameters = ctx.getParameters();
+            ctx.setParameters(new Object[] { ((Long) parameters[0]).intValue() * 2, parameters[1] });
+        }
+        return ctx.proceed();
+    }
+
+}
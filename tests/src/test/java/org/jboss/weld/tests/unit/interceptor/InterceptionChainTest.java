@@ -0,0 +1,114 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.interceptor;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+
+import javax.interceptor.InvocationContext;
+
+import org.jboss.arquillian.container.weld.embedded.mock.TestContainer;
+import org.jboss.weld.interceptor.WeldInvocationContext;
+import org.jboss.weld.util.reflection.Reflections;
+import org.testng.annotations.Test;
+
+public class InterceptionChainTest {
+
+    @Test
+    public void testInterceptionChain() {
+        AuditInterceptor.INVOCATIONS.clear();
+        TestContainer container = new TestContainer(Accumulator.class, AuditInterceptor.class, DoublingInterceptor.class).startContainer();
+        try {
+            BeanManager manager = container.getBeanManager(container.getDeployment().getBeanDeploymentArchives().iterator().next());
+            Bean<?> bean = manager.resolve(manager.getBeans(Accumulator.class));
+            Accumulator accumulator = Reflections.cast(manager.getReference(bean, Accumulator.class, manager.createCreationalContext(bean)));
+
+            accumulator.add(5, "five");
+            accumulator.add(1, "one");
+            assertEquals(accumulator.getTotal(), 12L);
+            assertEquals(AuditInterceptor.INVOCATIONS.subList(0, 3), Arrays.asList("audit:add", "doubling:add", "target:add"));
+
+            try {
+                accumulator.fail();
+                fail();
+            } catch (IOException expected) {
+                assertEquals(expected.getMessage(), "failed");
+            }
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+    @Test
+    public void testInvocationContextSharedAndEscaping() throws Exception {
+        TestContainer container = new TestContainer(Accumulator.class, AuditInterceptor.class, DoublingInterceptor.class).startContainer();
+        try {
+            BeanManager manager = container.getBeanManager(container.getDeployment().getBeanDeploymentArchives().iterator().next());
+            Bean<?> bean = manager.resolve(manager.getBeans(Accumulator.class));
+            Accumulator accumulator = Reflections.cast(manager.getReference(bean, Accumulator.class, manager.createCreationalContext(bean)));
+
+            accumulator.add(5, "five");
+            // The context data put by the first interceptor is visible to the last one
+            assertEquals(Accumulator.lastAuditData, "add");
+            InvocationContext captured = AuditInterceptor.lastContext;
+            assertTrue(captured.getContextData().containsKey(WeldInvocationContext.INTERCEPTOR_BINDINGS_KEY));
+
+            // A context captured by an interceptor may be proceeded once the invocation is finished
+            captured.proceed();
+            assertEquals(captured.getParameters()[0], 5L);
+            assertEquals(accumulator.getTotal(), 20L);
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+    @Test
+    public void testParametersConvertedAsByReflection() throws Exception {
+        TestContainer container = new TestContainer(Accumulator.class, AuditInterceptor.class, DoublingInterceptor.class).startContainer();
+        try {
+            BeanManager manager = container.getBeanManager(container.getDeployment().getBeanDeploymentArchives().iterator().next());
+            Bean<?> bean = manager.resolve(manager.getBeans(Accumulator.class));
+            Accumulator accumulator = Reflections.cast(manager.getReference(bean, Accumulator.class, manager.createCreationalContext(bean)));
+
+            accumulator.set("one", 1);
+            InvocationContext captured = AuditInterceptor.lastContext;
+            // A narrower wrapper is widened
+            captured.setParameters(new Object[] { "three", Short.valueOf((short) 3) });
+            captured.proceed();
+            assertEquals(accumulator.getTotal(), 3L);
+
+            // null is not converted to zero, even if InvocationContext.setParameters() lets it through
+            captured.setParameters(new Object[] { "none", null });
+            try {
+                captured.proceed();
+                fail();
+            } catch (IllegalArgumentException expected) {
+            }
+            assertEquals(accumulator.getTotal(), 3L);
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+}
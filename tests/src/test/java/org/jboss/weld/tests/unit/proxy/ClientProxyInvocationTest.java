@@ -0,0 +1,103 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.proxy;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertTrue;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.spi.AlterableContext;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+
+import org.jboss.arquillian.container.weld.embedded.mock.TestContainer;
+import org.jboss.weld.bean.proxy.InstanceCachingClientProxy;
+import org.jboss.weld.proxy.WeldClientProxy;
+import org.jboss.weld.util.reflection.Reflections;
+import org.testng.annotations.Test;
+
+/**
+ * Client proxies invoke the contextual instance directly, i.e. not by means of reflection, if the method is accessible from the proxy class.
+ */
+public class ClientProxyInvocationTest {
+
+    @Test
+    public void testNonPublicMethodsAreInvokedDirectly() {
+        TestContainer container = new TestContainer(Calculator.class).startContainer();
+        try {
+            BeanManager manager = getBeanManager(container);
+            Calculator calculator = getReference(manager, Calculator.class);
+            assertTrue(calculator instanceof WeldClientProxy);
+            Calculator instance = (Calculator) ((WeldClientProxy) calculator).getMetadata().getContextualInstance();
+            assertEquals(calculator.add(new Operands(1, 2)), 3);
+            assertFalse(instance.reflective);
+            assertEquals(calculator.multiply(2, 3), 6);
+            assertFalse(instance.reflective);
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+    @Test
+    public void testInterfaceMethodsAreInvokedDirectly() {
+        TestContainer container = new TestContainer(GreeterProducer.class).startContainer();
+        try {
+            BeanManager manager = getBeanManager(container);
+            Greeter greeter = getReference(manager, Greeter.class);
+            assertTrue(greeter instanceof WeldClientProxy);
+            assertEquals(greeter.greet("Weld"), "Hello Weld");
+            assertFalse(greeter.wasReflective());
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+    @Test
+    public void testCachedInstanceIsClearedOnDestroy() {
+        TestContainer container = new TestContainer(Calculator.class).startContainer();
+        try {
+            BeanManager manager = getBeanManager(container);
+            Calculator calculator = getReference(manager, Calculator.class);
+            assertTrue(calculator instanceof InstanceCachingClientProxy);
+            assertEquals(calculator.add(new Operands(1, 2)), 3);
+            Calculator instance = (Calculator) ((WeldClientProxy) calculator).getMetadata().getContextualInstance();
+            assertEquals(instance.additions, 1);
+
+            ((AlterableContext) manager.getContext(ApplicationScoped.class)).destroy(manager.resolve(manager.getBeans(Calculator.class)));
+            // The proxy must not invoke the destroyed instance
+            assertEquals(calculator.add(new Operands(1, 2)), 3);
+            Calculator newInstance = (Calculator) ((WeldClientProxy) calculator).getMetadata().getContextualInstance();
+            assertNotSame(newInstance, instance);
+            assertEquals(newInstance.additions, 1);
+            assertEquals(instance.additions, 1);
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+    private static BeanManager getBeanManager(TestContainer container) {
+        return container.getBeanManager(container.getDeployment().getBeanDeploymentArchives().iterator().next());
+    }
+
+    private static <T> T getReference(BeanManager manager, Class<T> type) {
+        Bean<?> bean = manager.resolve(manager.getBeans(type));
+        return Reflections.cast(manager.getReference(bean, type, manager.createCreationalContext(bean)));
+    }
+
+}
@@ -0,0 +1,42 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.proxy;
+
+import java.lang.reflect.Method;
+
+final class Invocations {
+
+    private Invocations() {
+    }
+
+    /**
+     *
+     * @return <code>true</code> if the current invocation was made by means of reflection after it left the test class
+     */
+    static boolean isReflective() {
+        for (StackTraceElement element : Thread.currentThread().getStackTrace()) {
+            if (element.getClassName().equals(ClientProxyInvocationTest.class.getName())) {
+                return false;
+            }
+            if (element.getClassName().equals(Method.class.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.proxy;
+
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import javax.enterprise.inject.spi.Bean;
+
+import org.jboss.arquillian.container.weld.embedded.mock.TestContainer;
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.bootstrap.ProxyWarmup;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.testng.annotations.Test;
+
+/**
+ * The client proxies are created at the end of bootstrap if the proxy warm-up is enabled.
+ */
+public class ProxyWarmupTest {
+
+    @Test
+    public void testClientProxiesAreCreatedDuringBootstrap() {
+        System.setProperty(ConfigurationKey.PROXY_WARMUP.get(), "true");
+        TestContainer container;
+        try {
+            container = new TestContainer(Calculator.class, GreeterProducer.class).startContainer();
+        } finally {
+            System.clearProperty(ConfigurationKey.PROXY_WARMUP.get());
+        }
+        try {
+            BeanManagerImpl manager = BeanManagerProxy.unwrap(container.getBeanManager(container.getDeployment().getBeanDeploymentArchives()
+                    .iterator().next()));
+            ProxyWarmup warmup = manager.getServices().get(ProxyWarmup.class);
+            assertNotNull(warmup);
+            // Calculator, Greeter and the built-in beans
+            assertTrue(warmup.getProxyClassCount() >= 2);
+
+            // The proxy created during the warm-up is used
+            Bean<?> bean = manager.resolve(manager.getBeans(Calculator.class));
+            assertSame(manager.getReference(bean, Calculator.class, manager.createCreationalContext(bean)).getClass(),
+                    manager.getClientProxyProvider().getClientProxy(bean).getClass());
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+}
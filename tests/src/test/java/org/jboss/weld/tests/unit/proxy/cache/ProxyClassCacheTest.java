@@ -0,0 +1,142 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.proxy.cache;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import javax.enterprise.inject.spi.Bean;
+
+import org.jboss.arquillian.container.weld.embedded.mock.TestContainer;
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.bean.proxy.ProxyClassCache;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.util.reflection.Reflections;
+import org.testng.annotations.Test;
+
+/**
+ * Each bootstrap defines the client proxy of {@link Counter} in a new class loader, just like a redeployment. The cached proxy class is therefore loaded
+ * from the cache instead of being generated, unless the cached file is not valid.
+ */
+public class ProxyClassCacheTest {
+
+    private static final String PROXY_FILE_PREFIX = Counter.class.getName() + "$Proxy$";
+
+    @Test
+    public void testCachedProxyClassLoaded() throws IOException {
+        Path directory = Files.createTempDirectory("weld-proxy-cache");
+        ProxyClassCache cache = boot(directory);
+        assertEquals(cache.getLoadedCount(), 0);
+        assertNotNull(getProxyFile(directory));
+
+        cache = boot(directory);
+        assertEquals(cache.getLoadedCount(), 1);
+        assertEquals(cache.getStoredCount(), 0);
+        assertEquals(cache.getDiscardedCount(), 0);
+    }
+
+    @Test
+    public void testTruncatedProxyClassGenerated() throws IOException {
+        Path directory = Files.createTempDirectory("weld-proxy-cache");
+        boot(directory);
+        Path file = getProxyFile(directory);
+        byte[] content = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(content, content.length / 2));
+
+        ProxyClassCache cache = boot(directory);
+        assertEquals(cache.getLoadedCount(), 0);
+        assertEquals(cache.getDiscardedCount(), 1);
+        assertEquals(cache.getStoredCount(), 1);
+
+        cache = boot(directory);
+        assertEquals(cache.getLoadedCount(), 1);
+        assertEquals(cache.getDiscardedCount(), 0);
+    }
+
+    @Test
+    public void testUndefinableProxyClassGenerated() throws IOException, NoSuchAlgorithmException {
+        Path directory = Files.createTempDirectory("weld-proxy-cache");
+        boot(directory);
+        Path file = getProxyFile(directory);
+        // The checksum matches but the bytecode is not a class file
+        byte[] bytecode = "not a class file".getBytes(StandardCharsets.UTF_8);
+        byte[] checksum = MessageDigest.getInstance("SHA-256").digest(bytecode);
+        byte[] corrupted = Arrays.copyOf(bytecode, bytecode.length + checksum.length);
+        System.arraycopy(checksum, 0, corrupted, bytecode.length, checksum.length);
+        Files.write(file, corrupted);
+
+        ProxyClassCache cache = boot(directory);
+        assertEquals(cache.getLoadedCount(), 1);
+        assertEquals(cache.getDiscardedCount(), 1);
+        assertEquals(cache.getStoredCount(), 1);
+
+        cache = boot(directory);
+        assertEquals(cache.getLoadedCount(), 1);
+        assertEquals(cache.getDiscardedCount(), 0);
+    }
+
+    private ProxyClassCache boot(Path directory) {
+        Thread thread = Thread.currentThread();
+        ClassLoader originalClassLoader = thread.getContextClassLoader();
+        ClassLoader classLoader = new IsolatingClassLoader(Counter.class);
+        // The bean classes are loaded by the default resource loader, i.e. by the TCCL
+        thread.setContextClassLoader(classLoader);
+        System.setProperty(ConfigurationKey.PROXY_CACHE.get(), directory.toString());
+        TestContainer container = null;
+        try {
+            container = new TestContainer(Counter.class).startContainer();
+            BeanManagerImpl manager = BeanManagerProxy.unwrap(container.getBeanManager(container.getDeployment().getBeanDeploymentArchives()
+                    .iterator().next()));
+            Bean<?> bean = manager.resolve(manager.getBeans(Incrementer.class));
+            Incrementer counter = Reflections.cast(manager.getReference(bean, Incrementer.class, manager.createCreationalContext(bean)));
+            assertSame(counter.getClass().getClassLoader(), classLoader);
+            assertEquals(counter.increment(), 1);
+            return manager.getServices().get(ProxyClassCache.class);
+        } finally {
+            System.clearProperty(ConfigurationKey.PROXY_CACHE.get());
+            if (container != null) {
+                container.stopContainer();
+            }
+            thread.setContextClassLoader(originalClassLoader);
+        }
+    }
+
+    private static Path getProxyFile(Path directory) throws IOException {
+        Path proxyFile = null;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                if (file.getFileName().toString().startsWith(PROXY_FILE_PREFIX)) {
+                    assertEquals(proxyFile, null);
+                    proxyFile = file;
+                }
+            }
+        }
+        return proxyFile;
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.resolution;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Set;
+
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.spi.Bean;
+
+import org.jboss.arquillian.container.weld.embedded.mock.TestContainer;
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.resolution.Resolvable;
+import org.jboss.weld.resolution.ResolvableBuilder;
+import org.jboss.weld.resolution.TypeSafeBeanResolver;
+import org.testng.annotations.Test;
+
+/**
+ * The qualifiers of beans are interned so that a resolvable with the same qualifiers, e.g. created by repeated selects with new annotation literals, is
+ * identified by its qualifier bitset.
+ */
+public class QualifierBitsResolutionTest {
+
+    @Test
+    public void testEqualSelectsShareCacheEntry() {
+        TestContainer container = new TestContainer(FastVehicle.class, SlowVehicle.class).startContainer();
+        try {
+            BeanManagerImpl manager = getBeanManager(container);
+            TypeSafeBeanResolver resolver = manager.getBeanResolver();
+            // Interns the qualifiers of all beans
+            assertEquals(manager.getBeans(Vehicle.class, new Speed.Literal("slow")).size(), 1);
+
+            Speed first = new Speed.Literal("fast");
+            Speed second = new Speed.Literal("fast");
+            assertNotSame(first, second);
+            Resolvable firstResolvable = new ResolvableBuilder(Vehicle.class, manager).addQualifier(first).create();
+            Resolvable secondResolvable = new ResolvableBuilder(Vehicle.class, manager).addQualifier(second).create();
+            assertNotNull(firstResolvable.getQualifierBits());
+            assertEquals(secondResolvable, firstResolvable);
+            assertEquals(secondResolvable.hashCode(), firstResolvable.hashCode());
+
+            Set<Bean<?>> beans = manager.getBeans(Vehicle.class, first);
+            assertEquals(beans.size(), 1);
+            assertEquals(beans.iterator().next().getBeanClass(), FastVehicle.class);
+            long size = resolver.getStatistics().getSize();
+            long hits = resolver.getStatistics().getHitCount();
+            assertEquals(manager.getBeans(Vehicle.class, second), beans);
+            assertTrue(resolver.isCached(secondResolvable));
+            assertEquals(resolver.getStatistics().getSize(), size);
+            assertEquals(resolver.getStatistics().getHitCount(), hits + 1);
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+    @Test
+    public void testQualifierNotInternedFallsBackToSetMatching() {
+        TestContainer container = new TestContainer(FastVehicle.class, SlowVehicle.class).startContainer();
+        try {
+            BeanManagerImpl manager = getBeanManager(container);
+            assertEquals(manager.getBeans(Vehicle.class, new Speed.Literal("slow")).size(), 1);
+
+            // No bean declares @Speed("medium")
+            Speed medium = new Speed.Literal("medium");
+            assertNull(new ResolvableBuilder(Vehicle.class, manager).addQualifier(medium).create().getQualifierBits());
+            assertTrue(manager.getBeans(Vehicle.class, medium).isEmpty());
+            assertTrue(manager.getBeans(Vehicle.class, medium, Any.Literal.INSTANCE).isEmpty());
+            // The resolution does not intern the qualifier
+            assertNull(new ResolvableBuilder(Vehicle.class, manager).addQualifier(medium).create().getQualifierBits());
+            assertTrue(manager.getBeanResolver().isCached(new ResolvableBuilder(Vehicle.class, manager).addQualifier(new Speed.Literal("medium")).create()));
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+    private static BeanManagerImpl getBeanManager(TestContainer container) {
+        return BeanManagerProxy.unwrap(container.getBeanManager(container.getDeployment().getBeanDeploymentArchives().iterator().next()));
+    }
+
+}
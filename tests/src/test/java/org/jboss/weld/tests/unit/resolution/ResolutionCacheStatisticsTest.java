@@ -0,0 +1,59 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.resolution;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Map;
+
+import javax.enterprise.inject.spi.BeanManager;
+
+import org.jboss.arquillian.container.weld.embedded.mock.TestContainer;
+import org.jboss.weld.resolution.ResolutionCacheStatisticsProvider;
+import org.jboss.weld.util.cache.CacheStatistics;
+import org.testng.annotations.Test;
+
+/**
+ * The resolution cache statistics are available through the bean manager handed out by Weld.
+ */
+public class ResolutionCacheStatisticsTest {
+
+    @Test
+    public void testStatisticsProvidedByBeanManager() {
+        TestContainer container = new TestContainer(Foo.class).startContainer();
+        try {
+            BeanManager manager = container.getBeanManager(container.getDeployment().getBeanDeploymentArchives().iterator().next());
+            assertTrue(manager instanceof ResolutionCacheStatisticsProvider);
+            ResolutionCacheStatisticsProvider provider = (ResolutionCacheStatisticsProvider) manager;
+            Map<String, CacheStatistics> statistics = provider.getResolutionCacheStatistics();
+            assertEquals(statistics.size(), 4);
+            CacheStatistics before = statistics.get(ResolutionCacheStatisticsProvider.RESOLUTION_BEANS);
+            assertNotNull(before);
+
+            assertEquals(manager.getBeans(Foo.class).size(), 1);
+            assertEquals(manager.getBeans(Foo.class).size(), 1);
+            CacheStatistics after = provider.getResolutionCacheStatistics().get(ResolutionCacheStatisticsProvider.RESOLUTION_BEANS);
+            assertTrue(after.getHitCount() > before.getHitCount());
+            assertTrue(after.getHitCount() + after.getMissCount() >= before.getHitCount() + before.getMissCount() + 2);
+        } finally {
+            container.stopContainer();
+        }
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.resolution;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.enterprise.inject.spi.BeanManager;
+
+import org.jboss.arquillian.container.weld.embedded.mock.TestContainer;
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.resolution.ResolutionSnapshotService;
+import org.testng.annotations.Test;
+
+/**
+ * A resolution snapshot is only restored if the deployment did not change. Otherwise, a bean or an observer method added to the deployment would be missing
+ * in a restored result.
+ */
+public class ResolutionSnapshotTest {
+
+    @Test
+    public void testSnapshotIgnoredIfDeploymentChanged() throws IOException {
+        Path file = Files.createTempDirectory("weld-resolution-snapshot").resolve("snapshot");
+        System.setProperty(ConfigurationKey.RESOLUTION_SNAPSHOT_FILE.get(), file.toString());
+        AlphaTickObserver.TICKS.set(0);
+        BravoTickObserver.TICKS.set(0);
+        try {
+            // Capture
+            TestContainer container = new TestContainer(AlphaService.class, AlphaTickObserver.class).startContainer();
+            try {
+                BeanManager manager = getBeanManager(container);
+                assertEquals(manager.getBeans(Service.class).size(), 1);
+                manager.fireEvent(new Tick());
+                assertEquals(AlphaTickObserver.TICKS.get(), 1);
+            } finally {
+                container.stopContainer();
+            }
+            assertTrue(Files.exists(file));
+
+            // The same deployment - the snapshot is restored
+            container = new TestContainer(AlphaService.class, AlphaTickObserver.class).startContainer();
+            try {
+                assertTrue(getSnapshotService(container).getRestoredCount() > 0);
+                BeanManager manager = getBeanManager(container);
+                assertEquals(manager.getBeans(Service.class).size(), 1);
+            } finally {
+                container.stopContainer();
+            }
+
+            // A bean and an observer method added - the snapshot is ignored
+            container = new TestContainer(AlphaService.class, AlphaTickObserver.class, BravoService.class, BravoTickObserver.class).startContainer();
+            try {
+                assertEquals(getSnapshotService(container).getRestoredCount(), 0);
+                BeanManager manager = getBeanManager(container);
+                assertEquals(manager.getBeans(Service.class).size(), 2);
+                manager.fireEvent(new Tick());
+                assertEquals(AlphaTickObserver.TICKS.get(), 2);
+                assertEquals(BravoTickObserver.TICKS.get(), 1);
+            } finally {
+                container.stopContainer();
+            }
+        } finally {
+            System.clearProperty(ConfigurationKey.RESOLUTION_SNAPSHOT_FILE.get());
+        }
+    }
+
+    private static BeanManager getBeanManager(TestContainer container) {
+        return container.getBeanManager(container.getDeployment().getBeanDeploymentArchives().iterator().next());
+    }
+
+    private static ResolutionSnapshotService getSnapshotService(TestContainer container) {
+        return BeanManagerProxy.unwrap(getBeanManager(container)).getServices().get(ResolutionSnapshotService.class);
+    }
+
+}
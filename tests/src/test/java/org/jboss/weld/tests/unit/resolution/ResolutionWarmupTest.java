@@ -0,0 +1,81 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.resolution;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+
+import org.jboss.arquillian.container.weld.embedded.mock.TestContainer;
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.resolution.ResolutionCacheStatisticsProvider;
+import org.jboss.weld.resolution.ResolvableBuilder;
+import org.jboss.weld.util.cache.CacheStatistics;
+import org.jboss.weld.util.reflection.Reflections;
+import org.testng.annotations.Test;
+
+/**
+ * The {@link javax.enterprise.inject.Instance} and {@link javax.enterprise.event.Event} lookups are resolved during bootstrap if the resolution warmup is
+ * enabled.
+ */
+public class ResolutionWarmupTest {
+
+    @Test
+    public void testInstanceAndEventResolvedDuringBootstrap() {
+        System.setProperty(ConfigurationKey.RESOLUTION_WARMUP.get(), "true");
+        AlphaTickObserver.TICKS.set(0);
+        TestContainer container = new TestContainer(Foo.class, FooClient.class, AlphaTickObserver.class).startContainer();
+        try {
+            BeanManager manager = container.getBeanManager(container.getDeployment().getBeanDeploymentArchives().iterator().next());
+            BeanManagerImpl managerImpl = BeanManagerProxy.unwrap(manager);
+            assertTrue(managerImpl.getBeanResolver().isCached(new ResolvableBuilder(Foo.class, managerImpl).create()));
+
+            Bean<?> bean = manager.resolve(manager.getBeans(FooClient.class));
+            FooClient client = Reflections.cast(manager.getReference(bean, FooClient.class, manager.createCreationalContext(bean)));
+            CacheStatistics beansBefore = getBeanStatistics(manager);
+            CacheStatistics observersBefore = getObserverStatistics(managerImpl);
+            assertNotNull(client.lookup());
+            client.fire();
+            assertEquals(AlphaTickObserver.TICKS.get(), 1);
+            CacheStatistics beansAfter = getBeanStatistics(manager);
+            CacheStatistics observersAfter = getObserverStatistics(managerImpl);
+
+            // Served from the cache filled during bootstrap
+            assertEquals(beansAfter.getMissCount(), beansBefore.getMissCount());
+            assertTrue(observersAfter.getHitCount() > observersBefore.getHitCount());
+            assertEquals(observersAfter.getMissCount(), observersBefore.getMissCount());
+        } finally {
+            container.stopContainer();
+            System.clearProperty(ConfigurationKey.RESOLUTION_WARMUP.get());
+        }
+    }
+
+    private static CacheStatistics getBeanStatistics(BeanManager manager) {
+        return ((ResolutionCacheStatisticsProvider) manager).getResolutionCacheStatistics().get(ResolutionCacheStatisticsProvider.RESOLUTION_BEANS);
+    }
+
+    private static CacheStatistics getObserverStatistics(BeanManagerImpl manager) {
+        // Event observers are resolved globally
+        return manager.getGlobalStrictObserverNotifier().getResolver().getStatistics();
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.transaction;
+
+import static javax.enterprise.event.TransactionPhase.AFTER_SUCCESS;
+import static javax.enterprise.event.TransactionPhase.BEFORE_COMPLETION;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+@ApplicationScoped
+public class OrderObserver {
+
+    static final List<String> NOTIFICATIONS = new CopyOnWriteArrayList<>();
+
+    @Inject
+    Event<Order> event;
+
+    void beforeCompletion(@Observes(during = BEFORE_COMPLETION) Order order) {
+        NOTIFICATIONS.add("before" + order.getNumber());
+        if (order.isCascade()) {
+            // Fired while the synchronization is running
+            event.fire(new Order(order.getNumber() * 10, false));
+        }
+    }
+
+    void afterSuccess(@Observes(during = AFTER_SUCCESS) Order order) {
+        NOTIFICATIONS.add("after" + order.getNumber());
+    }
+
+}
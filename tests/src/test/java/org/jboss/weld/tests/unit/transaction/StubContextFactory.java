@@ -0,0 +1,55 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.transaction;
+
+import java.lang.reflect.Proxy;
+import java.util.Hashtable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.naming.Context;
+import javax.naming.NameNotFoundException;
+import javax.naming.spi.InitialContextFactory;
+import javax.transaction.TransactionSynchronizationRegistry;
+
+/**
+ * Binds {@link #REGISTRY} to every name, if set.
+ */
+public class StubContextFactory implements InitialContextFactory {
+
+    static volatile TransactionSynchronizationRegistry REGISTRY;
+
+    static final AtomicInteger CLOSED = new AtomicInteger();
+
+    @Override
+    public Context getInitialContext(Hashtable<?, ?> environment) {
+        return (Context) Proxy.newProxyInstance(StubContextFactory.class.getClassLoader(), new Class<?>[] { Context.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "lookup":
+                    if (REGISTRY == null) {
+                        throw new NameNotFoundException(args[0].toString());
+                    }
+                    return REGISTRY;
+                case "close":
+                    CLOSED.incrementAndGet();
+                    return null;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+}
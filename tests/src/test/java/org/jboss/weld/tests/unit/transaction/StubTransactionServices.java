@@ -0,0 +1,71 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.transaction;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.transaction.RollbackException;
+import javax.transaction.Synchronization;
+import javax.transaction.UserTransaction;
+
+import org.jboss.weld.transaction.spi.TransactionServices;
+
+class StubTransactionServices implements TransactionServices {
+
+    private final List<Synchronization> synchronizations = new CopyOnWriteArrayList<>();
+
+    private volatile boolean active;
+
+    private volatile boolean rollbackOnly;
+
+    @Override
+    public void registerSynchronization(Synchronization synchronizedObserver) {
+        if (rollbackOnly) {
+            // The same as an integrator wrapping the exception thrown by Transaction.registerSynchronization()
+            throw new RuntimeException(new RollbackException());
+        }
+        synchronizations.add(synchronizedObserver);
+    }
+
+    @Override
+    public boolean isTransactionActive() {
+        return active;
+    }
+
+    @Override
+    public UserTransaction getUserTransaction() {
+        return null;
+    }
+
+    @Override
+    public void cleanup() {
+    }
+
+    void setActive(boolean active) {
+        this.active = active;
+    }
+
+    void setRollbackOnly(boolean rollbackOnly) {
+        this.rollbackOnly = rollbackOnly;
+    }
+
+    List<Synchronization> getSynchronizations() {
+        return synchronizations;
+    }
+
+}
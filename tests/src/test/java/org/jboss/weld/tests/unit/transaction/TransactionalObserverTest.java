@@ -0,0 +1,193 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2018, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.transaction;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.naming.Context;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.TransactionSynchronizationRegistry;
+
+import org.jboss.arquillian.container.weld.embedded.mock.BeanDeploymentArchiveImpl;
+import org.jboss.arquillian.container.weld.embedded.mock.FlatDeployment;
+import org.jboss.weld.bootstrap.WeldBootstrap;
+import org.jboss.weld.bootstrap.api.Environment;
+import org.jboss.weld.bootstrap.api.Environments;
+import org.jboss.weld.bootstrap.spi.BeanDeploymentArchive;
+import org.jboss.weld.bootstrap.spi.Deployment;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.module.jta.TransactionSynchronizationRegistryService;
+import org.jboss.weld.transaction.spi.TransactionServices;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * The notifications of transactional observer methods are added to a single synchronization per transaction if the
+ * {@link javax.transaction.TransactionSynchronizationRegistry} is available.
+ */
+public class TransactionalObserverTest {
+
+    private StubTransactionServices transactionServices;
+
+    private WeldBootstrap bootstrap;
+
+    private BeanManagerImpl manager;
+
+    @BeforeMethod
+    public void init() {
+        System.setProperty(Context.INITIAL_CONTEXT_FACTORY, StubContextFactory.class.getName());
+        StubContextFactory.REGISTRY = new StubSynchronizationRegistry();
+        StubContextFactory.CLOSED.set(0);
+        OrderObserver.NOTIFICATIONS.clear();
+        transactionServices = new StubTransactionServices();
+        transactionServices.setActive(true);
+    }
+
+    private void start(TransactionSynchronizationRegistryService registryService) {
+        final BeanDeploymentArchive bda = new BeanDeploymentArchiveImpl("1", Order.class, OrderObserver.class);
+        Deployment deployment = new FlatDeployment(new BeanDeploymentArchive[] { bda }) {
+
+            @Override
+            protected void configureServices(Environment environment) {
+                super.configureServices(environment);
+                getServices().add(TransactionServices.class, transactionServices);
+                if (registryService != null) {
+                    getServices().add(TransactionSynchronizationRegistryService.class, registryService);
+                }
+            }
+
+            @Override
+            public BeanDeploymentArchive loadBeanDeploymentArchive(Class<?> beanClass) {
+                return bda;
+            }
+        };
+        bootstrap = new WeldBootstrap();
+        bootstrap.startContainer(Environments.SE, deployment).startInitialization().deployBeans().validateBeans().endInitialization();
+        manager = bootstrap.getManager(bda);
+    }
+
+    @AfterMethod
+    public void stop() {
+        try {
+            if (bootstrap != null) {
+                bootstrap.shutdown();
+                bootstrap = null;
+            }
+        } finally {
+            System.clearProperty(Context.INITIAL_CONTEXT_FACTORY);
+            StubContextFactory.REGISTRY = null;
+        }
+    }
+
+    @Test
+    public void testSynchronizationReused() {
+        start(null);
+        fire(new Order(1, false));
+        fire(new Order(2, false));
+        assertEquals(transactionServices.getSynchronizations().size(), 1);
+        assertTrue(OrderObserver.NOTIFICATIONS.isEmpty());
+
+        Synchronization synchronization = transactionServices.getSynchronizations().get(0);
+        synchronization.beforeCompletion();
+        assertEquals(OrderObserver.NOTIFICATIONS, Arrays.asList("before1", "before2"));
+        synchronization.afterCompletion(Status.STATUS_COMMITTED);
+        assertEquals(OrderObserver.NOTIFICATIONS, Arrays.asList("before1", "before2", "after1", "after2"));
+        // The naming context is closed after the lookup
+        assertEquals(StubContextFactory.CLOSED.get(), 1);
+    }
+
+    @Test
+    public void testNotificationsAddedWhileRunning() {
+        start(null);
+        fire(new Order(1, true));
+        assertEquals(transactionServices.getSynchronizations().size(), 1);
+
+        Synchronization synchronization = transactionServices.getSynchronizations().get(0);
+        // The event fired by the observer method is added to the running synchronization and drained by it
+        synchronization.beforeCompletion();
+        assertEquals(transactionServices.getSynchronizations().size(), 1);
+        assertEquals(OrderObserver.NOTIFICATIONS, Arrays.asList("before1", "before10"));
+        synchronization.afterCompletion(Status.STATUS_COMMITTED);
+        assertEquals(OrderObserver.NOTIFICATIONS, Arrays.asList("before1", "before10", "after1", "after10"));
+    }
+
+    @Test
+    public void testTransactionNotActive() {
+        start(null);
+        // No transaction - the observer methods are notified immediately
+        transactionServices.setActive(false);
+        fire(new Order(1, false));
+        assertTrue(transactionServices.getSynchronizations().isEmpty());
+        assertEquals(OrderObserver.NOTIFICATIONS, Arrays.asList("before1", "after1"));
+
+        // Transaction marked for rollback - no synchronization can be registered, the observer methods which would not be notified are notified
+        // immediately
+        OrderObserver.NOTIFICATIONS.clear();
+        transactionServices.setActive(true);
+        transactionServices.setRollbackOnly(true);
+        StubContextFactory.REGISTRY.setRollbackOnly();
+        fire(new Order(2, false));
+        assertTrue(transactionServices.getSynchronizations().isEmpty());
+        assertEquals(OrderObserver.NOTIFICATIONS, Collections.singletonList("before2"));
+    }
+
+    @Test
+    public void testFailedLookupNotRepeated() {
+        StubContextFactory.REGISTRY = null;
+        start(null);
+        // One synchronization per event without the registry
+        fire(new Order(1, false));
+        fire(new Order(2, false));
+        fire(new Order(3, false));
+        assertEquals(transactionServices.getSynchronizations().size(), 3);
+        // The registry was only looked up once
+        assertEquals(StubContextFactory.CLOSED.get(), 1);
+    }
+
+    @Test
+    public void testRegistryProvidedByIntegrator() {
+        StubSynchronizationRegistry registry = new StubSynchronizationRegistry();
+        StubContextFactory.REGISTRY = null;
+        start(new TransactionSynchronizationRegistryService() {
+
+            @Override
+            public TransactionSynchronizationRegistry getTransactionSynchronizationRegistry() {
+                return registry;
+            }
+
+            @Override
+            public void cleanup() {
+            }
+        });
+        fire(new Order(1, false));
+        fire(new Order(2, false));
+        assertEquals(transactionServices.getSynchronizations().size(), 1);
+        // No JNDI lookup
+        assertEquals(StubContextFactory.CLOSED.get(), 0);
+    }
+
+    private void fire(Order order) {
+        manager.getEvent().select(Order.class).fire(order);
+    }
+
+}